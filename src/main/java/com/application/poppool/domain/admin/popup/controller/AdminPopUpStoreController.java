@@ -25,8 +25,9 @@ public class AdminPopUpStoreController implements AdminPopUpStoreControllerDoc {
     @Override
     @GetMapping("/list")
     public ResponseEntity<GetAdminPopUpStoreListResponse> getAdminPopUpStoreList(@RequestParam(required = false) String query,
+                                                                                 @RequestParam(required = false) String cursor,
                                                                                  @PageableDefault(page = 0, size = 20, sort = "startDate", direction = Sort.Direction.DESC) Pageable pageable) {
-        return ResponseEntity.ok(adminPopUpStoreService.getAdminPopUpStoreList(query, pageable));
+        return ResponseEntity.ok(adminPopUpStoreService.getAdminPopUpStoreList(query, cursor, pageable));
     }
 
     @Override
@@ -17,8 +17,9 @@ import org.springframework.web.bind.annotation.RequestParam;
 @Tag(name = "관리자 페이지 팝업 스토어 API")
 public interface AdminPopUpStoreControllerDoc {
 
-    @Operation(summary = "팝업 스토어 리스트 조회", description = "팝업 스토어 리스트를 조회합니다.")
+    @Operation(summary = "팝업 스토어 리스트 조회", description = "팝업 스토어 리스트를 조회합니다. cursor를 넘기면 이전 응답의 nextCursor 이후부터 조회합니다.")
     ResponseEntity<GetAdminPopUpStoreListResponse> getAdminPopUpStoreList(@RequestParam(required = false) String query,
+                                                                          @RequestParam(required = false) String cursor,
                                                                           @PageableDefault(page = 0, size = 20, sort = "startDate", direction = Sort.Direction.DESC) Pageable pageable);
 
     @Operation(summary = "팝업 스토어 조회", description = "팝업 스토어를 조회합니다.")
@@ -3,6 +3,7 @@ package com.application.poppool.domain.admin.popup.dto.response;
 import com.application.poppool.domain.category.enums.Category;
 import lombok.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Getter
@@ -12,6 +13,7 @@ public class GetAdminPopUpStoreListResponse {
     private List<PopUpStore> popUpStoreList;
     private int totalPages; // 맞춤 팝업 리스트 페이지 수
     private long totalElements; // 맞춤 팝업 리스트 전체 개수
+    private String nextCursor; // 다음 페이지 커서 (키셋 페이지네이션, 마지막 페이지면 null)
 
     @Data
     @NoArgsConstructor
@@ -21,6 +23,7 @@ public class GetAdminPopUpStoreListResponse {
         private String name;
         private Category category;
         private String mainImageUrl;
+        private LocalDateTime startDate;
 
     }
 }
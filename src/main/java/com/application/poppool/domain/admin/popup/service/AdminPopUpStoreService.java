@@ -8,14 +8,21 @@ import com.application.poppool.domain.image.entity.PopUpStoreImageEntity;
 import com.application.poppool.domain.location.entity.LocationEntity;
 import com.application.poppool.domain.location.repository.LocationRepository;
 import com.application.poppool.domain.popup.entity.PopUpStoreEntity;
+import com.application.poppool.domain.popup.event.PopUpStoreChangedEvent;
 import com.application.poppool.domain.popup.repository.PopUpStoreRepository;
+import com.application.poppool.global.cache.CountCacheService;
+import com.application.poppool.global.cache.CountKey;
+import com.application.poppool.global.cache.CountType;
 import com.application.poppool.global.exception.ErrorCode;
 import com.application.poppool.global.exception.NotFoundException;
+import com.application.poppool.global.utils.KeysetCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -24,28 +31,35 @@ public class AdminPopUpStoreService {
 
     private final PopUpStoreRepository popUpStoreRepository;
     private final LocationRepository locationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CountCacheService countCacheService;
 
     /**
      * 관리자 페이지의 팝업 스토어 리스트 조회
      *
+     * @param query
+     * @param cursor   다음 페이지 커서 (없으면 offset 페이지네이션)
      * @param pageable
      * @return
      */
     @Transactional(readOnly = true)
-    public GetAdminPopUpStoreListResponse getAdminPopUpStoreList(String query, Pageable pageable) {
+    public GetAdminPopUpStoreListResponse getAdminPopUpStoreList(String query, String cursor, Pageable pageable) {
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor, pageable);
         List<GetAdminPopUpStoreListResponse.PopUpStore> popUpStoreList = popUpStoreRepository
-                .getAdminPopUpStoreList(query, pageable);
+                .getAdminPopUpStoreList(query, pageable, keysetCursor);
 
-        // 전체 맞춤 팝업 데이터 수
-        long totalElements = popUpStoreRepository.countAdminPopUpStores(query);
+        // 전체 팝업 데이터 수 (캐시, 커서 이어보기 요청이면 캐시된 값만 사용)
+        long totalElements = countCacheService.getCountOnFirstPage(CountKey.of(CountType.ADMIN_POPUP_STORE, query),
+                keysetCursor != null, () -> popUpStoreRepository.countAdminPopUpStores(query));
 
-        // 전체 맞춤 팝업 페이지 수
-        int totalPages = (int) Math.ceil((double) totalElements / pageable.getPageSize());
+        // 전체 팝업 페이지 수
+        int totalPages = CountCacheService.getTotalPages(totalElements, pageable.getPageSize());
 
         return GetAdminPopUpStoreListResponse.builder()
                 .popUpStoreList(popUpStoreList)
                 .totalPages(totalPages)
                 .totalElements(totalElements)
+                .nextCursor(KeysetCursor.next(popUpStoreList, pageable))
                 .build();
     }
 
@@ -112,6 +126,7 @@ public class AdminPopUpStoreService {
                 .address(request.getAddress())
                 .startDate(request.getStartDate())
                 .endDate(request.getEndDate())
+                .closeYn(request.getEndDate() != null && request.getEndDate().isBefore(LocalDateTime.now()))
                 .mainImageUrl(request.getMainImageUrl())
                 .location(location)
                 .build();
@@ -126,6 +141,8 @@ public class AdminPopUpStoreService {
 
         popUpStoreRepository.save(popUpStore);
         locationRepository.save(location);
+
+        eventPublisher.publishEvent(new PopUpStoreChangedEvent(popUpStore.getId(), PopUpStoreChangedEvent.ChangeType.CREATE));
     }
 
     /**
@@ -158,6 +175,7 @@ public class AdminPopUpStoreService {
 
         popUpStore.getImages().addAll(imagesToAdd);
 
+        eventPublisher.publishEvent(new PopUpStoreChangedEvent(popUpStore.getId(), PopUpStoreChangedEvent.ChangeType.UPDATE));
     }
 
     /**
@@ -172,6 +190,7 @@ public class AdminPopUpStoreService {
 
         popUpStoreRepository.delete(popUpStore);
 
+        eventPublisher.publishEvent(new PopUpStoreChangedEvent(popUpStoreId, PopUpStoreChangedEvent.ChangeType.DELETE));
     }
 
     /**
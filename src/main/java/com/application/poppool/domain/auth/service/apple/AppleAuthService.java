@@ -1,6 +1,5 @@
 package com.application.poppool.domain.auth.service.apple;
 
-import com.application.poppool.domain.auth.dto.info.ApplePublicKeys;
 import com.application.poppool.domain.auth.dto.request.AppleLoginRequest;
 import com.application.poppool.domain.auth.dto.response.LoginResponse;
 import com.application.poppool.domain.auth.enums.SocialType;
@@ -20,14 +19,9 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigInteger;
-import java.security.KeyFactory;
-import java.security.NoSuchAlgorithmException;
+import java.nio.charset.StandardCharsets;
 import java.security.PublicKey;
-import java.security.spec.InvalidKeySpecException;
-import java.security.spec.RSAPublicKeySpec;
 import java.util.Base64;
-import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -35,7 +29,8 @@ public class AppleAuthService {
 
     private final UserRepository userRepository;
     private final JwtService jwtService;
-    private final AppleAuthFeignClient appleAuthFeignClient;
+    private final AppleJwksKeyCache appleJwksKeyCache;
+    private final ObjectMapper objectMapper;
     private final RefreshTokenService refreshTokenService;
 
     @Value("${oauth.apple.auth-url}")
@@ -101,21 +96,15 @@ public class AppleAuthService {
     public String validateAppleIdTokenAndExtractSub(String idToken) {
         try {
 
-            // 1. API 요청을 통해 애플 공개 키 가져오기
-            List<ApplePublicKeys.Key> keys = this.getApplePublicKeys();
-
-
-            // 2. idToken 디코딩
+            // 1. idToken 헤더 디코딩 후 kid (Key ID) 추출
             JsonNode decodedIdToken = this.decodeIdToken(idToken);
-            String kid = decodedIdToken != null ? decodedIdToken.get("kid").asText() : null;
-
-            // 3. ID 토큰의 kid (Key ID)와 매칭되는 공개 키 찾기
-            ApplePublicKeys.Key matchingKey = this.getMatchingKey(keys, kid);
+            String kid = decodedIdToken != null && decodedIdToken.hasNonNull("kid") ? decodedIdToken.get("kid").asText() : null;
 
-            // 4. 공개 키 생성
-            PublicKey publicKey = this.generatePublicKey(matchingKey);
+            // 2. kid와 매칭되는 애플 공개 키 찾기 (캐시, 모르는 kid 이면 한 번 다시 조회)
+            PublicKey publicKey = appleJwksKeyCache.getPublicKey(kid)
+                    .orElseThrow(() -> new IllegalArgumentException("No matching key found"));
 
-            // 5. setSigningKey(publicKey)를 통해 검증 및 claim 생성
+            // 3. setSigningKey(publicKey)를 통해 검증 및 claim 생성
             Claims claims = this.createClaim(publicKey, idToken);
 
             // 추가 검증 로직 (예: issuer, audience 등)
@@ -126,28 +115,13 @@ public class AppleAuthService {
             return claims.getSubject();
         } catch (JsonProcessingException e) {
             return null;
-        } catch (NoSuchAlgorithmException e) {
-            return null;
-        } catch (InvalidKeySpecException e) {
-            return null;
         } catch (Exception e) {
             return null;
         }
     }
 
     /**
-     * 1. Apple PublicKey 요청
-     *
-     * @return
-     */
-    private List<ApplePublicKeys.Key> getApplePublicKeys() {
-        ApplePublicKeys applePublicKeys = appleAuthFeignClient.getAppleAuthPublicKey();
-        List<ApplePublicKeys.Key> keys = applePublicKeys.getKeys();
-        return keys;
-    }
-
-    /**
-     * 2. Id Token 디코딩
+     * 1. Id Token 헤더 디코딩
      *
      * @param idToken
      * @return
@@ -155,42 +129,12 @@ public class AppleAuthService {
      */
     private JsonNode decodeIdToken(String idToken) throws JsonProcessingException {
         String[] parts = idToken.split("\\.");
-        String headerJson = new String(Base64.getUrlDecoder().decode(parts[0]));
-        JsonNode decodedIdToken = new ObjectMapper().readTree(headerJson);
-        return decodedIdToken;
-    }
-
-    /**
-     * 3. ID 토큰의 kid (Key ID)와 매칭되는 공개 키 찾기
-     *
-     * @param keys
-     * @param kid
-     * @return
-     */
-    private ApplePublicKeys.Key getMatchingKey(List<ApplePublicKeys.Key> keys, String kid) {
-        return keys.stream()
-                .filter(key -> key.getKid().equals(kid))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("No matching key found"));
-    }
-
-    /**
-     * 4. 공개 키 생성
-     *
-     * @param matchingKey
-     * @return
-     * @throws NoSuchAlgorithmException
-     * @throws InvalidKeySpecException
-     */
-    private PublicKey generatePublicKey(ApplePublicKeys.Key matchingKey) throws NoSuchAlgorithmException, InvalidKeySpecException {
-        byte[] nBytes = Base64.getUrlDecoder().decode(matchingKey.getN());
-        byte[] eBytes = Base64.getUrlDecoder().decode(matchingKey.getE());
-        return KeyFactory.getInstance("RSA")
-                .generatePublic(new RSAPublicKeySpec(new BigInteger(1, nBytes), new BigInteger(1, eBytes)));
+        String headerJson = new String(Base64.getUrlDecoder().decode(parts[0]), StandardCharsets.UTF_8);
+        return objectMapper.readTree(headerJson);
     }
 
     /**
-     * 5. setSigningKey(publicKey)를 통해 검증 및 claim 생성
+     * 3. setSigningKey(publicKey)를 통해 검증 및 claim 생성
      *
      * @param publicKey
      * @param idToken
@@ -0,0 +1,126 @@
+package com.application.poppool.domain.auth.service.apple;
+
+import com.application.poppool.domain.auth.dto.info.ApplePublicKeys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 애플 공개 키(JWKS) 캐시
+ * kid 별로 미리 생성해 둔 PublicKey 를 보관하여, 애플 로그인 시 공개 키 API 호출과 RSA 키 생성을 하지 않는다.
+ * 공개 키는 주기적으로 백그라운드에서 갱신하며, 캐시에 없는 kid 가 들어오면(애플 키 교체 직후) 한 번 다시 조회한다.
+ * 다시 조회는 최소 간격을 두어, 잘못된 kid 가 반복해서 들어와도 애플 API 를 반복 호출하지 않는다.
+ */
+@Slf4j
+@Component
+public class AppleJwksKeyCache {
+
+    private final AppleAuthFeignClient appleAuthFeignClient;
+    private final long minRefetchIntervalMillis;
+
+    private volatile Map<String, PublicKey> publicKeys = Map.of(); // kid -> 공개 키 (교체만 하고 수정하지 않음)
+    private volatile long lastFetchedAt; // 마지막 조회 시도 시각 (ms), 0 이면 아직 조회 전
+
+    public AppleJwksKeyCache(AppleAuthFeignClient appleAuthFeignClient,
+                             @Value("${oauth.apple.jwks.min-refetch-interval:60s}") Duration minRefetchInterval) {
+        this.appleAuthFeignClient = appleAuthFeignClient;
+        this.minRefetchIntervalMillis = minRefetchInterval.toMillis();
+    }
+
+    /**
+     * kid 에 해당하는 애플 공개 키 조회
+     * 캐시에 없으면 최소 간격이 지났을 때만 애플 공개 키를 다시 조회한다.
+     *
+     * @param kid
+     * @return
+     */
+    public Optional<PublicKey> getPublicKey(String kid) {
+        if (kid == null) {
+            return Optional.empty();
+        }
+
+        PublicKey publicKey = publicKeys.get(kid);
+        if (publicKey != null) {
+            return Optional.of(publicKey);
+        }
+
+        synchronized (this) {
+            /** 다른 요청이 먼저 다시 조회했을 수 있으므로 재확인 */
+            publicKey = publicKeys.get(kid);
+            if (publicKey == null && isRefetchAllowed()) {
+                fetch();
+                publicKey = publicKeys.get(kid);
+            }
+        }
+        return Optional.ofNullable(publicKey);
+    }
+
+    /**
+     * 애플 공개 키 주기적 갱신 (애플리케이션 시작 시에도 한 번 수행)
+     */
+    @Scheduled(fixedDelayString = "${oauth.apple.jwks.refresh-delay:3600000}")
+    public synchronized void refresh() {
+        fetch();
+    }
+
+    private boolean isRefetchAllowed() {
+        return lastFetchedAt == 0 || System.currentTimeMillis() - lastFetchedAt >= minRefetchIntervalMillis;
+    }
+
+    /**
+     * 애플 공개 키를 조회해 캐시 교체
+     * 조회에 실패하면 기존 키를 그대로 사용한다.
+     */
+    private void fetch() {
+        lastFetchedAt = System.currentTimeMillis();
+        try {
+            ApplePublicKeys applePublicKeys = appleAuthFeignClient.getAppleAuthPublicKey();
+            if (applePublicKeys == null || applePublicKeys.getKeys() == null) {
+                log.warn("애플 공개 키 응답이 비어 있어 기존 키를 유지합니다.");
+                return;
+            }
+
+            Map<String, PublicKey> fetchedKeys = new HashMap<>();
+            for (ApplePublicKeys.Key key : applePublicKeys.getKeys()) {
+                if (key.getKid() == null || key.getN() == null || key.getE() == null) {
+                    continue;
+                }
+                try {
+                    fetchedKeys.put(key.getKid(), generatePublicKey(key));
+                } catch (GeneralSecurityException | IllegalArgumentException e) {
+                    log.warn("애플 공개 키 생성 실패 (kid: {})", key.getKid(), e);
+                }
+            }
+            publicKeys = Map.copyOf(fetchedKeys);
+        } catch (RuntimeException e) {
+            log.warn("애플 공개 키 조회 실패, 기존 키를 유지합니다.", e);
+        }
+    }
+
+    /**
+     * 공개 키 생성
+     *
+     * @param key
+     * @return
+     * @throws GeneralSecurityException
+     */
+    private PublicKey generatePublicKey(ApplePublicKeys.Key key) throws GeneralSecurityException {
+        byte[] nBytes = Base64.getUrlDecoder().decode(key.getN());
+        byte[] eBytes = Base64.getUrlDecoder().decode(key.getE());
+        return KeyFactory.getInstance("RSA")
+                .generatePublic(new RSAPublicKeySpec(new BigInteger(1, nBytes), new BigInteger(1, eBytes)));
+    }
+
+}
@@ -21,6 +21,7 @@ public class KakaoAuthService {
     private final UserRepository userRepository;
     private final JwtService jwtService;
     private final KakaoAuthFeignClient kakaoAuthFeignClient;
+    private final KakaoTokenCache kakaoTokenCache;
     private final RefreshTokenService refreshTokenService;
 
     /**
@@ -83,10 +84,16 @@ public class KakaoAuthService {
      */
     public boolean validateKakaoAccessToken(String userId, String kakaoAccessToken) {
 
+        // 최근에 검증한 토큰이면 카카오 API 호출 생략
+        if (kakaoTokenCache.isValidated(kakaoAccessToken, userId)) {
+            return true;
+        }
+
         KakaoToken kakaoToken = kakaoAuthFeignClient.getKakaoTokenInfo("Bearer " + kakaoAccessToken);
         if (kakaoToken != null && kakaoToken.getId() != null
-                && kakaoToken.getExpires_in() > 0
+                && kakaoToken.getExpires_in() != null && kakaoToken.getExpires_in() > 0
                 && (String.valueOf(kakaoToken.getId()) + SocialType.KAKAO.getSocialSuffix()).equals(userId)) {
+            kakaoTokenCache.put(kakaoAccessToken, userId, kakaoToken.getExpires_in());
             return true;
         }
         return false;
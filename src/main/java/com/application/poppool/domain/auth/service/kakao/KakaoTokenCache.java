@@ -0,0 +1,46 @@
+package com.application.poppool.domain.auth.service.kakao;
+
+import com.application.poppool.global.cache.LocalCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 검증된 카카오 accessToken 캐시 (토큰 -> 회원 ID)
+ * 같은 카카오 토큰으로 짧은 시간 안에 로그인이 반복되면 카카오 토큰 정보 API 를 다시 호출하지 않는다.
+ * 검증에 성공한 토큰만 캐시하며, 보관 시간은 TTL 과 카카오 토큰의 남은 유효 시간 중 짧은 쪽이다.
+ */
+@Component
+public class KakaoTokenCache {
+
+    private final LocalCache<String, String> cache;
+
+    public KakaoTokenCache(@Value("${oauth.kakao.token-cache.ttl:60s}") Duration ttl,
+                           @Value("${oauth.kakao.token-cache.max-size:10000}") int maxSize) {
+        this.cache = new LocalCache<>(ttl, maxSize);
+    }
+
+    /**
+     * 캐시된 카카오 accessToken 의 회원 ID 가 일치하는지 확인
+     *
+     * @param kakaoAccessToken
+     * @param userId
+     * @return 캐시에 없거나 만료되었으면 false
+     */
+    public boolean isValidated(String kakaoAccessToken, String userId) {
+        return userId.equals(cache.getIfPresent(kakaoAccessToken));
+    }
+
+    /**
+     * 검증된 카카오 accessToken 캐시
+     *
+     * @param kakaoAccessToken
+     * @param userId
+     * @param expiresInSeconds 카카오 토큰 남은 유효 시간 (초)
+     */
+    public void put(String kakaoAccessToken, String userId, long expiresInSeconds) {
+        cache.put(kakaoAccessToken, userId, Duration.ofSeconds(expiresInSeconds));
+    }
+
+}
@@ -3,12 +3,16 @@ package com.application.poppool.domain.category.entity;
 
 import com.application.poppool.domain.category.enums.Category;
 import com.application.poppool.global.audit.BaseEntity;
+import com.application.poppool.global.cache.EntityCacheRegion;
 import com.application.poppool.global.converter.CategoryConverter;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = EntityCacheRegion.CATEGORY)
 @Table(name = "category", uniqueConstraints = {
         @UniqueConstraint(columnNames = {"CATEGORY"})
 })
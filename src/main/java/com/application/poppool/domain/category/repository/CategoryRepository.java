@@ -2,19 +2,29 @@ package com.application.poppool.domain.category.repository;
 
 import com.application.poppool.domain.category.entity.CategoryEntity;
 import com.application.poppool.domain.category.enums.Category;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * 카테고리 레포지토리
+ * 카테고리는 거의 바뀌지 않으므로 조회 쿼리 결과를 쿼리 캐시에 올린다. (카테고리 테이블이 변경되면 자동 무효화)
+ */
 @Repository
 public interface CategoryRepository extends JpaRepository<CategoryEntity, Long> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<CategoryEntity> findAllByOrderByCategoryId();
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<CategoryEntity> findByCategoryId(Long categoryId);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<CategoryEntity> findByCategory(Category category);
 
 }
@@ -2,10 +2,14 @@ package com.application.poppool.domain.comment.controller;
 
 import com.application.poppool.domain.comment.dto.request.CreateCommentRequest;
 import com.application.poppool.domain.comment.dto.request.UpdateCommentRequest;
+import com.application.poppool.domain.comment.dto.response.GetPopUpStoreCommentListResponse;
+import com.application.poppool.domain.comment.enums.CommentSortType;
+import com.application.poppool.domain.comment.enums.CommentType;
 import com.application.poppool.domain.comment.service.CommentService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 @Slf4j
@@ -16,6 +20,18 @@ public class CommentController implements CommentControllerDoc {
 
     private final CommentService commentService;
 
+    @Override
+    @GetMapping("")
+    public ResponseEntity<GetPopUpStoreCommentListResponse> getPopUpStoreCommentList(@RequestParam(name = "userId") String userId,
+                                                                                     @RequestParam(name = "popUpStoreId") Long popUpStoreId,
+                                                                                     @RequestParam(name = "commentType") CommentType commentType,
+                                                                                     @RequestParam(name = "sortType", defaultValue = "NEWEST") CommentSortType sortType,
+                                                                                     @RequestParam(required = false) String cursor,
+                                                                                     @RequestParam(defaultValue = "20") int size) {
+        log.info("팝업스토어 코멘트 목록 조회");
+        return ResponseEntity.ok(commentService.getPopUpStoreComments(userId, commentType, popUpStoreId, sortType, cursor, size));
+    }
+
     @Override
     @PostMapping("")
     public void createComment(@RequestBody @Valid CreateCommentRequest request) {
@@ -2,15 +2,27 @@ package com.application.poppool.domain.comment.controller;
 
 import com.application.poppool.domain.comment.dto.request.CreateCommentRequest;
 import com.application.poppool.domain.comment.dto.request.UpdateCommentRequest;
+import com.application.poppool.domain.comment.dto.response.GetPopUpStoreCommentListResponse;
+import com.application.poppool.domain.comment.enums.CommentSortType;
+import com.application.poppool.domain.comment.enums.CommentType;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 
 @Tag(name = "코멘트 API")
 public interface CommentControllerDoc {
 
+    @Operation(summary = "팝업스토어 코멘트 목록 조회", description = "팝업스토어 코멘트 목록을 최신순/좋아요순으로 조회합니다. 다음 페이지는 응답의 nextCursor 로 조회합니다.")
+    ResponseEntity<GetPopUpStoreCommentListResponse> getPopUpStoreCommentList(@RequestParam(name = "userId") String userId,
+                                                                              @RequestParam(name = "popUpStoreId") Long popUpStoreId,
+                                                                              @RequestParam(name = "commentType") CommentType commentType,
+                                                                              @RequestParam(name = "sortType", defaultValue = "NEWEST") CommentSortType sortType,
+                                                                              @RequestParam(required = false) String cursor,
+                                                                              @RequestParam(defaultValue = "20") int size);
+
     @Operation(summary = "일반/인스타 코멘트 작성", description = "일반/인스타 코멘트를 작성합니다.")
     void createComment(@RequestBody @Valid CreateCommentRequest request);
 
@@ -0,0 +1,41 @@
+package com.application.poppool.domain.comment.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+public class GetPopUpStoreCommentListResponse {
+
+    private List<Comment> commentList;
+    private String nextCursor; // 다음 페이지 커서 (마지막 페이지이면 null)
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Comment {
+        private Long commentId;
+        private String nickname;
+        private String instagramId;
+        private String profileImageUrl;
+        private String content;
+        private boolean likeYn;
+        private long likeCount;
+        private LocalDateTime createDateTime;
+        private List<CommentImage> commentImageList;
+    }
+
+    @Getter
+    @Builder
+    public static class CommentImage {
+        private Long id;
+        private String imageUrl;
+    }
+
+}
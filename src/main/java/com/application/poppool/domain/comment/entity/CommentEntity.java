@@ -13,8 +13,15 @@ import lombok.*;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * 코멘트 목록 키셋 페이지네이션용 인덱스는 db/comment_keyset_index.sql 로 생성한다. (@Index 는 같은 정의를 표시만 함)
+ */
 @Entity
-@Table(name = "comment")
+@Table(name = "comment",
+        indexes = {
+                @Index(name = "IDX_COMMENT_POPUP_STORE_CREATE_DTM", columnList = "POPUP_STORE_ID, TYPE, CREATE_DTM, COMMENT_ID"),
+                @Index(name = "IDX_COMMENT_POPUP_STORE_LIKE_COUNT", columnList = "POPUP_STORE_ID, TYPE, LIKE_COUNT, CREATE_DTM, COMMENT_ID")}
+)
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
@@ -38,9 +45,6 @@ public class CommentEntity extends BaseEntity {
     @Convert(converter = CommentTypeConverter.class)
     private CommentType commentType;
 
-    @Version // 낙관적 락 (버전 정보로 동시성 이슈 해결)
-    private Long version;
-
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "USER_ID", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private UserEntity user;
@@ -69,18 +73,4 @@ public class CommentEntity extends BaseEntity {
         this.content = content;
     }
 
-    /**
-     * 좋아요 수 증가
-     */
-    public void incrementLikeCount() {
-        this.likeCount++;
-    }
-
-    /**
-     * 좋아요 수 감소
-     */
-    public void decrementLikeCount() {
-        this.likeCount--;
-    }
-
 }
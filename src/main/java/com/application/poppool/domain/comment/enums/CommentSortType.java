@@ -0,0 +1,20 @@
+package com.application.poppool.domain.comment.enums;
+
+import com.application.poppool.global.enums.BaseEnum;
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+
+@Getter
+public enum CommentSortType implements BaseEnum {
+    NEWEST("최신순", Sort.by(Sort.Direction.DESC, "createDateTime")),
+    MOST_LIKED("좋아요순", Sort.by(Sort.Direction.DESC, "likeCount").and(Sort.by(Sort.Direction.DESC, "createDateTime")));
+
+    private final String value;
+    private final Sort sort;
+
+    CommentSortType(String value, Sort sort) {
+        this.value = value;
+        this.sort = sort;
+    }
+
+}
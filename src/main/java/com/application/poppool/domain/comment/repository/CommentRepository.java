@@ -1,18 +1,27 @@
 package com.application.poppool.domain.comment.repository;
 
 import com.application.poppool.domain.comment.entity.CommentEntity;
-import jakarta.persistence.LockModeType;
-import lombok.NonNull;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
-
 @Repository
 public interface CommentRepository extends JpaRepository<CommentEntity, Long>, CommentRepositoryCustom {
-    @Lock(LockModeType.OPTIMISTIC) // 조회시점부터 트랜잭션 끝날 때까지 다른 트랜잭션에 의해 변경되지 않음을 보장
-    @NonNull
-    Optional<CommentEntity> findById(@NonNull Long id);
+
+    /**
+     * 코멘트 좋아요 수 + 1 (단일 UPDATE 문으로 원자적 증가)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update CommentEntity c set c.likeCount = c.likeCount + 1 where c.id = :commentId")
+    int incrementLikeCount(@Param("commentId") Long commentId);
+
+    /**
+     * 코멘트 좋아요 수 - 1 (0 미만으로 내려가지 않음)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update CommentEntity c set c.likeCount = c.likeCount - 1 where c.id = :commentId and c.likeCount > 0")
+    int decrementLikeCount(@Param("commentId") Long commentId);
 
 }
@@ -4,13 +4,14 @@ import com.application.poppool.domain.comment.entity.CommentEntity;
 import com.application.poppool.domain.comment.enums.CommentType;
 import com.application.poppool.domain.user.dto.response.GetMyCommentResponse;
 import com.application.poppool.domain.user.dto.response.GetMyPageResponse;
+import com.application.poppool.global.utils.KeysetCursor;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
 public interface CommentRepositoryCustom {
 
-    List<CommentEntity> findAllPopUpStoreComments(String userId, CommentType commentType, Long popUpStoreId);
+    List<CommentEntity> findPopUpStoreComments(CommentType commentType, Long popUpStoreId, Pageable pageable, KeysetCursor cursor);
 
     List<GetMyPageResponse.MyCommentedPopUpInfo> findMyCommentedPopUpInfo(String userId);
 
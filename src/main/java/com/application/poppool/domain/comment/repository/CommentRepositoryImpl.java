@@ -4,6 +4,7 @@ import com.application.poppool.domain.comment.entity.CommentEntity;
 import com.application.poppool.domain.comment.enums.CommentType;
 import com.application.poppool.domain.user.dto.response.GetMyCommentResponse;
 import com.application.poppool.domain.user.dto.response.GetMyPageResponse;
+import com.application.poppool.global.utils.KeysetCursor;
 import com.application.poppool.global.utils.QueryDslUtils;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
@@ -17,7 +18,6 @@ import java.util.List;
 
 import static com.application.poppool.domain.comment.entity.QCommentEntity.commentEntity;
 import static com.application.poppool.domain.popup.entity.QPopUpStoreEntity.popUpStoreEntity;
-import static com.application.poppool.domain.user.entity.QBlockedUserEntity.blockedUserEntity;
 import static com.application.poppool.domain.user.entity.QUserEntity.userEntity;
 
 @Repository
@@ -27,15 +27,15 @@ public class CommentRepositoryImpl implements CommentRepositoryCustom {
     private final JPAQueryFactory queryFactory;
 
     @Override
-    public List<CommentEntity> findAllPopUpStoreComments(String userId, CommentType commentType, Long popUpStoreId) {
+    public List<CommentEntity> findPopUpStoreComments(CommentType commentType, Long popUpStoreId, Pageable pageable, KeysetCursor cursor) {
         return queryFactory.selectFrom(commentEntity)
                 .join(commentEntity.user, userEntity).fetchJoin()
-                .leftJoin(blockedUserEntity)
-                .on(blockUserIdEq(userId),
-                        blockedUserEntity.blockedUser.userId.eq(commentEntity.user.userId))
                 .where(popUpStoreIdEq(popUpStoreId),
-                        blockedUserEntity.id.isNull(),
-                        commentTypeEq(commentType)) // 차단된 유저가 아닌 경우(조인 시, 차단조건에 해당하지 않는 조건 = 차단조건에 일치하는 행이 없다.)
+                        commentTypeEq(commentType),
+                        QueryDslUtils.getKeysetPredicate(pageable, commentEntity, cursor))
+                .orderBy(QueryDslUtils.getKeysetOrderSpecifiers(pageable, commentEntity).toArray(OrderSpecifier[]::new))
+                .offset(cursor == null ? pageable.getOffset() : 0)
+                .limit(pageable.getPageSize())
                 .fetch();
     }
 
@@ -91,10 +91,6 @@ public class CommentRepositoryImpl implements CommentRepositoryCustom {
         return count != null ? count : 0L;
     }
 
-    private BooleanExpression blockUserIdEq(String userId) {
-        return userId != null ? blockedUserEntity.user.userId.eq(userId) : null;
-    }
-
     private BooleanExpression popUpStoreIdEq(Long popUpStoreId) {
         return popUpStoreId != null ? commentEntity.popUpStore.id.eq(popUpStoreId) : null;
     }
@@ -2,44 +2,145 @@ package com.application.poppool.domain.comment.service;
 
 import com.application.poppool.domain.comment.dto.request.CreateCommentRequest;
 import com.application.poppool.domain.comment.dto.request.UpdateCommentRequest;
+import com.application.poppool.domain.comment.dto.response.GetPopUpStoreCommentListResponse;
 import com.application.poppool.domain.comment.entity.CommentEntity;
+import com.application.poppool.domain.comment.enums.CommentSortType;
 import com.application.poppool.domain.comment.enums.CommentType;
 import com.application.poppool.domain.comment.repository.CommentRepository;
 import com.application.poppool.domain.image.entity.CommentImageEntity;
 import com.application.poppool.domain.image.repository.CommentImageRepository;
 import com.application.poppool.domain.like.service.LikeService;
 import com.application.poppool.domain.popup.entity.PopUpStoreEntity;
+import com.application.poppool.domain.popup.event.PopUpStoreActivityEvent;
+import com.application.poppool.domain.popup.repository.PopUpStoreCounterRepository;
 import com.application.poppool.domain.popup.repository.PopUpStoreRepository;
 import com.application.poppool.domain.user.entity.UserEntity;
-import com.application.poppool.domain.user.entity.UserPopUpStoreViewEntity;
 import com.application.poppool.domain.user.repository.UserPopUpStoreViewRepository;
 import com.application.poppool.domain.user.repository.UserRepository;
+import com.application.poppool.domain.user.service.BlockedUserCache;
+import com.application.poppool.global.cache.CountCacheService;
+import com.application.poppool.global.cache.CountKey;
 import com.application.poppool.global.exception.BadRequestException;
-import com.application.poppool.global.exception.ConcurrencyException;
 import com.application.poppool.global.exception.ErrorCode;
 import com.application.poppool.global.exception.NotFoundException;
-import jakarta.persistence.OptimisticLockException;
+import com.application.poppool.global.utils.KeysetCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class CommentService {
 
+    private static final int MAX_COMMENT_PAGE_SIZE = 100;
+    private static final int MAX_COMMENT_REFILL_ROUNDS = 5;
+
     private final LikeService likeService;
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
     private final PopUpStoreRepository popUpStoreRepository;
+    private final PopUpStoreCounterRepository popUpStoreCounterRepository;
     private final CommentImageRepository commentImageRepository;
     private final UserPopUpStoreViewRepository userPopUpStoreViewRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CountCacheService countCacheService;
+    private final BlockedUserCache blockedUserCache;
+
+
+    /**
+     * 팝업스토어 코멘트 목록 조회 (키셋 페이지네이션)
+     * 차단한 유저의 코멘트는 제외하며, 좋아요(도움돼요) 여부는 한 번에 조회한다.
+     *
+     * @param userId
+     * @param commentType
+     * @param popUpStoreId
+     * @param sortType
+     * @param cursor       이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     * @param size
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public GetPopUpStoreCommentListResponse getPopUpStoreComments(String userId, CommentType commentType, Long popUpStoreId,
+                                                                  CommentSortType sortType, String cursor, int size) {
+        Pageable pageable = PageRequest.of(0, Math.max(1, Math.min(size, MAX_COMMENT_PAGE_SIZE)), sortType.getSort());
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor, pageable);
+
+        /** 차단한 회원의 코멘트는 메모리에서 걸러냄 (차단한 회원이 없으면 한 번만 조회) */
+        Set<String> blockedUserIds = blockedUserCache.getBlockedUserIds(userId);
+        CommentSlice commentSlice = blockedUserIds.isEmpty()
+                ? findComments(commentType, popUpStoreId, pageable, keysetCursor)
+                : findUnblockedComments(commentType, popUpStoreId, pageable, keysetCursor, blockedUserIds);
+        List<CommentEntity> comments = commentSlice.comments();
+
+        /** 좋아요(도움돼요)한 코멘트 ID 일괄 조회 */
+        Set<Long> likedCommentIds = getLikedCommentIds(userId, comments);
+
+        List<GetPopUpStoreCommentListResponse.Comment> commentList = comments.stream()
+                .map(comment -> GetPopUpStoreCommentListResponse.Comment.builder()
+                        .commentId(comment.getId())
+                        .nickname(comment.getUser().getNickname())
+                        .instagramId(comment.getUser().getInstagramId())
+                        .profileImageUrl(comment.getUser().getProfileImageUrl())
+                        .content(comment.getContent())
+                        .likeYn(likedCommentIds.contains(comment.getId()))
+                        .likeCount(comment.getLikeCount())
+                        .createDateTime(comment.getCreateDateTime())
+                        .build())
+                .toList();
+
+        return GetPopUpStoreCommentListResponse.builder()
+                .commentList(commentList)
+                .nextCursor(commentSlice.nextCursor())
+                .build();
+    }
 
+    private CommentSlice findComments(CommentType commentType, Long popUpStoreId, Pageable pageable, KeysetCursor keysetCursor) {
+        List<CommentEntity> comments = commentRepository.findPopUpStoreComments(commentType, popUpStoreId, pageable, keysetCursor);
+        return new CommentSlice(comments, KeysetCursor.next(comments, pageable));
+    }
 
-    @Transactional(readOnly = true)
-    public List<CommentEntity> getPopUpStoreComments(String userId, CommentType commentType, Long popUpStoreId) {
-        return commentRepository.findAllPopUpStoreComments(userId, commentType, popUpStoreId);
+    /**
+     * 차단한 회원의 코멘트를 제외하고 한 페이지를 채움
+     * 걸러진 만큼 다음 구간을 이어서 조회하며(최대 MAX_COMMENT_REFILL_ROUNDS 회),
+     * 다음 커서는 마지막으로 "확인한" 코멘트 기준이므로 걸러진 코멘트를 다시 조회하지 않는다.
+     */
+    private CommentSlice findUnblockedComments(CommentType commentType, Long popUpStoreId, Pageable pageable,
+                                               KeysetCursor keysetCursor, Set<String> blockedUserIds) {
+        List<CommentEntity> comments = new ArrayList<>();
+        KeysetCursor seek = keysetCursor;
+        CommentEntity lastChecked = null;
+        boolean exhausted = false;
+
+        for (int round = 0; round < MAX_COMMENT_REFILL_ROUNDS && comments.size() < pageable.getPageSize() && !exhausted; round++) {
+            List<CommentEntity> batch = commentRepository.findPopUpStoreComments(commentType, popUpStoreId, pageable, seek);
+            int checked = 0;
+            for (CommentEntity comment : batch) {
+                lastChecked = comment;
+                checked++;
+                if (!blockedUserIds.contains(comment.getUser().getUserId())) {
+                    comments.add(comment);
+                    if (comments.size() == pageable.getPageSize()) {
+                        break;
+                    }
+                }
+            }
+            exhausted = batch.size() < pageable.getPageSize() && checked == batch.size();
+            if (lastChecked == null) {
+                break;
+            }
+            seek = KeysetCursor.of(lastChecked, pageable);
+        }
+
+        String nextCursor = (exhausted || seek == null) ? null : seek.encode();
+        return new CommentSlice(comments, nextCursor);
     }
 
     @Transactional
@@ -50,9 +151,6 @@ public class CommentService {
         PopUpStoreEntity popUpStore = popUpStoreRepository.findById(request.getPopUpStoreId())
                 .orElseThrow(() -> new NotFoundException(ErrorCode.POPUP_STORE_NOT_FOUND));
 
-        UserPopUpStoreViewEntity userPopUpStoreView = userPopUpStoreViewRepository.findByUserAndPopUpStore(user, popUpStore)
-                .orElseThrow(() -> new NotFoundException(ErrorCode.DATA_NOT_FOUND));
-
         /** 코멘트 생성 및 저장 */
         CommentEntity comment = CommentEntity.builder()
                 .user(user)
@@ -74,25 +172,17 @@ public class CommentService {
         // 코멘트 저장
         commentRepository.save(comment);
 
-        /** 동시성 이슈 방지를 위한 retry 및 예외 처리*/
-        int retryCount = 0;
-        int maxRetryCount = 3; // 최대 재시도 횟수
+        // 팝업스토어의 코멘트 수 + 1
+        popUpStoreCounterRepository.incrementCommentCount(popUpStore.getId());
 
-        while (retryCount < maxRetryCount) {
-            try {
-                // 팝업스토어의 코멘트 수 + 1
-                popUpStore.incrementCommentCount();
-                break;
-            } catch (OptimisticLockException e) {
-                retryCount++;
-                if (retryCount >= maxRetryCount) {
-                    throw new ConcurrencyException(ErrorCode.CONCURRENCY_ERROR);
-                }
-            }
-        }
+        // 팝업 스토어 뷰 코멘트 수 + 1 (없으면 생성)
+        userPopUpStoreViewRepository.upsertUserPopUpStoreView(user.getUserId(), popUpStore.getId(), LocalDateTime.now(), 0, 1, 0);
+
+        /** 맞춤 팝업 세그먼트 랭킹 반영 */
+        eventPublisher.publishEvent(PopUpStoreActivityEvent.of(user, popUpStore, PopUpStoreActivityEvent.ActivityType.COMMENT, 1));
 
-        // 팝업 스토어 뷰 코멘트 수 + 1
-        userPopUpStoreView.incrementCommentCount();
+        /** 내 코멘트 수 캐시 삭제 */
+        evictMyCommentCount(user.getUserId(), comment.getCommentType());
 
     }
 
@@ -141,9 +231,6 @@ public class CommentService {
         CommentEntity comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new NotFoundException(ErrorCode.COMMENT_NOT_FOUND));
 
-        UserPopUpStoreViewEntity userPopUpStoreView = userPopUpStoreViewRepository.findByUserAndPopUpStore(user, popUpStore)
-                .orElseThrow(() -> new NotFoundException(ErrorCode.DATA_NOT_FOUND));
-
         if (!comment.getUser().getUserId().equals(userId)) {
             throw new BadRequestException(ErrorCode.NOT_MY_COMMENT);
         }
@@ -151,29 +238,28 @@ public class CommentService {
         /** 코멘트 삭제, CASCADE 설정으로 코멘트와 관련된 이미지들도 모두 삭제됨 */
         commentRepository.delete(comment);
 
-        /** 동시성 이슈 방지를 위한 retry 및 예외 처리*/
-        int retryCount = 0;
-        int maxRetryCount = 3; // 최대 재시도 횟수
+        // 팝업 스토어 코멘트 수 - 1
+        popUpStoreCounterRepository.decrementCommentCount(popUpStoreId);
+        // 팝업 스토어 뷰 코멘트 수 - 1 (뷰가 있는 경우만)
+        userPopUpStoreViewRepository.decrementCommentCount(userId, popUpStoreId);
 
-        while (retryCount < maxRetryCount) {
-            try {
-                // 팝업 스토어 코멘트 수 - 1
-                popUpStore.decrementCommentCount();
-                break;
-            } catch (OptimisticLockException e) {
-                retryCount++;
-                if (retryCount >= maxRetryCount) {
-                    throw new ConcurrencyException(ErrorCode.CONCURRENCY_ERROR);
-                }
-            }
-        }
-        // 팝업 스토어 뷰 코멘트 수 - 1
-        userPopUpStoreView.decrementCommentCount();
+        /** 맞춤 팝업 세그먼트 랭킹 반영 */
+        eventPublisher.publishEvent(PopUpStoreActivityEvent.of(user, popUpStore, PopUpStoreActivityEvent.ActivityType.COMMENT, -1));
+
+        /** 내 코멘트 수 캐시 삭제 */
+        evictMyCommentCount(userId, comment.getCommentType());
     }
 
+    /**
+     * 코멘트 목록 중 회원이 좋아요(도움돼요)한 코멘트 ID 조회
+     *
+     * @param userId
+     * @param comments
+     * @return
+     */
     @Transactional(readOnly = true)
-    public boolean isCommentLikedByUser(UserEntity user, CommentEntity comment) {
-        return likeService.existsByUserAndComment(user, comment);
+    public Set<Long> getLikedCommentIds(String userId, List<CommentEntity> comments) {
+        return likeService.findLikedCommentIds(userId, comments.stream().map(CommentEntity::getId).toList());
     }
 
     @Transactional(readOnly = true)
@@ -181,4 +267,18 @@ public class CommentService {
         return likeService.countByComment(comment);
     }
 
+    /**
+     * 회원의 코멘트 수 캐시 삭제 (해당 타입 + 전체)
+     *
+     * @param userId
+     * @param commentType
+     */
+    private void evictMyCommentCount(String userId, CommentType commentType) {
+        countCacheService.evictAfterCommit(CountKey.myComment(userId, commentType));
+        countCacheService.evictAfterCommit(CountKey.myComment(userId, null));
+    }
+
+    private record CommentSlice(List<CommentEntity> comments, String nextCursor) {
+    }
+
 }
@@ -46,9 +46,10 @@ public class HomeController implements HomeControllerDoc {
 
     @Override
     @GetMapping("/new/popup-stores")
-    public ResponseEntity<GetHomeInfoResponse> getNewPopUpStoreList(@PageableDefault(page = 0, size = 20, sort = "startDate", direction = Sort.Direction.DESC) Pageable pageable) {
+    public ResponseEntity<GetHomeInfoResponse> getNewPopUpStoreList(@RequestParam(required = false) String cursor,
+                                                                    @PageableDefault(page = 0, size = 20, sort = "startDate", direction = Sort.Direction.DESC) Pageable pageable) {
         log.info("신규 팝업 전체 보기");
-        return ResponseEntity.ok(homeService.getNewPopUpStoreList(pageable));
+        return ResponseEntity.ok(homeService.getNewPopUpStoreList(cursor, pageable));
     }
 
 }
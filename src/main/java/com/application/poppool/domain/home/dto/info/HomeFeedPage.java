@@ -0,0 +1,20 @@
+package com.application.poppool.domain.home.dto.info;
+
+import com.application.poppool.domain.home.dto.response.GetHomeInfoResponse;
+import com.application.poppool.global.cache.CountCacheService;
+
+import java.util.List;
+
+/**
+ * 홈 피드 스냅샷에서 잘라낸 한 페이지
+ *
+ * @param popUpStoreList
+ * @param totalElements
+ */
+public record HomeFeedPage(List<GetHomeInfoResponse.PopUpStore> popUpStoreList, long totalElements) {
+
+    public int getTotalPages(int pageSize) {
+        return CountCacheService.getTotalPages(totalElements, pageSize);
+    }
+
+}
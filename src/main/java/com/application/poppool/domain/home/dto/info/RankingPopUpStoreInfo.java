@@ -0,0 +1,27 @@
+package com.application.poppool.domain.home.dto.info;
+
+import com.application.poppool.domain.category.enums.Category;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 맞춤 팝업 랭킹 대상 팝업스토어 (진행 중인 팝업 + 전체 조회/코멘트/찜 수)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankingPopUpStoreInfo {
+    private Long id;
+    private Category category;
+    private String name;
+    private String address;
+    private String mainImageUrl;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private long viewCount;
+    private long commentCount;
+    private long bookmarkCount;
+}
@@ -0,0 +1,28 @@
+package com.application.poppool.domain.home.dto.info;
+
+import com.application.poppool.domain.category.enums.Category;
+import com.application.poppool.domain.user.enums.Gender;
+import com.application.poppool.global.utils.AgeGroupUtils;
+
+/**
+ * 맞춤 팝업 랭킹 세그먼트 (연령대, 성별, 카테고리)
+ * 성별이 NONE 인 세그먼트는 해당 연령대의 모든 성별을 합산한 세그먼트이다.
+ *
+ * @param startAge 연령대 시작 나이
+ * @param gender
+ * @param category
+ */
+public record SegmentKey(int startAge, Gender gender, Category category) {
+
+    public static SegmentKey of(int age, Gender gender, Category category) {
+        return new SegmentKey(AgeGroupUtils.getStartAge(age), gender == null ? Gender.NONE : gender, category);
+    }
+
+    /**
+     * 같은 연령대의 전체 성별 합산 세그먼트
+     */
+    public SegmentKey allGenders() {
+        return new SegmentKey(startAge, Gender.NONE, category);
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.application.poppool.domain.home.dto.info;
+
+import com.application.poppool.domain.category.enums.Category;
+import com.application.poppool.domain.user.enums.Gender;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 나이, 성별, 팝업스토어별 유저 팝업스토어 뷰 집계 결과
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SegmentScoreInfo {
+    private int age;
+    private Gender gender;
+    private Category category;
+    private Long popUpStoreId;
+    private Long viewCount;
+    private Long commentCount;
+    private Long bookmarkCount;
+}
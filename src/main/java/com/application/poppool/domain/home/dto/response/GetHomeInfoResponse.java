@@ -20,6 +20,7 @@ public class GetHomeInfoResponse {
     private List<PopUpStore> newPopUpStoreList;
     private int newPopUpStoreTotalPages; // 신규 팝업 리스트 페이지 수
     private long newPopUpStoreTotalElements; // 신규 팝업 리스트 전체 개수
+    private String newPopUpStoreNextCursor; // 신규 팝업 리스트 다음 페이지 커서 (키셋 페이지네이션)
     private boolean loginYn;
 
     /**
@@ -0,0 +1,139 @@
+package com.application.poppool.domain.home.service;
+
+import com.application.poppool.domain.home.dto.info.HomeFeedPage;
+import com.application.poppool.domain.home.dto.response.GetHomeInfoResponse;
+import com.application.poppool.domain.popup.event.PopUpStoreChangedEvent;
+import com.application.poppool.domain.popup.repository.PopUpStoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 홈 화면 인기/신규 팝업 스냅샷 캐시
+ * 인기/신규 팝업 리스트는 모든 유저에게 동일하므로, 주기적으로(또는 관리자 수정 후) 미리 계산해 메모리에 올려두고
+ * 요청 시에는 DB 조회 없이 페이지 단위로 잘라서 반환한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HomeFeedSnapshotCache {
+
+    /**
+     * 신규 팝업 스냅샷 정렬 기준 (홈 화면 기본 정렬)
+     */
+    public static final Sort NEW_POPUP_STORE_SORT = Sort.by(Sort.Direction.DESC, "startDate");
+
+    private final PopUpStoreRepository popUpStoreRepository;
+
+    @Value("${home.feed-snapshot.capacity:200}")
+    private int capacity;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 인기 팝업 페이지 조회
+     * 인기 팝업은 요청 정렬과 무관하게 조회 수, 코멘트 수, 찜 수 순으로 정렬된다.
+     *
+     * @param pageable
+     * @return 스냅샷으로 응답할 수 없는 경우 빈 값
+     */
+    public Optional<HomeFeedPage> getPopularPopUpStorePage(Pageable pageable) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return Optional.empty();
+        }
+        return slice(current.popularPopUpStoreList(), current.popularTotalElements(), pageable);
+    }
+
+    /**
+     * 신규 팝업 페이지 조회
+     *
+     * @param pageable
+     * @return 스냅샷으로 응답할 수 없는 경우(기본 정렬이 아닌 경우 등) 빈 값
+     */
+    public Optional<HomeFeedPage> getNewPopUpStorePage(Pageable pageable) {
+        Snapshot current = snapshot;
+        if (current == null || !NEW_POPUP_STORE_SORT.equals(pageable.getSort())) {
+            return Optional.empty();
+        }
+        return slice(current.newPopUpStoreList(), current.newTotalElements(), pageable);
+    }
+
+    /**
+     * 주기적으로 스냅샷 재계산
+     */
+    @Scheduled(fixedDelayString = "${home.feed-snapshot.refresh-delay:60000}")
+    @Transactional(readOnly = true)
+    public void refresh() {
+        rebuild();
+    }
+
+    /**
+     * 관리자 페이지에서 팝업스토어가 변경되면 커밋 이후 스냅샷 재계산
+     *
+     * @param event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public void onPopUpStoreChanged(PopUpStoreChangedEvent event) {
+        rebuild();
+    }
+
+    private void rebuild() {
+        LocalDateTime currentDate = LocalDateTime.now();
+
+        List<GetHomeInfoResponse.PopUpStore> popularPopUpStoreList = popUpStoreRepository
+                .getPopularPopUpStoreList(PageRequest.of(0, capacity));
+        long popularTotalElements = popUpStoreRepository.countPopularPopUpStores();
+
+        List<GetHomeInfoResponse.PopUpStore> newPopUpStoreList = popUpStoreRepository
+                .getNewPopUpStoreList(currentDate, PageRequest.of(0, capacity, NEW_POPUP_STORE_SORT), null);
+        long newTotalElements = popUpStoreRepository.countNewPopUpStores(currentDate);
+
+        this.snapshot = new Snapshot(
+                List.copyOf(popularPopUpStoreList),
+                popularTotalElements,
+                List.copyOf(newPopUpStoreList),
+                newTotalElements);
+
+        log.debug("홈 피드 스냅샷 갱신 - 인기 팝업 {}건, 신규 팝업 {}건", popularTotalElements, newTotalElements);
+    }
+
+    /**
+     * 스냅샷 리스트에서 요청 페이지를 잘라냄
+     * 스냅샷에 담긴 범위(capacity)를 넘어서는 페이지는 DB에서 조회하도록 빈 값 반환
+     */
+    private Optional<HomeFeedPage> slice(List<GetHomeInfoResponse.PopUpStore> popUpStoreList, long totalElements, Pageable pageable) {
+        long offset = pageable.getOffset();
+        long end = offset + pageable.getPageSize();
+        boolean complete = popUpStoreList.size() >= totalElements;
+
+        if (end > popUpStoreList.size() && !complete) {
+            return Optional.empty();
+        }
+
+        int from = (int) Math.min(offset, popUpStoreList.size());
+        int to = (int) Math.min(end, popUpStoreList.size());
+        return Optional.of(new HomeFeedPage(popUpStoreList.subList(from, to), totalElements));
+    }
+
+    private record Snapshot(List<GetHomeInfoResponse.PopUpStore> popularPopUpStoreList,
+                            long popularTotalElements,
+                            List<GetHomeInfoResponse.PopUpStore> newPopUpStoreList,
+                            long newTotalElements) {
+    }
+
+}
@@ -1,9 +1,15 @@
 package com.application.poppool.domain.home.service;
 
+import com.application.poppool.domain.category.enums.Category;
+import com.application.poppool.domain.home.dto.info.HomeFeedPage;
 import com.application.poppool.domain.home.dto.response.GetHomeInfoResponse;
 import com.application.poppool.domain.popup.repository.PopUpStoreRepository;
 import com.application.poppool.domain.user.entity.UserEntity;
 import com.application.poppool.domain.user.service.UserService;
+import com.application.poppool.global.cache.CountCacheService;
+import com.application.poppool.global.cache.CountKey;
+import com.application.poppool.global.cache.CountType;
+import com.application.poppool.global.utils.KeysetCursor;
 import com.application.poppool.global.utils.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
@@ -12,6 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -19,9 +26,14 @@ public class HomeService {
 
     private final PopUpStoreRepository popUpStoreRepository;
     private final UserService userService;
+    private final HomeFeedSnapshotCache homeFeedSnapshotCache;
+    private final PopUpStoreSegmentRanking popUpStoreSegmentRanking;
+    private final CountCacheService countCacheService;
 
     /**
      * 홈 조회
+     * 각 섹션은 메모리의 세그먼트 랭킹(PopUpStoreSegmentRanking)과 스냅샷(HomeFeedSnapshotCache)에서 읽으므로 순차로 조회한다.
+     * (DB 는 회원/관심 카테고리 조회와 스냅샷 범위를 넘는 페이지에서만 사용하며, 병렬 조회는 스레드 전환 비용만 늘어남)
      *
      * @param userId
      * @param pageable
@@ -32,36 +44,15 @@ public class HomeService {
 
         UserEntity user = userService.findUserByUserId(userId);
 
-        /** 추천 팝업 리스트 */
-        List<GetHomeInfoResponse.PopUpStore> customPopUpStoreList = popUpStoreRepository.getCustomPopUpStoreList(user, pageable);
+        /** 추천 팝업 리스트 (세그먼트 랭킹) */
+        HomeFeedPage customPopUpStorePage = getCustomPopUpStorePage(user, pageable);
 
-        // 전체 맞춤 팝업 데이터 수
-        long customPopUpStoreTotalElements = popUpStoreRepository.countCustomPopUpStores(user);
 
-        // 전체 맞춤 팝업 페이지 수
-        int customPopUpStoreTotalPages = (int) Math.ceil((double) customPopUpStoreTotalElements / pageable.getPageSize());
+        /** 인기 팝업 리스트 (스냅샷) */
+        HomeFeedPage popularPopUpStorePage = getPopularPopUpStorePage(pageable);
 
-
-        /** 인기 팝업 리스트 */
-        List<GetHomeInfoResponse.PopUpStore> popularPopUpStoreList = popUpStoreRepository.getPopularPopUpStoreList(pageable);
-
-        // 전체 인기 팝업 수
-        long popularPopUpStoreTotalElements = popUpStoreRepository.countPopularPopUpStores();
-
-        // 전체 인기 팝업 페이지 수
-        int popularPopUpStoreTotalPages = (int) Math.ceil((double) popularPopUpStoreTotalElements / pageable.getPageSize());
-
-        /** 현재 시간 */
-        LocalDateTime currentDate = LocalDateTime.now();
-
-        /**신규 팝업 리스트 */
-        List<GetHomeInfoResponse.PopUpStore> newPopUpStoreList = popUpStoreRepository.getNewPopUpStoreList(currentDate, pageable);
-
-        // 전체 신규 팝업 데이터 수
-        long newPopUpStoreTotalElements = popUpStoreRepository.countNewPopUpStores(currentDate);
-
-        // 전체 신규 팝업 페이지 수
-        int newPopUpStoreTotalPages = (int) Math.ceil((double) newPopUpStoreTotalElements / pageable.getPageSize());
+        /** 신규 팝업 리스트 (스냅샷) */
+        HomeFeedPage newPopUpStorePage = getNewPopUpStorePage(pageable, null);
 
         /** 로그인 여부 */
         boolean loginYn = false;
@@ -72,15 +63,16 @@ public class HomeService {
 
         return GetHomeInfoResponse.builder()
                 .nickname(user.getNickname())
-                .customPopUpStoreList(customPopUpStoreList)
-                .customPopUpStoreTotalPages(customPopUpStoreTotalPages)
-                .customPopUpStoreTotalElements(customPopUpStoreTotalElements)
-                .popularPopUpStoreList(popularPopUpStoreList)
-                .popularPopUpStoreTotalPages(popularPopUpStoreTotalPages)
-                .popularPopUpStoreTotalElements(popularPopUpStoreTotalElements)
-                .newPopUpStoreList(newPopUpStoreList)
-                .newPopUpStoreTotalPages(newPopUpStoreTotalPages)
-                .newPopUpStoreTotalElements(newPopUpStoreTotalElements)
+                .customPopUpStoreList(customPopUpStorePage.popUpStoreList())
+                .customPopUpStoreTotalPages(customPopUpStorePage.getTotalPages(pageable.getPageSize()))
+                .customPopUpStoreTotalElements(customPopUpStorePage.totalElements())
+                .popularPopUpStoreList(popularPopUpStorePage.popUpStoreList())
+                .popularPopUpStoreTotalPages(popularPopUpStorePage.getTotalPages(pageable.getPageSize()))
+                .popularPopUpStoreTotalElements(popularPopUpStorePage.totalElements())
+                .newPopUpStoreList(newPopUpStorePage.popUpStoreList())
+                .newPopUpStoreTotalPages(newPopUpStorePage.getTotalPages(pageable.getPageSize()))
+                .newPopUpStoreTotalElements(newPopUpStorePage.totalElements())
+                .newPopUpStoreNextCursor(KeysetCursor.next(newPopUpStorePage.popUpStoreList(), pageable))
                 .loginYn(loginYn)
                 .build();
     }
@@ -90,62 +82,95 @@ public class HomeService {
 
         UserEntity user = userService.findUserByUserId(userId);
 
-        /** 추천 팝업 리스트 */
-        List<GetHomeInfoResponse.PopUpStore> customPopUpStoreList = popUpStoreRepository.getCustomPopUpStoreList(user, pageable);
-
-        // 전체 맞춤 팝업 데이터 수
-        long customPopUpStoreTotalElements = popUpStoreRepository.countCustomPopUpStores(user);
-
-        // 전체 맞춤 팝업 페이지 수
-        int customPopUpStoreTotalPages = (int) Math.ceil((double) customPopUpStoreTotalElements / pageable.getPageSize());
+        /** 추천 팝업 리스트 (세그먼트 랭킹) */
+        HomeFeedPage customPopUpStorePage = getCustomPopUpStorePage(user, pageable);
 
         return GetHomeInfoResponse.builder()
-                .customPopUpStoreList(customPopUpStoreList)
-                .customPopUpStoreTotalPages(customPopUpStoreTotalPages)
-                .customPopUpStoreTotalElements(customPopUpStoreTotalElements)
+                .customPopUpStoreList(customPopUpStorePage.popUpStoreList())
+                .customPopUpStoreTotalPages(customPopUpStorePage.getTotalPages(pageable.getPageSize()))
+                .customPopUpStoreTotalElements(customPopUpStorePage.totalElements())
                 .build();
     }
 
     @Transactional(readOnly = true)
     public GetHomeInfoResponse getPopularPopUpStoreList(Pageable pageable) {
 
-        /** 인기 팝업 리스트 */
-        List<GetHomeInfoResponse.PopUpStore> popularPopUpStoreList = popUpStoreRepository.getPopularPopUpStoreList(pageable);
-
-        // 전체 인기 팝업 수
-        long popularPopUpStoreTotalElements = popUpStoreRepository.countPopularPopUpStores();
-
-        // 전체 인기 팝업 페이지 수
-        int popularPopUpStoreTotalPages = (int) Math.ceil((double) popularPopUpStoreTotalElements / pageable.getPageSize());
+        /** 인기 팝업 리스트 (스냅샷) */
+        HomeFeedPage popularPopUpStorePage = getPopularPopUpStorePage(pageable);
 
         return GetHomeInfoResponse.builder()
-                .popularPopUpStoreList(popularPopUpStoreList)
-                .popularPopUpStoreTotalPages(popularPopUpStoreTotalPages)
-                .popularPopUpStoreTotalElements(popularPopUpStoreTotalElements)
+                .popularPopUpStoreList(popularPopUpStorePage.popUpStoreList())
+                .popularPopUpStoreTotalPages(popularPopUpStorePage.getTotalPages(pageable.getPageSize()))
+                .popularPopUpStoreTotalElements(popularPopUpStorePage.totalElements())
                 .build();
     }
 
     @Transactional(readOnly = true)
-    public GetHomeInfoResponse getNewPopUpStoreList(Pageable pageable) {
+    public GetHomeInfoResponse getNewPopUpStoreList(String cursor, Pageable pageable) {
 
-        /** 현재 시간 */
-        LocalDateTime currentDate = LocalDateTime.now();
+        /** 신규 팝업 리스트 (커서가 없으면 스냅샷) */
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor, pageable);
+        HomeFeedPage newPopUpStorePage = getNewPopUpStorePage(pageable, keysetCursor);
 
-        /**신규 팝업 리스트 */
-        List<GetHomeInfoResponse.PopUpStore> newPopUpStoreList = popUpStoreRepository.getNewPopUpStoreList(currentDate, pageable);
+        return GetHomeInfoResponse.builder()
+                .newPopUpStoreList(newPopUpStorePage.popUpStoreList())
+                .newPopUpStoreTotalPages(newPopUpStorePage.getTotalPages(pageable.getPageSize()))
+                .newPopUpStoreTotalElements(newPopUpStorePage.totalElements())
+                .newPopUpStoreNextCursor(KeysetCursor.next(newPopUpStorePage.popUpStoreList(), pageable))
+                .build();
 
-        // 전체 신규 팝업 데이터 수
-        long newPopUpStoreTotalElements = popUpStoreRepository.countNewPopUpStores(currentDate);
+    }
 
-        // 전체 신규 팝업 페이지 수
-        int newPopUpStoreTotalPages = (int) Math.ceil((double) newPopUpStoreTotalElements / pageable.getPageSize());
+    /**
+     * 맞춤 팝업 페이지 조회
+     * 유저의 (연령대, 성별) 세그먼트에서 관심 카테고리별로 미리 정렬된 리스트를 병합
+     *
+     * @param user
+     * @param pageable
+     * @return
+     */
+    private HomeFeedPage getCustomPopUpStorePage(UserEntity user, Pageable pageable) {
+        List<Category> userInterestCategoryList = popUpStoreRepository.getUserInterestCategoryList(user.getUserId());
+        return popUpStoreSegmentRanking.getCustomPopUpStorePage(user, userInterestCategoryList, pageable);
+    }
 
-        return GetHomeInfoResponse.builder()
-                .newPopUpStoreList(newPopUpStoreList)
-                .newPopUpStoreTotalPages(newPopUpStoreTotalPages)
-                .newPopUpStoreTotalElements(newPopUpStoreTotalElements)
-                .build();
+    /**
+     * 인기 팝업 페이지 조회
+     * 스냅샷으로 응답할 수 없는 경우(스냅샷 범위를 넘어선 페이지 등)에만 DB 조회
+     *
+     * @param pageable
+     * @return
+     */
+    private HomeFeedPage getPopularPopUpStorePage(Pageable pageable) {
+        return homeFeedSnapshotCache.getPopularPopUpStorePage(pageable)
+                .orElseGet(() -> new HomeFeedPage(
+                        popUpStoreRepository.getPopularPopUpStoreList(pageable),
+                        countCacheService.getCount(CountKey.of(CountType.POPULAR_POPUP_STORE),
+                                popUpStoreRepository::countPopularPopUpStores)));
+    }
 
+    /**
+     * 신규 팝업 페이지 조회
+     * 스냅샷으로 응답할 수 없는 경우(커서 요청, 기본 정렬이 아닌 경우 등)에만 DB 조회
+     *
+     * @param pageable
+     * @param cursor
+     * @return
+     */
+    private HomeFeedPage getNewPopUpStorePage(Pageable pageable, KeysetCursor cursor) {
+        Optional<HomeFeedPage> snapshotPage = cursor == null
+                ? homeFeedSnapshotCache.getNewPopUpStorePage(pageable)
+                : Optional.empty();
+
+        return snapshotPage
+                .orElseGet(() -> {
+                    // 현재 시간
+                    LocalDateTime currentDate = LocalDateTime.now();
+                    return new HomeFeedPage(
+                            popUpStoreRepository.getNewPopUpStoreList(currentDate, pageable, cursor),
+                            countCacheService.getCountOnFirstPage(CountKey.of(CountType.NEW_POPUP_STORE),
+                                    cursor != null, () -> popUpStoreRepository.countNewPopUpStores(currentDate)));
+                });
     }
 
 }
@@ -0,0 +1,455 @@
+package com.application.poppool.domain.home.service;
+
+import com.application.poppool.domain.category.enums.Category;
+import com.application.poppool.domain.home.dto.info.HomeFeedPage;
+import com.application.poppool.domain.home.dto.info.RankingPopUpStoreInfo;
+import com.application.poppool.domain.home.dto.info.SegmentKey;
+import com.application.poppool.domain.home.dto.info.SegmentScoreInfo;
+import com.application.poppool.domain.home.dto.response.GetHomeInfoResponse;
+import com.application.poppool.domain.popup.event.PopUpStoreActivityEvent;
+import com.application.poppool.domain.popup.event.PopUpStoreChangedEvent;
+import com.application.poppool.domain.popup.repository.PopUpStoreRepository;
+import com.application.poppool.domain.user.entity.UserEntity;
+import com.application.poppool.domain.user.enums.Gender;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 맞춤 팝업 세그먼트 랭킹
+ * (연령대, 성별, 카테고리) 세그먼트별로 팝업스토어의 조회/코멘트/찜 수를 메모리에 집계해두고,
+ * 주기적으로 정렬된 리스트를 만들어 두어 맞춤 팝업 조회 시에는 관심 카테고리별 정렬 리스트를 병합만 한다.
+ * <p>
+ * - 활동 이벤트로 점수를 증분 갱신하고, 주기적으로 DB 집계로 전체 재계산하여 오차를 보정한다.
+ * - 팝업스토어 변경(관리자 변경, 종료 처리, 다른 서버의 변경)은 팝업 목록만 다시 읽고 현재 점수로 재정렬한다. (집계 쿼리는 재계산 주기에만 실행)
+ * - 재계산 중에 들어온 활동 이벤트는 따로 기록해 두었다가, 새 점수로 교체할 때 다시 반영한다.
+ * - 성별 NONE 세그먼트는 해당 연령대의 모든 성별 합산이다. (성별을 선택하지 않은 유저에게 사용)
+ */
+@Slf4j
+@Component
+public class PopUpStoreSegmentRanking {
+
+    /**
+     * 세그먼트 점수(조회 수, 코멘트 수, 찜 수) -> 전체 조회 수, 코멘트 수, 찜 수 -> ID 순
+     */
+    private static final Comparator<RankedPopUpStore> RANKING_ORDER = Comparator
+            .comparingLong(RankedPopUpStore::segmentViewCount).reversed()
+            .thenComparing(Comparator.comparingLong(RankedPopUpStore::segmentCommentCount).reversed())
+            .thenComparing(Comparator.comparingLong(RankedPopUpStore::segmentBookmarkCount).reversed())
+            .thenComparing(Comparator.comparingLong(RankedPopUpStore::viewCount).reversed())
+            .thenComparing(Comparator.comparingLong(RankedPopUpStore::commentCount).reversed())
+            .thenComparing(Comparator.comparingLong(RankedPopUpStore::bookmarkCount).reversed())
+            .thenComparing(Comparator.comparing(RankedPopUpStore::popUpStoreId).reversed());
+
+    private final PopUpStoreRepository popUpStoreRepository;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    /**
+     * 세그먼트별 팝업 점수 (증분 갱신 대상)
+     */
+    private volatile Map<SegmentKey, Map<Long, SegmentScore>> segmentScores = new ConcurrentHashMap<>();
+
+    /**
+     * 진행 중인 팝업스토어 목록과 세그먼트별 정렬 결과
+     */
+    private volatile Snapshot snapshot;
+
+    /**
+     * 재계산 중에 들어온 활동 이벤트 (재계산 중이 아니면 null)
+     * 점수 교체(쓰기 락)와 이벤트 반영(읽기 락)이 겹치지 않도록 하여, 교체 직전/직후의 이벤트도 잃지 않는다.
+     */
+    private Queue<PopUpStoreActivityEvent> pendingActivities;
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    public PopUpStoreSegmentRanking(PopUpStoreRepository popUpStoreRepository, PlatformTransactionManager transactionManager) {
+        this.popUpStoreRepository = popUpStoreRepository;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.readOnlyTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW); // 커밋 이후 이벤트에서 호출되어도 별도 트랜잭션
+    }
+
+    /**
+     * 맞춤 팝업 페이지 조회
+     *
+     * @param user
+     * @param categories 유저 관심 카테고리 (비어있으면 전체 카테고리)
+     * @param pageable
+     * @return
+     */
+    public HomeFeedPage getCustomPopUpStorePage(UserEntity user, List<Category> categories, Pageable pageable) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            current = initialize();
+        }
+
+        Collection<Category> targetCategories = categories.isEmpty() ? Arrays.asList(Category.values()) : categories;
+        LocalDateTime now = LocalDateTime.now();
+
+        /** 카테고리별로 정렬된 리스트를 k-way 병합 */
+        PriorityQueue<CategoryCursor> queue = new PriorityQueue<>(Comparator.comparing(CategoryCursor::head, RANKING_ORDER));
+        long totalElements = 0;
+        for (Category category : new LinkedHashSet<>(targetCategories)) {
+            SegmentKey segmentKey = SegmentKey.of(user.getAge(), user.getGender(), category);
+            List<RankedPopUpStore> segmentList = current.segmentRanking().getOrDefault(segmentKey, List.of());
+            List<RankedPopUpStore> baseList = current.baseRanking().getOrDefault(category, List.of());
+
+            totalElements += current.getOpenCount(category, now);
+
+            CategoryCursor cursor = new CategoryCursor(segmentList, baseList, current, now);
+            if (cursor.advance()) {
+                queue.add(cursor);
+            }
+        }
+
+        long offset = pageable.getOffset();
+        int pageSize = pageable.getPageSize();
+        List<GetHomeInfoResponse.PopUpStore> popUpStoreList = new ArrayList<>(pageSize);
+        long index = 0;
+        while (!queue.isEmpty() && popUpStoreList.size() < pageSize) {
+            CategoryCursor cursor = queue.poll();
+            if (index++ >= offset) {
+                popUpStoreList.add(current.toPopUpStore(cursor.head().popUpStoreId()));
+            }
+            if (cursor.advance()) {
+                queue.add(cursor);
+            }
+        }
+
+        return new HomeFeedPage(popUpStoreList, totalElements);
+    }
+
+    /**
+     * 유저 활동 이벤트로 세그먼트 점수 증분 갱신
+     * 유저의 (연령대, 성별) 세그먼트와 (연령대, 전체 성별) 세그먼트에 함께 반영한다.
+     *
+     * @param event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPopUpStoreActivity(PopUpStoreActivityEvent event) {
+        swapLock.readLock().lock();
+        try {
+            applyActivity(segmentScores, event);
+            Queue<PopUpStoreActivityEvent> pending = pendingActivities;
+            if (pending != null) {
+                pending.add(event);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 팝업스토어가 변경되면 커밋 이후 진행 중인 팝업 목록만 다시 읽고 현재 세그먼트 점수로 재정렬
+     * 변경 이벤트는 관리자 변경, 종료 처리 스케줄러, 다른 서버의 변경마다 모든 서버에서 발생하므로 세그먼트 집계는 다시 하지 않는다.
+     *
+     * @param event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onPopUpStoreChanged(PopUpStoreChangedEvent event) {
+        if (snapshot == null) {
+            return; // 아직 초기화 전이면 첫 조회 때 전체 재계산
+        }
+
+        Map<Long, RankingPopUpStoreInfo> popUpStores = readOnlyTransactionTemplate.execute(status -> getRankingPopUpStores());
+        this.snapshot = new Snapshot(popUpStores, buildBaseRanking(popUpStores), buildEndDates(popUpStores),
+                sortSegments(segmentScores, popUpStores));
+
+        log.debug("맞춤 팝업 목록 갱신 - 팝업 {}건", popUpStores.size());
+    }
+
+    /**
+     * 세그먼트별 정렬 리스트 재생성 (증분 갱신된 점수 반영)
+     */
+    @Scheduled(fixedDelayString = "${home.segment-ranking.resort-delay:30000}")
+    public synchronized void resort() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        this.snapshot = current.withSegmentRanking(sortSegments(segmentScores, current.popUpStores()));
+    }
+
+    /**
+     * DB 집계로 세그먼트 점수 및 진행 중인 팝업 목록 전체 재계산
+     * DB 조회는 별도의 읽기 전용 트랜잭션에서 수행한다. (내부 호출에서도 적용되도록 TransactionTemplate 사용)
+     * 조회하는 동안 들어온 활동 이벤트는 새 점수에 다시 반영한 뒤 교체한다.
+     * (조회 전에 커밋된 코멘트/찜 이벤트가 조회 시작 후에 도착하면 중복 반영될 수 있으나, 다음 재계산 때 보정된다)
+     */
+    @Scheduled(fixedDelayString = "${home.segment-ranking.rebuild-delay:3600000}")
+    public synchronized void rebuild() {
+        swapLock.writeLock().lock();
+        try {
+            pendingActivities = new ConcurrentLinkedQueue<>();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+
+        Map<Long, RankingPopUpStoreInfo> popUpStores;
+        Map<SegmentKey, Map<Long, SegmentScore>> scores = new ConcurrentHashMap<>();
+        try {
+            List<SegmentScoreInfo> segmentScoreList = new ArrayList<>();
+            popUpStores = readOnlyTransactionTemplate.execute(status -> {
+                segmentScoreList.addAll(popUpStoreRepository.getSegmentScoreList());
+                return getRankingPopUpStores();
+            });
+
+            for (SegmentScoreInfo row : segmentScoreList) {
+                SegmentKey segmentKey = SegmentKey.of(row.getAge(), row.getGender(), row.getCategory());
+                addScores(scores, segmentKey, row);
+                if (segmentKey.gender() != Gender.NONE) {
+                    addScores(scores, segmentKey.allGenders(), row);
+                }
+            }
+        } catch (RuntimeException e) {
+            swapLock.writeLock().lock();
+            try {
+                pendingActivities = null;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        /** 재계산 중에 들어온 활동 이벤트를 새 점수에 반영하고 교체 */
+        swapLock.writeLock().lock();
+        try {
+            for (PopUpStoreActivityEvent event : pendingActivities) {
+                applyActivity(scores, event);
+            }
+            pendingActivities = null;
+            this.segmentScores = scores;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+        this.snapshot = new Snapshot(popUpStores, buildBaseRanking(popUpStores), buildEndDates(popUpStores),
+                sortSegments(scores, popUpStores));
+
+        log.debug("맞춤 팝업 세그먼트 랭킹 재계산 - 팝업 {}건, 세그먼트 {}개", popUpStores.size(), scores.size());
+    }
+
+    private synchronized Snapshot initialize() {
+        if (snapshot == null) {
+            rebuild();
+        }
+        return snapshot;
+    }
+
+    private Map<Long, RankingPopUpStoreInfo> getRankingPopUpStores() {
+        return popUpStoreRepository.getRankingPopUpStoreList().stream()
+                .collect(Collectors.toUnmodifiableMap(RankingPopUpStoreInfo::getId, popUpStore -> popUpStore));
+    }
+
+    private void applyActivity(Map<SegmentKey, Map<Long, SegmentScore>> scores, PopUpStoreActivityEvent event) {
+        SegmentKey segmentKey = SegmentKey.of(event.age(), event.gender(), event.category());
+        addScore(scores, segmentKey, event.popUpStoreId(), event.activityType(), event.delta());
+        if (segmentKey.gender() != Gender.NONE) {
+            addScore(scores, segmentKey.allGenders(), event.popUpStoreId(), event.activityType(), event.delta());
+        }
+    }
+
+    private void addScore(Map<SegmentKey, Map<Long, SegmentScore>> scores, SegmentKey segmentKey, Long popUpStoreId,
+                          PopUpStoreActivityEvent.ActivityType activityType, long delta) {
+        scores.computeIfAbsent(segmentKey, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(popUpStoreId, id -> new SegmentScore())
+                .add(activityType, delta);
+    }
+
+    private void addScores(Map<SegmentKey, Map<Long, SegmentScore>> scores, SegmentKey segmentKey, SegmentScoreInfo row) {
+        SegmentScore score = scores.computeIfAbsent(segmentKey, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(row.getPopUpStoreId(), id -> new SegmentScore());
+        score.add(PopUpStoreActivityEvent.ActivityType.VIEW, row.getViewCount() != null ? row.getViewCount() : 0L);
+        score.add(PopUpStoreActivityEvent.ActivityType.COMMENT, row.getCommentCount() != null ? row.getCommentCount() : 0L);
+        score.add(PopUpStoreActivityEvent.ActivityType.BOOKMARK, row.getBookmarkCount() != null ? row.getBookmarkCount() : 0L);
+    }
+
+    /**
+     * 카테고리별 전체 팝업 정렬 리스트 (세그먼트 점수가 없는 팝업용, 전체 조회/코멘트/찜 수 순)
+     */
+    private Map<Category, List<RankedPopUpStore>> buildBaseRanking(Map<Long, RankingPopUpStoreInfo> popUpStores) {
+        return popUpStores.values().stream()
+                .collect(Collectors.groupingBy(RankingPopUpStoreInfo::getCategory,
+                        Collectors.collectingAndThen(Collectors.toList(), list -> list.stream()
+                                .map(popUpStore -> RankedPopUpStore.of(popUpStore, null))
+                                .sorted(RANKING_ORDER)
+                                .toList())));
+    }
+
+    /**
+     * 카테고리별 종료일 오름차순 배열 (현재 진행 중인 팝업 수를 이진 탐색으로 계산)
+     */
+    private Map<Category, LocalDateTime[]> buildEndDates(Map<Long, RankingPopUpStoreInfo> popUpStores) {
+        return popUpStores.values().stream()
+                .collect(Collectors.groupingBy(RankingPopUpStoreInfo::getCategory,
+                        Collectors.collectingAndThen(Collectors.toList(), list -> list.stream()
+                                .map(RankingPopUpStoreInfo::getEndDate)
+                                .sorted()
+                                .toArray(LocalDateTime[]::new))));
+    }
+
+    /**
+     * 세그먼트별 정렬 리스트 생성 (진행 중인 팝업만)
+     */
+    private Map<SegmentKey, List<RankedPopUpStore>> sortSegments(Map<SegmentKey, Map<Long, SegmentScore>> scores,
+                                                                 Map<Long, RankingPopUpStoreInfo> popUpStores) {
+        Map<SegmentKey, List<RankedPopUpStore>> segmentRanking = new HashMap<>();
+        scores.forEach((segmentKey, popUpStoreScores) -> {
+            List<RankedPopUpStore> rankedList = popUpStoreScores.entrySet().stream()
+                    .filter(entry -> popUpStores.containsKey(entry.getKey()) && !entry.getValue().isEmpty())
+                    .map(entry -> RankedPopUpStore.of(popUpStores.get(entry.getKey()), entry.getValue()))
+                    .sorted(RANKING_ORDER)
+                    .toList();
+            if (!rankedList.isEmpty()) {
+                segmentRanking.put(segmentKey, rankedList);
+            }
+        });
+        return Collections.unmodifiableMap(segmentRanking);
+    }
+
+    /**
+     * 세그먼트 점수 (증분 갱신되므로 원자적으로 증감)
+     */
+    private static final class SegmentScore {
+        private final AtomicLong viewCount = new AtomicLong();
+        private final AtomicLong commentCount = new AtomicLong();
+        private final AtomicLong bookmarkCount = new AtomicLong();
+
+        private boolean isEmpty() {
+            return viewCount.get() <= 0 && commentCount.get() <= 0 && bookmarkCount.get() <= 0;
+        }
+
+        private void add(PopUpStoreActivityEvent.ActivityType activityType, long delta) {
+            switch (activityType) {
+                case VIEW -> viewCount.addAndGet(delta);
+                case COMMENT -> commentCount.addAndGet(delta);
+                case BOOKMARK -> bookmarkCount.addAndGet(delta);
+            }
+        }
+    }
+
+    /**
+     * 정렬된 랭킹 항목 (정렬 시점의 점수를 고정)
+     */
+    private record RankedPopUpStore(Long popUpStoreId,
+                                    long segmentViewCount, long segmentCommentCount, long segmentBookmarkCount,
+                                    long viewCount, long commentCount, long bookmarkCount) {
+
+        private static RankedPopUpStore of(RankingPopUpStoreInfo popUpStore, SegmentScore score) {
+            return new RankedPopUpStore(popUpStore.getId(),
+                    score != null ? score.viewCount.get() : 0L,
+                    score != null ? score.commentCount.get() : 0L,
+                    score != null ? score.bookmarkCount.get() : 0L,
+                    popUpStore.getViewCount(), popUpStore.getCommentCount(), popUpStore.getBookmarkCount());
+        }
+    }
+
+    private record Snapshot(Map<Long, RankingPopUpStoreInfo> popUpStores,
+                            Map<Category, List<RankedPopUpStore>> baseRanking,
+                            Map<Category, LocalDateTime[]> endDates,
+                            Map<SegmentKey, List<RankedPopUpStore>> segmentRanking) {
+
+        private Snapshot withSegmentRanking(Map<SegmentKey, List<RankedPopUpStore>> segmentRanking) {
+            return new Snapshot(popUpStores, baseRanking, endDates, segmentRanking);
+        }
+
+        /**
+         * 카테고리의 진행 중인 팝업 수 (종료일이 now 이후인 팝업 수)
+         */
+        private long getOpenCount(Category category, LocalDateTime now) {
+            LocalDateTime[] categoryEndDates = endDates.get(category);
+            if (categoryEndDates == null) {
+                return 0;
+            }
+            int low = 0;
+            int high = categoryEndDates.length;
+            while (low < high) { // 종료일이 now 이상인 첫 위치
+                int mid = (low + high) >>> 1;
+                if (categoryEndDates[mid].isBefore(now)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return categoryEndDates.length - low;
+        }
+
+        private boolean isOpen(Long popUpStoreId, LocalDateTime now) {
+            RankingPopUpStoreInfo popUpStore = popUpStores.get(popUpStoreId);
+            return popUpStore != null && !popUpStore.getEndDate().isBefore(now);
+        }
+
+        private GetHomeInfoResponse.PopUpStore toPopUpStore(Long popUpStoreId) {
+            RankingPopUpStoreInfo popUpStore = popUpStores.get(popUpStoreId);
+            return GetHomeInfoResponse.PopUpStore.builder()
+                    .id(popUpStore.getId())
+                    .category(popUpStore.getCategory())
+                    .name(popUpStore.getName())
+                    .address(popUpStore.getAddress())
+                    .mainImageUrl(popUpStore.getMainImageUrl())
+                    .startDate(popUpStore.getStartDate())
+                    .endDate(popUpStore.getEndDate())
+                    .build();
+        }
+    }
+
+    /**
+     * 한 카테고리의 랭킹 순회 커서
+     * 세그먼트 점수가 있는 팝업을 먼저 순회하고, 이어서 나머지 팝업을 전체 카운트 순으로 순회한다.
+     */
+    private static final class CategoryCursor {
+        private final Iterator<RankedPopUpStore> segmentIterator;
+        private final Iterator<RankedPopUpStore> baseIterator;
+        private final Set<Long> segmentPopUpStoreIds;
+        private final Snapshot snapshot;
+        private final LocalDateTime now;
+        private RankedPopUpStore head;
+
+        private CategoryCursor(List<RankedPopUpStore> segmentList, List<RankedPopUpStore> baseList,
+                               Snapshot snapshot, LocalDateTime now) {
+            this.segmentIterator = segmentList.iterator();
+            this.baseIterator = baseList.iterator();
+            this.segmentPopUpStoreIds = segmentList.stream()
+                    .map(RankedPopUpStore::popUpStoreId)
+                    .collect(Collectors.toSet());
+            this.snapshot = snapshot;
+            this.now = now;
+        }
+
+        private RankedPopUpStore head() {
+            return head;
+        }
+
+        private boolean advance() {
+            while (segmentIterator.hasNext()) {
+                RankedPopUpStore next = segmentIterator.next();
+                if (snapshot.isOpen(next.popUpStoreId(), now)) {
+                    head = next;
+                    return true;
+                }
+            }
+            while (baseIterator.hasNext()) {
+                RankedPopUpStore next = baseIterator.next();
+                if (!segmentPopUpStoreIds.contains(next.popUpStoreId()) && snapshot.isOpen(next.popUpStoreId(), now)) {
+                    head = next;
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+}
@@ -2,10 +2,14 @@ package com.application.poppool.domain.image.entity;
 
 import com.application.poppool.domain.popup.entity.PopUpStoreEntity;
 import com.application.poppool.global.audit.BaseEntity;
+import com.application.poppool.global.cache.EntityCacheRegion;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegion.POPUP_STORE_IMAGE)
 @Table(name = "popup_store_image")
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
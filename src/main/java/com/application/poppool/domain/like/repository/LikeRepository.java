@@ -3,9 +3,14 @@ package com.application.poppool.domain.like.repository;
 import com.application.poppool.domain.comment.entity.CommentEntity;
 import com.application.poppool.domain.like.entity.LikeEntity;
 import com.application.poppool.domain.user.entity.UserEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -15,4 +20,16 @@ public interface LikeRepository extends JpaRepository<LikeEntity, Long> {
     Optional<LikeEntity> findByUserAndComment(UserEntity user, CommentEntity comment);
 
     long countByComment(CommentEntity comment);
+
+    /**
+     * 회원이 좋아요한 코멘트 ID 조회 (최대 pageable 크기)
+     */
+    @Query("select l.comment.id from LikeEntity l where l.user.userId = :userId")
+    List<Long> findCommentIdsByUserId(@Param("userId") String userId, Pageable pageable);
+
+    /**
+     * 주어진 코멘트 중 회원이 좋아요한 코멘트 ID 조회
+     */
+    @Query("select l.comment.id from LikeEntity l where l.user.userId = :userId and l.comment.id in :commentIds")
+    List<Long> findCommentIdsByUserIdAndCommentIdIn(@Param("userId") String userId, @Param("commentIds") Collection<Long> commentIds);
 }
@@ -7,14 +7,19 @@ import com.application.poppool.domain.like.repository.LikeRepository;
 import com.application.poppool.domain.user.entity.UserEntity;
 import com.application.poppool.domain.user.repository.UserRepository;
 import com.application.poppool.global.exception.BadRequestException;
-import com.application.poppool.global.exception.ConcurrencyException;
 import com.application.poppool.global.exception.ErrorCode;
 import com.application.poppool.global.exception.NotFoundException;
-import jakarta.persistence.OptimisticLockException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 public class LikeService {
@@ -22,6 +27,7 @@ public class LikeService {
     private final LikeRepository likeRepository;
     private final UserRepository userRepository;
     private final CommentRepository commentRepository;
+    private final LikedCommentCache likedCommentCache;
 
     /**
      * 좋아요
@@ -50,22 +56,11 @@ public class LikeService {
         // 좋아요 저장
         likeRepository.save(like);
 
-        /** 동시성 이슈 방지를 위한 retry 및 예외 처리*/
-        int retryCount = 0;
-        int maxRetryCount = 3; // 최대 재시도 횟수
-
-        while (retryCount < maxRetryCount) {
-            try {
-                // 코멘트 좋아요 수 + 1
-                comment.incrementLikeCount();
-                break;
-            } catch (OptimisticLockException e) {
-                retryCount++;
-                if (retryCount >= maxRetryCount) {
-                    throw new ConcurrencyException(ErrorCode.CONCURRENCY_ERROR);
-                }
-            }
-        }
+        // 코멘트 좋아요 수 + 1
+        commentRepository.incrementLikeCount(commentId);
+
+        // 좋아요한 코멘트 캐시 삭제
+        likedCommentCache.evictAfterCommit(userId);
     }
 
     /**
@@ -88,35 +83,39 @@ public class LikeService {
         // 좋아요 취소
         likeRepository.delete(like);
 
-        /** 동시성 이슈 방지를 위한 retry 및 예외 처리*/
-        int retryCount = 0;
-        int maxRetryCount = 3; // 최대 재시도 횟수
-
-        while (retryCount < maxRetryCount) {
-            try {
-                // 코멘트 좋아요 수 - 1
-                comment.decrementLikeCount();
-                break;
-            } catch (OptimisticLockException e) {
-                retryCount++;
-                if (retryCount >= maxRetryCount) {
-                    throw new ConcurrencyException(ErrorCode.CONCURRENCY_ERROR);
-                }
-            }
-        }
+        // 코멘트 좋아요 수 - 1
+        commentRepository.decrementLikeCount(commentId);
+
+        // 좋아요한 코멘트 캐시 삭제
+        likedCommentCache.evictAfterCommit(userId);
     }
 
 
     /**
-     * 좋아요 여부 확인
+     * 주어진 코멘트 중 회원이 좋아요한 코멘트 ID 조회
+     * 회원의 좋아요 코멘트 ID 집합(캐시)과 비교하므로 코멘트 수와 무관하게 최대 한 번만 조회한다.
+     * 좋아요한 코멘트가 너무 많아 집합을 캐시하지 않는 회원은 주어진 코멘트만 조회한다.
      *
-     * @param user
-     * @param comment
+     * @param userId
+     * @param commentIdList
      * @return
      */
     @Transactional(readOnly = true)
-    public boolean existsByUserAndComment(UserEntity user, CommentEntity comment) {
-        return likeRepository.existsByUserAndComment(user, comment);
+    public Set<Long> findLikedCommentIds(String userId, Collection<Long> commentIdList) {
+        if (userId == null || commentIdList.isEmpty()) {
+            return Set.of();
+        }
+
+        Optional<Set<Long>> likedCommentIds = likedCommentCache.getLikedCommentIds(userId,
+                (id, limit) -> likeRepository.findCommentIdsByUserId(id, PageRequest.of(0, limit)));
+
+        if (likedCommentIds.isEmpty()) {
+            return new HashSet<>(likeRepository.findCommentIdsByUserIdAndCommentIdIn(userId, commentIdList));
+        }
+
+        return commentIdList.stream()
+                .filter(likedCommentIds.get()::contains)
+                .collect(Collectors.toSet());
     }
 
     /**
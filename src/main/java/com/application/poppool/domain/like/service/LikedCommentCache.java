@@ -0,0 +1,67 @@
+package com.application.poppool.domain.like.service;
+
+import com.application.poppool.global.cache.LocalCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+/**
+ * 회원별 좋아요한 코멘트 ID 집합 캐시
+ * 팝업 상세의 코멘트마다 좋아요 여부를 조회하지 않도록, 회원이 좋아요한 코멘트 ID 집합을 짧은 TTL 동안 보관한다.
+ * 좋아요한 코멘트가 최대 개수를 넘는 회원은 집합을 캐시하지 않고(넘는다는 사실만 캐시) 호출하는 쪽에서 페이지의 코멘트만 조회한다.
+ * 좋아요/좋아요 취소 시에는 커밋 이후 해당 회원의 집합을 삭제한다.
+ */
+@Component
+public class LikedCommentCache {
+
+    private final LocalCache<String, LikedCommentIds> cache;
+    private final int maxLikedIds;
+
+    public LikedCommentCache(@Value("${like.liked-comment-cache.ttl:60s}") Duration ttl,
+                             @Value("${like.liked-comment-cache.max-size:10000}") int maxSize,
+                             @Value("${like.liked-comment-cache.max-liked-ids:1000}") int maxLikedIds) {
+        this.cache = new LocalCache<>(ttl, maxSize);
+        this.maxLikedIds = maxLikedIds;
+    }
+
+    /**
+     * 캐시된 좋아요 코멘트 ID 집합 조회, 없거나 만료되었으면 조회 후 캐시
+     *
+     * @param userId
+     * @param loader (회원 ID, 최대 조회 개수) -> 좋아요 코멘트 ID 조회 쿼리
+     * @return 좋아요한 코멘트가 최대 개수를 넘으면 빈 값
+     */
+    public Optional<Set<Long>> getLikedCommentIds(String userId, BiFunction<String, Integer, List<Long>> loader) {
+        LikedCommentIds likedCommentIds = cache.get(userId, id -> {
+            /** 최대 개수보다 하나 더 조회하여 넘는지 확인 */
+            List<Long> commentIds = loader.apply(id, maxLikedIds + 1);
+            return commentIds.size() > maxLikedIds
+                    ? new LikedCommentIds(Set.of(), true)
+                    : new LikedCommentIds(Set.copyOf(commentIds), false);
+        });
+        return likedCommentIds.truncated() ? Optional.empty() : Optional.of(likedCommentIds.commentIds());
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 회원의 좋아요 코멘트 집합 삭제 (트랜잭션이 없으면 즉시 삭제)
+     * 삭제 전에 시작된 조회 결과는 캐시되지 않는다.
+     *
+     * @param userId
+     */
+    public void evictAfterCommit(String userId) {
+        cache.evictAfterCommit(userId);
+    }
+
+    /**
+     * @param commentIds 좋아요한 코멘트 ID 집합
+     * @param truncated  최대 개수를 넘어 집합을 보관하지 않음
+     */
+    private record LikedCommentIds(Set<Long> commentIds, boolean truncated) {
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.application.poppool.domain.location.controller;
 
 import com.application.poppool.domain.category.enums.Category;
+import com.application.poppool.domain.location.dto.response.GetPopUpStoreClusterListResponse;
 import com.application.poppool.domain.location.dto.response.GetViewBoundPopUpStoreListResponse;
 import com.application.poppool.domain.location.dto.response.SearchPopUpStoreByMapResponse;
 import com.application.poppool.domain.location.service.LocationService;
@@ -26,9 +27,10 @@ public class LocationController implements LocationControllerDoc {
     @Override
     @GetMapping("/search")
     public ResponseEntity<SearchPopUpStoreByMapResponse> searchPopUpStoreByMap(@RequestParam List<Category> categories,
-                                                                               @RequestParam String query) {
+                                                                               @RequestParam String query,
+                                                                               @RequestParam(defaultValue = "20") int limit) {
         log.info("지도에서 팝업스토어 검색");
-        return ResponseEntity.ok(locationService.searchPopUpStoreByMap(categories, query));
+        return ResponseEntity.ok(locationService.searchPopUpStoreByMap(categories, query, limit));
     }
 
     @Override
@@ -43,5 +45,17 @@ public class LocationController implements LocationControllerDoc {
 
     }
 
+    @Override
+    @GetMapping("/clusters")
+    public ResponseEntity<GetPopUpStoreClusterListResponse> getPopUpStoreClusterList(@RequestParam List<Category> categories,
+                                                                                     @RequestParam int zoom,
+                                                                                     @RequestParam double northEastLat,
+                                                                                     @RequestParam double northEastLon,
+                                                                                     @RequestParam double southWestLat,
+                                                                                     @RequestParam double southWestLon) {
+        log.info("뷰 바운즈 내에 있는 팝업 스토어 클러스터 조회");
+        return ResponseEntity.ok(locationService.getPopUpStoreClusterList(categories, zoom, northEastLat, northEastLon, southWestLat, southWestLon));
+    }
+
 
 }
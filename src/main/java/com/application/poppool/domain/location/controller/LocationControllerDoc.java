@@ -1,6 +1,7 @@
 package com.application.poppool.domain.location.controller;
 
 import com.application.poppool.domain.category.enums.Category;
+import com.application.poppool.domain.location.dto.response.GetPopUpStoreClusterListResponse;
 import com.application.poppool.domain.location.dto.response.GetViewBoundPopUpStoreListResponse;
 import com.application.poppool.domain.location.dto.response.SearchPopUpStoreByMapResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,7 +16,8 @@ public interface LocationControllerDoc {
 
     @Operation(summary = "지도에서 검색", description = "지도에서 검색합니다.")
     ResponseEntity<SearchPopUpStoreByMapResponse> searchPopUpStoreByMap(@RequestParam List<Category> categories,
-                                                                        @RequestParam String query);
+                                                                        @RequestParam String query,
+                                                                        @RequestParam(defaultValue = "20") int limit);
 
     @Operation(summary = "뷰 바운즈 내에 있는 팝업 스토어 정보 조회", description = "뷰 바운즈 내에 있는 팝업 스토어 정보를 조회합니다.")
     ResponseEntity<GetViewBoundPopUpStoreListResponse> getViewBoundPopUpStoreList(@RequestParam List<Category> categories,
@@ -24,4 +26,12 @@ public interface LocationControllerDoc {
                                                                                   @RequestParam double southWestLat,
                                                                                   @RequestParam double southWestLon);
 
+    @Operation(summary = "뷰 바운즈 내에 있는 팝업 스토어 클러스터 조회", description = "줌 레벨에 따라 뷰 바운즈 내 팝업 스토어를 클러스터로 묶어 조회합니다. 충분히 확대된 경우 개별 팝업 스토어 정보를 조회합니다.")
+    ResponseEntity<GetPopUpStoreClusterListResponse> getPopUpStoreClusterList(@RequestParam List<Category> categories,
+                                                                              @RequestParam int zoom,
+                                                                              @RequestParam double northEastLat,
+                                                                              @RequestParam double northEastLon,
+                                                                              @RequestParam double southWestLat,
+                                                                              @RequestParam double southWestLon);
+
 }
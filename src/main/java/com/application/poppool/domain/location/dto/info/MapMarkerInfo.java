@@ -0,0 +1,29 @@
+package com.application.poppool.domain.location.dto.info;
+
+import com.application.poppool.domain.category.enums.Category;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 지도 마커 정보 (진행 중인 팝업 + 위치 정보)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MapMarkerInfo {
+    private Long id;
+    private Category category;
+    private String name;
+    private String address;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private long viewCount;
+    private double latitude;
+    private double longitude;
+    private Long markerId;
+    private String markerTitle;
+    private String markerSnippet;
+}
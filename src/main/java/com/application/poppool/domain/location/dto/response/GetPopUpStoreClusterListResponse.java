@@ -0,0 +1,30 @@
+package com.application.poppool.domain.location.dto.response;
+
+import com.application.poppool.domain.category.enums.Category;
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Builder
+public class GetPopUpStoreClusterListResponse {
+
+    private int zoom;
+    private boolean clustered; // true 이면 clusterList, false 이면 popUpStoreList 에 결과가 담김
+    private long totalElements;
+    private List<Cluster> clusterList;
+    private List<GetViewBoundPopUpStoreListResponse.PopUpStore> popUpStoreList;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Cluster {
+        private double latitude; // 클러스터에 속한 팝업들의 중심 좌표
+        private double longitude;
+        private long count;
+        private Map<Category, Long> categoryCounts;
+    }
+
+}
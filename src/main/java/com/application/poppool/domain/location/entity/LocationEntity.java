@@ -2,10 +2,14 @@ package com.application.poppool.domain.location.entity;
 
 import com.application.poppool.domain.admin.popup.dto.request.UpdatePopUpStoreRequest;
 import com.application.poppool.global.audit.BaseEntity;
+import com.application.poppool.global.cache.EntityCacheRegion;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegion.LOCATION)
 @Table(name = "locations")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
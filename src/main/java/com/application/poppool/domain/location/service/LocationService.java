@@ -1,47 +1,87 @@
 package com.application.poppool.domain.location.service;
 
 import com.application.poppool.domain.category.enums.Category;
+import com.application.poppool.domain.location.dto.info.MapMarkerInfo;
+import com.application.poppool.domain.location.dto.response.GetPopUpStoreClusterListResponse;
 import com.application.poppool.domain.location.dto.response.GetViewBoundPopUpStoreListResponse;
 import com.application.poppool.domain.location.dto.response.SearchPopUpStoreByMapResponse;
-import com.application.poppool.domain.popup.entity.PopUpStoreEntity;
 import com.application.poppool.domain.popup.repository.PopUpStoreRepository;
+import com.application.poppool.domain.search.dto.info.SearchDocumentInfo;
+import com.application.poppool.domain.search.service.PopUpStoreSearchIndex;
+import com.application.poppool.domain.search.service.SearchService;
+import com.application.poppool.global.exception.BadRequestException;
+import com.application.poppool.global.exception.ErrorCode;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class LocationService {
 
     private final PopUpStoreRepository popUpStoreRepository;
+    private final PopUpStoreGeoIndex popUpStoreGeoIndex;
+    private final PopUpStoreSearchIndex popUpStoreSearchIndex;
+
+    private static final int MAX_ZOOM = 21;
+    private static final int TILE_PIXELS = 256;
+    private static final int CLUSTER_CELL_PIXELS = 64; // 화면상 클러스터 하나가 차지하는 격자 크기 (px)
+
+    @Value("${location.cluster.marker-zoom:15}")
+    private int markerZoom;
+
+    @Value("${location.cluster.max-markers:300}")
+    private int maxMarkers;
+
+    @Value("${location.cluster.max-clusters:200}")
+    private int maxClusters;
 
     /**
      * 지도로 팝업스토어 검색
+     * 검색 인덱스에서 이름으로 검색한 결과(점수 순)에 지도 마커 인덱스의 위치 정보를 붙여 limit 개까지 반환하고,
+     * 인덱스가 준비되지 않은 경우에만 DB 조회
+     * 두 인덱스는 따로 갱신되므로, 검색 인덱스에는 있지만 마커 인덱스에 없는 팝업(막 등록된 팝업 등)은 DB 에서 마커를 조회해 채운다.
      *
      * @param category
      * @param query
+     * @param limit
      * @return
      */
     @Transactional(readOnly = true)
-    public SearchPopUpStoreByMapResponse searchPopUpStoreByMap(List<Category> categories, String query) {
-        List<PopUpStoreEntity> popUpStoreEntityList = popUpStoreRepository.searchPopUpStoreByMap(categories, query);
-
-
-        List<SearchPopUpStoreByMapResponse.PopUpStore> popUpStoreList = popUpStoreEntityList.stream()
-                .map(popUpStoreEntity -> SearchPopUpStoreByMapResponse.PopUpStore.builder()
-                        .id(popUpStoreEntity.getId())
-                        .category(popUpStoreEntity.getCategory())
-                        .name(popUpStoreEntity.getName())
-                        .address(popUpStoreEntity.getAddress())
-                        .startDate(popUpStoreEntity.getStartDate())
-                        .endDate(popUpStoreEntity.getEndDate())
-                        .latitude((popUpStoreEntity.getLocation() != null) ? popUpStoreEntity.getLocation().getLatitude() : 0.0)
-                        .longitude((popUpStoreEntity.getLocation() != null) ? popUpStoreEntity.getLocation().getLongitude() : 0.0)
-                        .markerId((popUpStoreEntity.getLocation() != null) ? popUpStoreEntity.getLocation().getId() : null)
-                        .markerTitle((popUpStoreEntity.getLocation() != null) ? popUpStoreEntity.getLocation().getMarkerTitle() : null)
-                        .markerSnippet((popUpStoreEntity.getLocation() != null) ? popUpStoreEntity.getLocation().getMarkerSnippet() : null)
+    public SearchPopUpStoreByMapResponse searchPopUpStoreByMap(List<Category> categories, String query, int limit) {
+        int searchLimit = Math.max(1, Math.min(limit, SearchService.MAX_SEARCH_LIMIT));
+
+        List<MapMarkerInfo> markerList = popUpStoreSearchIndex.search(query, categories, false)
+                .flatMap(documentList -> getIndexedMarkerList(documentList.stream()
+                        .map(SearchDocumentInfo::getId)
+                        .toList(), searchLimit))
+                .orElseGet(() -> popUpStoreRepository.searchPopUpStoreByMap(categories, query, searchLimit));
+
+        List<SearchPopUpStoreByMapResponse.PopUpStore> popUpStoreList = markerList.stream()
+                .map(marker -> SearchPopUpStoreByMapResponse.PopUpStore.builder()
+                        .id(marker.getId())
+                        .category(marker.getCategory())
+                        .name(marker.getName())
+                        .address(marker.getAddress())
+                        .startDate(marker.getStartDate())
+                        .endDate(marker.getEndDate())
+                        .latitude(marker.getLatitude())
+                        .longitude(marker.getLongitude())
+                        .markerId(marker.getMarkerId())
+                        .markerTitle(marker.getMarkerTitle())
+                        .markerSnippet(marker.getMarkerSnippet())
                         .build())
                 .toList();
 
@@ -61,25 +101,170 @@ public class LocationService {
      */
     @Transactional(readOnly = true)
     public GetViewBoundPopUpStoreListResponse getViewBoundPopUpStoreList(List<Category> categories, double northEastLat, double northEastLon, double southWestLat, double southWestLon) {
-        List<PopUpStoreEntity> popUpStoreEntityList = popUpStoreRepository.getViewBoundPopUpStoreList(categories, northEastLat, northEastLon, southWestLat, southWestLon);
-
-        List<GetViewBoundPopUpStoreListResponse.PopUpStore> popUpStoreList = popUpStoreEntityList.stream()
-                .map(popUpStoreEntity -> GetViewBoundPopUpStoreListResponse.PopUpStore.builder()
-                        .id(popUpStoreEntity.getId())
-                        .category(popUpStoreEntity.getCategory())
-                        .name(popUpStoreEntity.getName())
-                        .address(popUpStoreEntity.getAddress())
-                        .startDate(popUpStoreEntity.getStartDate())
-                        .endDate(popUpStoreEntity.getEndDate())
-                        .latitude((popUpStoreEntity.getLocation() != null) ? popUpStoreEntity.getLocation().getLatitude() : 0.0)
-                        .longitude((popUpStoreEntity.getLocation() != null) ? popUpStoreEntity.getLocation().getLongitude() : 0.0)
-                        .markerId((popUpStoreEntity.getLocation() != null) ? popUpStoreEntity.getLocation().getId() : null)
-                        .markerTitle((popUpStoreEntity.getLocation() != null) ? popUpStoreEntity.getLocation().getMarkerTitle() : null)
-                        .markerSnippet((popUpStoreEntity.getLocation() != null) ? popUpStoreEntity.getLocation().getMarkerSnippet() : null)
-                        .build())
+        List<GetViewBoundPopUpStoreListResponse.PopUpStore> popUpStoreList = getViewBoundMarkerList(categories, northEastLat, northEastLon, southWestLat, southWestLon).stream()
+                .map(this::toViewBoundPopUpStore)
                 .toList();
 
         return GetViewBoundPopUpStoreListResponse.builder().popUpStoreList(popUpStoreList).build();
     }
 
+    /**
+     * 뷰 바운즈 내 팝업 스토어 클러스터 조회
+     * 줌 레벨에 맞는 격자로 팝업을 묶어 중심 좌표, 개수, 카테고리별 개수만 내려주고,
+     * 충분히 확대된 경우(개별 마커 수가 상한 이하)에만 개별 팝업 정보를 내려준다.
+     *
+     * @param categories
+     * @param zoom
+     * @param northEastLat
+     * @param northEastLon
+     * @param southWestLat
+     * @param southWestLon
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public GetPopUpStoreClusterListResponse getPopUpStoreClusterList(List<Category> categories, int zoom, double northEastLat, double northEastLon, double southWestLat, double southWestLon) {
+        if (zoom < 0 || zoom > MAX_ZOOM) {
+            throw new BadRequestException(ErrorCode.DATA_VALIDATION_ERROR);
+        }
+
+        List<MapMarkerInfo> markerList = getViewBoundMarkerList(categories, northEastLat, northEastLon, southWestLat, southWestLon);
+
+        if (zoom >= markerZoom && markerList.size() <= maxMarkers) {
+            return GetPopUpStoreClusterListResponse.builder()
+                    .zoom(zoom)
+                    .clustered(false)
+                    .totalElements(markerList.size())
+                    .clusterList(List.of())
+                    .popUpStoreList(markerList.stream().map(this::toViewBoundPopUpStore).toList())
+                    .build();
+        }
+
+        /** 줌 레벨 기준 격자 크기에서 시작해, 클러스터 수가 상한을 넘으면 격자를 두 배씩 키움 */
+        double cellDegree = 360.0 / (1L << zoom) * CLUSTER_CELL_PIXELS / TILE_PIXELS;
+        Collection<ClusterAccumulator> clusters = clusterMarkers(markerList, cellDegree);
+        while (clusters.size() > maxClusters && cellDegree < 360.0) {
+            cellDegree *= 2;
+            clusters = clusterMarkers(markerList, cellDegree);
+        }
+
+        List<GetPopUpStoreClusterListResponse.Cluster> clusterList = clusters.stream()
+                .sorted(Comparator.comparingLong(ClusterAccumulator::getCount).reversed())
+                .map(ClusterAccumulator::toCluster)
+                .toList();
+
+        return GetPopUpStoreClusterListResponse.builder()
+                .zoom(zoom)
+                .clustered(true)
+                .totalElements(markerList.size())
+                .clusterList(clusterList)
+                .popUpStoreList(List.of())
+                .build();
+    }
+
+    /**
+     * 검색 결과 ID 순서대로 마커 조회 (limit 개까지)
+     * 마커 인덱스에 없는 ID 는 DB 에서 조회한다. (위치 정보가 없거나 종료된 팝업은 DB 에서도 제외)
+     * 마커를 limit 개 찾을 때까지의 ID 만 확인하므로, DB 조회 대상도 그 앞쪽의 누락된 ID 로 한정된다.
+     *
+     * @param popUpStoreIdList 검색 점수 순
+     * @param limit
+     * @return 마커 인덱스가 아직 만들어지지 않은 경우 빈 값
+     */
+    private Optional<List<MapMarkerInfo>> getIndexedMarkerList(List<Long> popUpStoreIdList, int limit) {
+        return popUpStoreGeoIndex.findAllById(popUpStoreIdList).map(indexedMarkerList -> {
+            Map<Long, MapMarkerInfo> markersById = new HashMap<>();
+            indexedMarkerList.forEach(marker -> markersById.put(marker.getId(), marker));
+
+            List<Long> candidateIdList = new ArrayList<>();
+            List<Long> missingIdList = new ArrayList<>();
+            int found = 0;
+            for (Long popUpStoreId : popUpStoreIdList) {
+                if (found >= limit) {
+                    break;
+                }
+                candidateIdList.add(popUpStoreId);
+                if (markersById.containsKey(popUpStoreId)) {
+                    found++;
+                } else {
+                    missingIdList.add(popUpStoreId);
+                }
+            }
+
+            if (!missingIdList.isEmpty()) {
+                popUpStoreRepository.getMapMarkerListByIdIn(missingIdList)
+                        .forEach(marker -> markersById.put(marker.getId(), marker));
+            }
+
+            return candidateIdList.stream()
+                    .map(markersById::get)
+                    .filter(Objects::nonNull)
+                    .limit(limit)
+                    .toList();
+        });
+    }
+
+    /**
+     * 지도 마커 인덱스에서 먼저 조회하고, 인덱스가 준비되지 않은 경우에만 DB 조회
+     */
+    private List<MapMarkerInfo> getViewBoundMarkerList(List<Category> categories, double northEastLat, double northEastLon, double southWestLat, double southWestLon) {
+        return popUpStoreGeoIndex.findInBounds(categories, northEastLat, northEastLon, southWestLat, southWestLon)
+                .orElseGet(() -> popUpStoreRepository.getViewBoundMarkerList(categories, northEastLat, northEastLon, southWestLat, southWestLon));
+    }
+
+    private Collection<ClusterAccumulator> clusterMarkers(List<MapMarkerInfo> markerList, double cellDegree) {
+        Map<Long, ClusterAccumulator> clusters = new HashMap<>();
+        for (MapMarkerInfo marker : markerList) {
+            long latCell = (long) Math.floor(marker.getLatitude() / cellDegree);
+            long lonCell = (long) Math.floor(marker.getLongitude() / cellDegree);
+            clusters.computeIfAbsent((latCell << 32) | (lonCell & 0xffffffffL), key -> new ClusterAccumulator())
+                    .add(marker);
+        }
+        return clusters.values();
+    }
+
+    private GetViewBoundPopUpStoreListResponse.PopUpStore toViewBoundPopUpStore(MapMarkerInfo marker) {
+        return GetViewBoundPopUpStoreListResponse.PopUpStore.builder()
+                .id(marker.getId())
+                .category(marker.getCategory())
+                .name(marker.getName())
+                .address(marker.getAddress())
+                .startDate(marker.getStartDate())
+                .endDate(marker.getEndDate())
+                .latitude(marker.getLatitude())
+                .longitude(marker.getLongitude())
+                .markerId(marker.getMarkerId())
+                .markerTitle(marker.getMarkerTitle())
+                .markerSnippet(marker.getMarkerSnippet())
+                .build();
+    }
+
+    /**
+     * 클러스터 집계 (좌표 합, 개수, 카테고리별 개수)
+     */
+    @Getter
+    private static class ClusterAccumulator {
+        private double latitudeSum;
+        private double longitudeSum;
+        private long count;
+        private final Map<Category, Long> categoryCounts = new EnumMap<>(Category.class);
+
+        void add(MapMarkerInfo marker) {
+            latitudeSum += marker.getLatitude();
+            longitudeSum += marker.getLongitude();
+            count++;
+            if (marker.getCategory() != null) {
+                categoryCounts.merge(marker.getCategory(), 1L, Long::sum);
+            }
+        }
+
+        GetPopUpStoreClusterListResponse.Cluster toCluster() {
+            return GetPopUpStoreClusterListResponse.Cluster.builder()
+                    .latitude(latitudeSum / count)
+                    .longitude(longitudeSum / count)
+                    .count(count)
+                    .categoryCounts(categoryCounts)
+                    .build();
+        }
+    }
+
 }
@@ -0,0 +1,208 @@
+package com.application.poppool.domain.location.service;
+
+import com.application.poppool.domain.category.enums.Category;
+import com.application.poppool.domain.location.dto.info.MapMarkerInfo;
+import com.application.poppool.domain.popup.event.PopUpStoreChangedEvent;
+import com.application.poppool.domain.popup.repository.PopUpStoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 진행 중인 팝업스토어 지도 마커 공간 인덱스
+ * 위경도를 일정 크기(cellSize 도)의 격자로 나누어 셀 단위로 마커를 보관하고,
+ * 뷰 바운즈 조회 시에는 바운즈에 걸친 셀만 훑어서 DB 조회 없이 응답한다.
+ * 인덱스는 불변 스냅샷으로 만들어 통째로 교체하므로 조회 시 별도의 락이 필요 없다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopUpStoreGeoIndex {
+
+    private final PopUpStoreRepository popUpStoreRepository;
+
+    @Value("${location.geo-index.cell-size:0.01}")
+    private double cellSize;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 뷰 바운즈 내 진행 중인 팝업 마커 조회
+     *
+     * @param categories
+     * @param northEastLat
+     * @param northEastLon
+     * @param southWestLat
+     * @param southWestLon
+     * @return 인덱스가 아직 만들어지지 않은 경우 빈 값
+     */
+    public Optional<List<MapMarkerInfo>> findInBounds(List<Category> categories, double northEastLat, double northEastLon, double southWestLat, double southWestLon) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return Optional.empty();
+        }
+        if (southWestLat > northEastLat || southWestLon > northEastLon) {
+            return Optional.of(List.of());
+        }
+
+        Set<Category> categorySet = toCategorySet(categories);
+        LocalDateTime now = LocalDateTime.now();
+        List<MapMarkerInfo> result = new ArrayList<>();
+
+        long minLatCell = current.toCell(southWestLat);
+        long maxLatCell = current.toCell(northEastLat);
+        long minLonCell = current.toCell(southWestLon);
+        long maxLonCell = current.toCell(northEastLon);
+        long boundCellCount = (maxLatCell - minLatCell + 1) * (maxLonCell - minLonCell + 1);
+
+        /** 줌 아웃으로 바운즈가 인덱스의 셀 수보다 넓으면, 빈 셀을 훑는 대신 채워진 셀만 순회 */
+        if (boundCellCount > current.cells().size()) {
+            for (List<MapMarkerInfo> cell : current.cells().values()) {
+                collect(cell, categorySet, now, northEastLat, northEastLon, southWestLat, southWestLon, result);
+            }
+        } else {
+            for (long latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+                for (long lonCell = minLonCell; lonCell <= maxLonCell; lonCell++) {
+                    List<MapMarkerInfo> cell = current.cells().get(cellKey(latCell, lonCell));
+                    if (cell != null) {
+                        collect(cell, categorySet, now, northEastLat, northEastLon, southWestLat, southWestLon, result);
+                    }
+                }
+            }
+        }
+
+        result.sort(Comparator.comparing(MapMarkerInfo::getId));
+        return Optional.of(result);
+    }
+
+    /**
+     * ID 목록 순서대로 진행 중인 팝업 마커 조회 (위치 정보가 없는 팝업은 제외)
+     *
+     * @param popUpStoreIdList
+     * @return 인덱스가 아직 만들어지지 않은 경우 빈 값
+     */
+    public Optional<List<MapMarkerInfo>> findAllById(List<Long> popUpStoreIdList) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return Optional.empty();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return Optional.of(popUpStoreIdList.stream()
+                .map(current.markersById()::get)
+                .filter(marker -> marker != null && !marker.getEndDate().isBefore(now))
+                .toList());
+    }
+
+    /**
+     * 인덱스에 올라간 진행 중인 팝업 마커 전체 조회
+     *
+     * @return 인덱스가 아직 만들어지지 않은 경우 빈 값
+     */
+    public Optional<Collection<MapMarkerInfo>> findAll() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return Optional.empty();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return Optional.of(current.markers().stream()
+                .filter(marker -> !marker.getEndDate().isBefore(now))
+                .toList());
+    }
+
+    /**
+     * 주기적으로 인덱스 재구성 (종료된 팝업 정리 및 관리자 외 경로의 변경 반영)
+     */
+    @Scheduled(fixedDelayString = "${location.geo-index.refresh-delay:300000}")
+    @Transactional(readOnly = true)
+    public void refresh() {
+        rebuild();
+    }
+
+    /**
+     * 관리자 페이지에서 팝업스토어가 변경되면 커밋 이후 인덱스 재구성
+     *
+     * @param event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public void onPopUpStoreChanged(PopUpStoreChangedEvent event) {
+        rebuild();
+    }
+
+    private void rebuild() {
+        List<MapMarkerInfo> markers = popUpStoreRepository.getMapMarkerList();
+
+        Map<Long, List<MapMarkerInfo>> cells = new HashMap<>();
+        for (MapMarkerInfo marker : markers) {
+            long key = cellKey(toCell(marker.getLatitude(), cellSize), toCell(marker.getLongitude(), cellSize));
+            cells.computeIfAbsent(key, k -> new ArrayList<>()).add(marker);
+        }
+        cells.replaceAll((key, cell) -> List.copyOf(cell));
+
+        Map<Long, MapMarkerInfo> markersById = new HashMap<>();
+        markers.forEach(marker -> markersById.put(marker.getId(), marker));
+
+        this.snapshot = new Snapshot(cellSize, Map.copyOf(cells), List.copyOf(markers), Map.copyOf(markersById));
+
+        log.debug("지도 마커 인덱스 갱신 - 마커 {}건, 셀 {}개", markers.size(), cells.size());
+    }
+
+    private static void collect(List<MapMarkerInfo> cell, Set<Category> categorySet, LocalDateTime now,
+                                double northEastLat, double northEastLon, double southWestLat, double southWestLon,
+                                List<MapMarkerInfo> result) {
+        for (MapMarkerInfo marker : cell) {
+            if ((categorySet == null || categorySet.contains(marker.getCategory()))
+                    && !marker.getEndDate().isBefore(now)
+                    && marker.getLatitude() >= southWestLat && marker.getLatitude() <= northEastLat
+                    && marker.getLongitude() >= southWestLon && marker.getLongitude() <= northEastLon) {
+                result.add(marker);
+            }
+        }
+    }
+
+    /**
+     * 카테고리 조건이 없으면 null (모든 카테고리를 대상으로 함)
+     */
+    private static Set<Category> toCategorySet(List<Category> categories) {
+        if (categories == null || categories.isEmpty()) {
+            return null;
+        }
+        return EnumSet.copyOf(categories);
+    }
+
+    private static long toCell(double degree, double cellSize) {
+        return (long) Math.floor(degree / cellSize);
+    }
+
+    private static long cellKey(long latCell, long lonCell) {
+        return (latCell << 32) | (lonCell & 0xffffffffL);
+    }
+
+    private record Snapshot(double cellSize,
+                            Map<Long, List<MapMarkerInfo>> cells,
+                            List<MapMarkerInfo> markers,
+                            Map<Long, MapMarkerInfo> markersById) {
+
+        long toCell(double degree) {
+            return PopUpStoreGeoIndex.toCell(degree, cellSize);
+        }
+    }
+
+}
@@ -36,15 +36,17 @@ public class PopUpStoreController implements PopUpStoreControllerDoc {
     @Override
     @GetMapping("/open")
     public ResponseEntity<GetOpenPopUpStoreListResponse> getOpenPopUpStoreList(@RequestParam List<Category> categories,
+                                                                               @RequestParam(required = false) String cursor,
                                                                                @PageableDefault(page = 0, size = 20, sort = "startDate", direction = Sort.Direction.DESC) Pageable pageable) {
-        return ResponseEntity.ok(popUpStoreService.getOpenPopUpStoreList(categories, pageable));
+        return ResponseEntity.ok(popUpStoreService.getOpenPopUpStoreList(categories, cursor, pageable));
     }
 
     @Override
     @GetMapping("/closed")
     public ResponseEntity<GetClosedPopUpStoreListResponse> getClosedPopUpStoreList(@RequestParam List<Category> categories,
+                                                                                   @RequestParam(required = false) String cursor,
                                                                                    @PageableDefault(page = 0, size = 20, sort = "startDate", direction = Sort.Direction.DESC) Pageable pageable) {
-        return ResponseEntity.ok(popUpStoreService.getClosedPopUpStoreList(categories, pageable));
+        return ResponseEntity.ok(popUpStoreService.getClosedPopUpStoreList(categories, cursor, pageable));
     }
 
     @Override
@@ -25,12 +25,14 @@ public interface PopUpStoreControllerDoc {
                                                                     @RequestParam(name = "commentType") CommentType commentType,
                                                                     @RequestParam(name = "popUpStoreId") Long popUpStoreId);
 
-    @Operation(summary = "검색창 하단의 팝업 스토어 진행 중(오픈) 팝업 리스트 조회", description = "검색창 하단의 팝업 스토어 진행 중(오픈) 팝업 리스트를 조회합니다.")
+    @Operation(summary = "검색창 하단의 팝업 스토어 진행 중(오픈) 팝업 리스트 조회", description = "검색창 하단의 팝업 스토어 진행 중(오픈) 팝업 리스트를 조회합니다. cursor를 넘기면 이전 응답의 nextCursor 이후부터 조회합니다.")
     ResponseEntity<GetOpenPopUpStoreListResponse> getOpenPopUpStoreList(@RequestParam List<Category> categories,
+                                                                        @RequestParam(required = false) String cursor,
                                                                         @PageableDefault(page = 0, size = 20, sort = "startDate", direction = Sort.Direction.DESC) Pageable pageable);
 
-    @Operation(summary = "검색창 하단의 팝업 스토어 종료 팝업 리스트 조회", description = "검색창 하단의 팝업 스토어 종료 팝업 리스트 조회")
+    @Operation(summary = "검색창 하단의 팝업 스토어 종료 팝업 리스트 조회", description = "검색창 하단의 팝업 스토어 종료 팝업 리스트 조회. cursor를 넘기면 이전 응답의 nextCursor 이후부터 조회합니다.")
     ResponseEntity<GetClosedPopUpStoreListResponse> getClosedPopUpStoreList(@RequestParam List<Category> categories,
+                                                                            @RequestParam(required = false) String cursor,
                                                                             @PageableDefault(page = 0, size = 20, sort = "startDate", direction = Sort.Direction.DESC) Pageable pageable);
 
     @Operation(summary = "팝업스토어 찾아가는 길", description = "팝업스토어 찾아가는 길을 조회합니다.")
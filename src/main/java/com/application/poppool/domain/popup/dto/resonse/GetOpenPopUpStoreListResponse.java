@@ -11,8 +11,9 @@ import java.util.List;
 public class GetOpenPopUpStoreListResponse {
 
     private List<PopUpStore> openPopUpStoreList;
-    private int totalPages;
-    private long totalElements;
+    private int totalPages; // 전체 페이지 수 (커서 이어보기 요청에서 알 수 없으면 -1)
+    private long totalElements; // 전체 개수 (커서 이어보기 요청에서 알 수 없으면 -1)
+    private String nextCursor; // 다음 페이지 커서 (키셋 페이지네이션, 마지막 페이지면 null)
 
 
     @Data
@@ -20,6 +20,7 @@ public class GetPopUpStoreDetailResponse {
     private String mainImageUrl;
     private List<PopUpStoreImage> imageList;
     private List<Comment> commentList;
+    private String commentNextCursor; // 코멘트 다음 페이지 커서 (코멘트 목록 API 로 이어서 조회, 마지막 페이지이면 null)
     private List<PopUpStore> similarPopUpStoreList;
 
     @Getter
@@ -39,6 +40,7 @@ public class GetPopUpStoreDetailResponse {
     @NoArgsConstructor
     @AllArgsConstructor
     public static class Comment {
+        private Long commentId;
         private String nickname;
         private String instagramId;
         private String profileImageUrl;
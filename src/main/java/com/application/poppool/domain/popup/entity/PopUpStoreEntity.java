@@ -7,18 +7,29 @@ import com.application.poppool.domain.image.entity.PopUpStoreImageEntity;
 import com.application.poppool.domain.location.entity.LocationEntity;
 import com.application.poppool.domain.user.entity.BookMarkPopUpStoreEntity;
 import com.application.poppool.global.audit.BaseAdminEntity;
+import com.application.poppool.global.cache.EntityCacheRegion;
 import com.application.poppool.global.converter.BooleanToYNConverter;
 import com.application.poppool.global.converter.CategoryConverter;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * 팝업스토어 엔티티 (2차 캐시)
+ * 조회 수, 찜 수, 코멘트 수는 엔티티를 거치지 않고 JDBC 로 증감하므로(PopUpStoreCounterRepository) 엔티티 수정 시 덮어쓰지 않으며,
+ * 캐시된 엔티티의 카운터 값은 최신이 아닐 수 있다.
+ */
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegion.POPUP_STORE)
 @Table(name = "popup_store", uniqueConstraints = {
         @UniqueConstraint(columnNames = {"LOCATION_ID"})
+}, indexes = {
+        @Index(name = "IDX_POPUP_STORE_CLOSED_END", columnList = "CLOSED_YN, END_DT")
 })
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -58,15 +69,15 @@ public class PopUpStoreEntity extends BaseAdminEntity {
     @Convert(converter = BooleanToYNConverter.class)
     private boolean closeYn;
 
-    @Column(name = "VIEW_CNT")
+    @Column(name = "VIEW_CNT", updatable = false)
     @Builder.Default
     private long viewCount = 0;
 
-    @Column(name = "BOOKMARK_CNT")
+    @Column(name = "BOOKMARK_CNT", updatable = false)
     @Builder.Default
     private long bookmarkCount = 0;
 
-    @Column(name = "COMMNET_CNT")
+    @Column(name = "COMMNET_CNT", updatable = false)
     @Builder.Default
     private long commentCount = 0;
 
@@ -74,9 +85,6 @@ public class PopUpStoreEntity extends BaseAdminEntity {
     @JoinColumn(name = "LOCATION_ID", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private LocationEntity location;
 
-    @Version // 낙관적 락 (버전 정보로 동시성 이슈 해결)
-    private Long version;
-
     @Builder.Default
     @OneToMany(mappedBy = "popUpStore")
     private List<CommentEntity> comments = new ArrayList<>();
@@ -86,6 +94,7 @@ public class PopUpStoreEntity extends BaseAdminEntity {
     private List<BookMarkPopUpStoreEntity> bookMarkPopUpStores = new ArrayList<>();
 
     @Builder.Default
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegion.POPUP_STORE_IMAGES)
     @OneToMany(mappedBy = "popUpStore", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<PopUpStoreImageEntity> images = new ArrayList<>();
 
@@ -102,26 +111,17 @@ public class PopUpStoreEntity extends BaseAdminEntity {
         this.startDate = request.getStartDate();
         this.endDate = request.getEndDate();
         this.mainImageUrl = request.getMainImageUrl();
+        this.closeYn = isEnded(LocalDateTime.now());
     }
 
-    public void incrementViewCount() {
-        this.viewCount++;
-    }
-
-    public void incrementCommentCount() {
-        this.commentCount++;
-    }
-
-    public void decrementCommentCount() {
-        this.commentCount--;
-    }
-
-    public void incrementBookmarkCount() {
-        this.bookmarkCount++;
-    }
-
-    public void decrementBookmarkCount() {
-        this.bookmarkCount--;
+    /**
+     * 종료일이 지났는지 여부
+     *
+     * @param now
+     * @return
+     */
+    public boolean isEnded(LocalDateTime now) {
+        return endDate != null && endDate.isBefore(now);
     }
 
 }
@@ -0,0 +1,33 @@
+package com.application.poppool.domain.popup.event;
+
+import com.application.poppool.domain.category.enums.Category;
+import com.application.poppool.domain.popup.entity.PopUpStoreEntity;
+import com.application.poppool.domain.user.entity.UserEntity;
+import com.application.poppool.domain.user.enums.Gender;
+
+/**
+ * 유저의 팝업스토어 활동(조회, 코멘트, 찜) 이벤트
+ * 맞춤 팝업 세그먼트 랭킹을 증분 갱신하는 데 사용된다.
+ *
+ * @param popUpStoreId
+ * @param category     팝업스토어 카테고리
+ * @param age          유저 나이
+ * @param gender       유저 성별
+ * @param activityType
+ * @param delta        증감 값 (찜 취소, 코멘트 삭제 시 -1)
+ */
+public record PopUpStoreActivityEvent(Long popUpStoreId, Category category, int age, Gender gender,
+                                      ActivityType activityType, long delta) {
+
+    public static PopUpStoreActivityEvent of(UserEntity user, PopUpStoreEntity popUpStore, ActivityType activityType, long delta) {
+        return new PopUpStoreActivityEvent(popUpStore.getId(), popUpStore.getCategory(), user.getAge(), user.getGender(),
+                activityType, delta);
+    }
+
+    public enum ActivityType {
+        VIEW,
+        COMMENT,
+        BOOKMARK
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.application.poppool.domain.popup.event;
+
+/**
+ * 팝업스토어 등록/수정/삭제/종료 이벤트
+ * 관리자 페이지에서 팝업스토어가 변경되었거나 스케줄러가 팝업을 종료/아카이브 처리했을 때 발행되며,
+ * 메모리에 올려둔 팝업 데이터를 갱신하는 데 사용된다. (일괄 처리인 경우 popUpStoreId 는 null)
+ * 다른 서버에는 CacheInvalidationBus 를 통해 전달되어 같은 이벤트로 다시 발행된다.
+ *
+ * @param popUpStoreId
+ * @param changeType
+ * @param remote       다른 서버에서 전달받은 이벤트 여부 (다시 전파하지 않음)
+ */
+public record PopUpStoreChangedEvent(Long popUpStoreId, ChangeType changeType, boolean remote) {
+
+    public PopUpStoreChangedEvent(Long popUpStoreId, ChangeType changeType) {
+        this(popUpStoreId, changeType, false);
+    }
+
+    public enum ChangeType {
+        CREATE,
+        UPDATE,
+        DELETE,
+        CLOSE
+    }
+
+}
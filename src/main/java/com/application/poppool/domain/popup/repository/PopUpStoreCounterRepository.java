@@ -0,0 +1,80 @@
+package com.application.poppool.domain.popup.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 팝업스토어 찜 수, 코멘트 수 레포지토리
+ * 팝업스토어 엔티티는 2차 캐시에 올라가므로, 카운터는 엔티티(JPQL 벌크 UPDATE 시 캐시 영역 전체 무효화)를 거치지 않고
+ * JDBC 로 직접 증감하고 조회한다. (엔티티의 카운터 필드는 캐시된 값이라 최신이 아닐 수 있음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PopUpStoreCounterRepository {
+
+    private static final String INCREMENT_BOOKMARK_COUNT_SQL =
+            "UPDATE popup_store SET BOOKMARK_CNT = BOOKMARK_CNT + 1 WHERE POPUP_STORE_ID = ?";
+
+    private static final String DECREMENT_BOOKMARK_COUNT_SQL =
+            "UPDATE popup_store SET BOOKMARK_CNT = BOOKMARK_CNT - 1 WHERE POPUP_STORE_ID = ? AND BOOKMARK_CNT > 0";
+
+    private static final String INCREMENT_COMMENT_COUNT_SQL =
+            "UPDATE popup_store SET COMMNET_CNT = COMMNET_CNT + 1 WHERE POPUP_STORE_ID = ?";
+
+    private static final String DECREMENT_COMMENT_COUNT_SQL =
+            "UPDATE popup_store SET COMMNET_CNT = COMMNET_CNT - 1 WHERE POPUP_STORE_ID = ? AND COMMNET_CNT > 0";
+
+    private static final String FIND_COMMENT_COUNT_SQL =
+            "SELECT COMMNET_CNT FROM popup_store WHERE POPUP_STORE_ID = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 팝업스토어 찜 수 + 1 (단일 UPDATE 문으로 원자적 증가)
+     */
+    @Transactional
+    public int incrementBookmarkCount(Long popUpStoreId) {
+        return jdbcTemplate.update(INCREMENT_BOOKMARK_COUNT_SQL, popUpStoreId);
+    }
+
+    /**
+     * 팝업스토어 찜 수 - 1 (0 미만으로 내려가지 않음)
+     */
+    @Transactional
+    public int decrementBookmarkCount(Long popUpStoreId) {
+        return jdbcTemplate.update(DECREMENT_BOOKMARK_COUNT_SQL, popUpStoreId);
+    }
+
+    /**
+     * 팝업스토어 코멘트 수 + 1
+     */
+    @Transactional
+    public int incrementCommentCount(Long popUpStoreId) {
+        return jdbcTemplate.update(INCREMENT_COMMENT_COUNT_SQL, popUpStoreId);
+    }
+
+    /**
+     * 팝업스토어 코멘트 수 - 1 (0 미만으로 내려가지 않음)
+     */
+    @Transactional
+    public int decrementCommentCount(Long popUpStoreId) {
+        return jdbcTemplate.update(DECREMENT_COMMENT_COUNT_SQL, popUpStoreId);
+    }
+
+    /**
+     * 팝업스토어 코멘트 수 조회 (2차 캐시를 거치지 않은 최신 값)
+     *
+     * @param popUpStoreId
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public long getCommentCount(Long popUpStoreId) {
+        List<Long> commentCounts = jdbcTemplate.queryForList(FIND_COMMENT_COUNT_SQL, Long.class, popUpStoreId);
+        return commentCounts.isEmpty() || commentCounts.get(0) == null ? 0L : commentCounts.get(0);
+    }
+
+}
@@ -0,0 +1,116 @@
+package com.application.poppool.domain.popup.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 팝업스토어 생명주기(종료 처리, 아카이브) 레포지토리
+ * 엔티티를 거치지 않고 CLOSED_YN 을 일괄 갱신하며, 오래전에 종료된 팝업과 관련 데이터를 *_archive 테이블로 옮긴다.
+ * 테이블/인덱스 생성과 CLOSED_YN 초기화는 스키마 스크립트(db/popup_lifecycle.sql)에서 수행한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PopUpStoreLifecycleRepository {
+
+    /**
+     * 아카이브 대상 테이블 (옮기는 순서대로, 코멘트 하위 데이터와 위치는 팝업/코멘트보다 먼저 옮김)
+     * 각 항목은 테이블명, 옮기는 컬럼 목록, 팝업스토어 ID 목록(?)으로 대상 행을 찾는 조건이다.
+     * 아카이브 테이블은 db/popup_lifecycle.sql 로 미리 생성하며, 컬럼을 명시하므로 원본 테이블에 컬럼이 추가되어도 INSERT 가 깨지지 않는다.
+     */
+    private static final List<ArchiveTable> ARCHIVE_TABLES = List.of(
+            new ArchiveTable("comment_image",
+                    "IMAGE_ID, COMMENT_ID, IMAGE_URL, CREATOR, UPDATER, CREATE_DTM, UPDATE_DTM",
+                    "COMMENT_ID IN (SELECT COMMENT_ID FROM comment WHERE POPUP_STORE_ID IN (%s))"),
+            new ArchiveTable("likes",
+                    "LIKE_ID, USER_ID, COMMENT_ID, CREATOR, UPDATER, CREATE_DTM, UPDATE_DTM",
+                    "COMMENT_ID IN (SELECT COMMENT_ID FROM comment WHERE POPUP_STORE_ID IN (%s))"),
+            new ArchiveTable("comment",
+                    "COMMENT_ID, CONTENT, LIKE_COUNT, TYPE, USER_ID, POPUP_STORE_ID, CREATOR, UPDATER, CREATE_DTM, UPDATE_DTM",
+                    "POPUP_STORE_ID IN (%s)"),
+            new ArchiveTable("user_popup_store_view",
+                    "USER_POPUP_STORE_VIEW_ID, VIEWED_AT, VIEW_CNT, COMMENT_CNT, BOOKMARK_CNT, USER_ID, POPUP_STORE_ID",
+                    "POPUP_STORE_ID IN (%s)"),
+            new ArchiveTable("user_bookmark_popup_store",
+                    "BOOKMARK_POPUP_STORE_ID, USER_ID, POPUP_STORE_ID, CREATOR, UPDATER, CREATE_DTM, UPDATE_DTM",
+                    "POPUP_STORE_ID IN (%s)"),
+            new ArchiveTable("popup_store_image",
+                    "IMAGE_ID, POPUP_STORE_ID, URL, CREATOR, UPDATER, CREATE_DTM, UPDATE_DTM",
+                    "POPUP_STORE_ID IN (%s)"),
+            new ArchiveTable("locations",
+                    "LOCATION_ID, LATITUDE, LONGITUDE, MARKER_TITLE, MARKER_SNIPPET, CREATOR, UPDATER, CREATE_DTM, UPDATE_DTM",
+                    "LOCATION_ID IN (SELECT LOCATION_ID FROM popup_store WHERE POPUP_STORE_ID IN (%s))"),
+            new ArchiveTable("popup_store",
+                    "POPUP_STORE_ID, POPUP_STORE_NAME, POPUP_STORE_DESC, MAIN_IMAGE_URL, START_DT, END_DT, ADDRESS, CATEGORY, " +
+                            "CLOSED_YN, VIEW_CNT, BOOKMARK_CNT, COMMNET_CNT, LOCATION_ID, CREATOR, UPDATER, CREATE_DTM, UPDATE_DTM",
+                    "POPUP_STORE_ID IN (%s)")
+    );
+
+    private static final String CLOSE_ENDED_POPUP_STORES_SQL =
+            "UPDATE popup_store SET CLOSED_YN = 'Y' WHERE CLOSED_YN = 'N' AND END_DT < ?";
+
+    private static final String FIND_ARCHIVE_TARGET_IDS_SQL =
+            "SELECT POPUP_STORE_ID FROM popup_store WHERE CLOSED_YN = 'Y' AND END_DT < ? ORDER BY END_DT LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 종료일이 지난 팝업 종료 처리 (CLOSED_YN = 'Y')
+     *
+     * @param now
+     * @return 종료 처리된 팝업 수
+     */
+    @Transactional
+    public int closeEndedPopUpStores(LocalDateTime now) {
+        return jdbcTemplate.update(CLOSE_ENDED_POPUP_STORES_SQL, Timestamp.valueOf(now));
+    }
+
+    /**
+     * 아카이브 대상 팝업 ID 조회 (종료일이 오래된 순)
+     *
+     * @param endedBefore 이 시각 이전에 종료된 팝업
+     * @param limit
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findArchiveTargetIds(LocalDateTime endedBefore, int limit) {
+        return jdbcTemplate.queryForList(FIND_ARCHIVE_TARGET_IDS_SQL, Long.class, Timestamp.valueOf(endedBefore), limit);
+    }
+
+    /**
+     * 팝업과 관련 데이터(코멘트, 코멘트 이미지, 좋아요, 뷰, 찜, 이미지, 위치)를 아카이브 테이블로 이동
+     * 한 청크를 하나의 트랜잭션으로 처리하므로 중간에 실패하면 청크 전체가 원래 테이블에 남는다.
+     *
+     * @param popUpStoreIds
+     */
+    @Transactional
+    public void archive(List<Long> popUpStoreIds) {
+        if (popUpStoreIds.isEmpty()) {
+            return;
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(popUpStoreIds.size(), "?"));
+        Object[] args = popUpStoreIds.toArray();
+
+        for (ArchiveTable archiveTable : ARCHIVE_TABLES) {
+            String condition = String.format(archiveTable.condition(), placeholders);
+            jdbcTemplate.update("INSERT INTO " + archiveTable.archiveName() + " (" + archiveTable.columns() + ") SELECT " + archiveTable.columns()
+                    + " FROM " + archiveTable.name() + " WHERE " + condition, args);
+            jdbcTemplate.update("DELETE FROM " + archiveTable.name() + " WHERE " + condition, args);
+        }
+    }
+
+    private record ArchiveTable(String name, String columns, String condition) {
+
+        private String archiveName() {
+            return name + "_archive";
+        }
+    }
+
+}
@@ -11,4 +11,5 @@ import java.util.Optional;
 public interface PopUpStoreRepository extends JpaRepository<PopUpStoreEntity, Long>, PopUpStoreRepositoryCustom {
     @NonNull
     Optional<PopUpStoreEntity> findById(@NonNull Long popUpStoreId);
+
 }
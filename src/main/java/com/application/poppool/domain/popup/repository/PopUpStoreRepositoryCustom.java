@@ -2,17 +2,21 @@ package com.application.poppool.domain.popup.repository;
 
 import com.application.poppool.domain.admin.popup.dto.response.GetAdminPopUpStoreListResponse;
 import com.application.poppool.domain.category.enums.Category;
+import com.application.poppool.domain.home.dto.info.RankingPopUpStoreInfo;
+import com.application.poppool.domain.home.dto.info.SegmentScoreInfo;
 import com.application.poppool.domain.home.dto.response.GetHomeInfoResponse;
+import com.application.poppool.domain.location.dto.info.MapMarkerInfo;
 import com.application.poppool.domain.popup.dto.resonse.GetClosedPopUpStoreListResponse;
 import com.application.poppool.domain.popup.dto.resonse.GetOpenPopUpStoreListResponse;
 import com.application.poppool.domain.popup.dto.resonse.GetPopUpStoreDetailResponse;
 import com.application.poppool.domain.popup.dto.resonse.GetPopUpStoreDirectionResponse;
-import com.application.poppool.domain.popup.entity.PopUpStoreEntity;
 import com.application.poppool.domain.search.dto.SearchPopUpStoreResponse;
-import com.application.poppool.domain.user.entity.UserEntity;
+import com.application.poppool.domain.search.dto.info.SearchDocumentInfo;
+import com.application.poppool.global.utils.KeysetCursor;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface PopUpStoreRepositoryCustom {
@@ -20,11 +24,14 @@ public interface PopUpStoreRepositoryCustom {
     List<Category> getUserInterestCategoryList(String userId);
 
     /**
-     * 맞춤 팝업 리스트
+     * 맞춤 팝업 랭킹 - 진행 중인 팝업 리스트 (전체 조회/코멘트/찜 수 포함)
      */
-    List<GetHomeInfoResponse.PopUpStore> getCustomPopUpStoreList(UserEntity user, Pageable pageable);
+    List<RankingPopUpStoreInfo> getRankingPopUpStoreList();
 
-    long countCustomPopUpStores(UserEntity user);
+    /**
+     * 맞춤 팝업 랭킹 - 나이, 성별, 팝업스토어별 조회/코멘트/찜 수 집계
+     */
+    List<SegmentScoreInfo> getSegmentScoreList();
 
     /**
      * 인기 팝업 리스트
@@ -36,7 +43,7 @@ public interface PopUpStoreRepositoryCustom {
     /**
      * 신규 팝업 리스트
      */
-    List<GetHomeInfoResponse.PopUpStore> getNewPopUpStoreList(LocalDateTime currentDate, Pageable pageable);
+    List<GetHomeInfoResponse.PopUpStore> getNewPopUpStoreList(LocalDateTime currentDate, Pageable pageable, KeysetCursor cursor);
 
     long countNewPopUpStores(LocalDateTime currentDate);
 
@@ -45,26 +52,37 @@ public interface PopUpStoreRepositoryCustom {
      */
     List<GetPopUpStoreDetailResponse.PopUpStore> getSimilarPopUpStoreList(Long popUpStoreId, Category category);
 
+    /**
+     * 카테고리별 진행 중인 팝업 상위 리스트 조회 (비슷한 팝업 캐시용)
+     */
+    List<GetPopUpStoreDetailResponse.PopUpStore> getTopOpenPopUpStoreListByCategory(Category category, int limit);
+
     /**
      * 검색창 하단 팝업 스토어 전체 조회
      */
-    List<GetOpenPopUpStoreListResponse.PopUpStore> getOpenPopUpStoreList(List<Category> categories, Pageable pageable);
+    List<GetOpenPopUpStoreListResponse.PopUpStore> getOpenPopUpStoreList(List<Category> categories, Pageable pageable, KeysetCursor cursor);
 
     long countOpenPopUpStores(List<Category> categories);
 
-    List<GetClosedPopUpStoreListResponse.PopUpStore> getClosedPopUpStoreList(List<Category> categories, Pageable pageable);
+    List<GetClosedPopUpStoreListResponse.PopUpStore> getClosedPopUpStoreList(List<Category> categories, Pageable pageable, KeysetCursor cursor);
 
     long countClosedPopUpStores(List<Category> categories);
 
     // 팝업스토어 검색
-    List<SearchPopUpStoreResponse.PopUpStore> searchPopUpStore(String query);
+    List<SearchPopUpStoreResponse.PopUpStore> searchPopUpStore(String query, int limit);
+
+    List<SearchDocumentInfo> getSearchDocumentList();
 
     /**
      * 지도
      */
-    List<PopUpStoreEntity> searchPopUpStoreByMap(List<Category> categories, String query);
+    List<MapMarkerInfo> searchPopUpStoreByMap(List<Category> categories, String query, int limit);
+
+    List<MapMarkerInfo> getViewBoundMarkerList(List<Category> categories, double northEastLat, double northEastLon, double southWestLat, double southWestLon);
+
+    List<MapMarkerInfo> getMapMarkerList();
 
-    List<PopUpStoreEntity> getViewBoundPopUpStoreList(List<Category> categories, double northEastLat, double northEastLon, double southWestLat, double southWestLon);
+    List<MapMarkerInfo> getMapMarkerListByIdIn(Collection<Long> popUpStoreIds);
 
 
     /**
@@ -75,7 +93,7 @@ public interface PopUpStoreRepositoryCustom {
     /**
      * 관리자 페이지 팝업 스토어 리스트 조회
      */
-    List<GetAdminPopUpStoreListResponse.PopUpStore> getAdminPopUpStoreList(String query, Pageable pageable);
+    List<GetAdminPopUpStoreListResponse.PopUpStore> getAdminPopUpStoreList(String query, Pageable pageable, KeysetCursor cursor);
 
     long countAdminPopUpStores(String query);
 }
@@ -2,32 +2,32 @@ package com.application.poppool.domain.popup.repository;
 
 import com.application.poppool.domain.admin.popup.dto.response.GetAdminPopUpStoreListResponse;
 import com.application.poppool.domain.category.enums.Category;
+import com.application.poppool.domain.home.dto.info.RankingPopUpStoreInfo;
+import com.application.poppool.domain.home.dto.info.SegmentScoreInfo;
 import com.application.poppool.domain.home.dto.response.GetHomeInfoResponse;
+import com.application.poppool.domain.location.dto.info.MapMarkerInfo;
 import com.application.poppool.domain.popup.dto.resonse.GetClosedPopUpStoreListResponse;
 import com.application.poppool.domain.popup.dto.resonse.GetOpenPopUpStoreListResponse;
 import com.application.poppool.domain.popup.dto.resonse.GetPopUpStoreDetailResponse;
 import com.application.poppool.domain.popup.dto.resonse.GetPopUpStoreDirectionResponse;
-import com.application.poppool.domain.popup.entity.PopUpStoreEntity;
-import com.application.poppool.domain.popup.entity.QPopUpStoreEntity;
 import com.application.poppool.domain.search.dto.SearchPopUpStoreResponse;
-import com.application.poppool.domain.user.entity.UserEntity;
-import com.application.poppool.domain.user.enums.Gender;
-import com.application.poppool.global.utils.AgeGroupUtils;
+import com.application.poppool.domain.search.dto.info.SearchDocumentInfo;
+import com.application.poppool.global.utils.KeysetCursor;
 import com.application.poppool.global.utils.QueryDslUtils;
-import com.querydsl.core.types.ExpressionUtils;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.QBean;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.DateTimeExpression;
 import com.querydsl.core.types.dsl.DateTimeTemplate;
 import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import static com.application.poppool.domain.category.entity.QCategoryEntity.categoryEntity;
@@ -54,69 +54,41 @@ public class PopUpStoreRepositoryImpl implements PopUpStoreRepositoryCustom {
     }
 
     @Override
-    public List<GetHomeInfoResponse.PopUpStore> getCustomPopUpStoreList(UserEntity user, Pageable pageable) {
-        QPopUpStoreEntity popUpStoreEntitySub = new QPopUpStoreEntity("popUpStoreEntitySub");
-        List<Category> userInterestCategoryList = getUserInterestCategoryList(user.getUserId());
-
-        return queryFactory.select(Projections.bean(GetHomeInfoResponse.PopUpStore.class,
+    public List<RankingPopUpStoreInfo> getRankingPopUpStoreList() {
+        return queryFactory.select(Projections.bean(RankingPopUpStoreInfo.class,
                         popUpStoreEntity.id.as("id"),
-                        ExpressionUtils.as(JPAExpressions.select(popUpStoreEntitySub.category)
-                                        .from(popUpStoreEntitySub)
-                                        .where(popUpStoreEntitySub.id.eq(popUpStoreEntity.id))
-                                , "category"),
-                        ExpressionUtils.as(JPAExpressions.select(popUpStoreEntitySub.name)
-                                        .from(popUpStoreEntitySub)
-                                        .where(popUpStoreEntitySub.id.eq(popUpStoreEntity.id))
-                                , "name"),
-                        ExpressionUtils.as(JPAExpressions.select(popUpStoreEntitySub.address)
-                                        .from(popUpStoreEntitySub)
-                                        .where(popUpStoreEntitySub.id.eq(popUpStoreEntity.id))
-                                , "address"),
-                        ExpressionUtils.as(JPAExpressions.select(popUpStoreEntitySub.mainImageUrl)
-                                        .from(popUpStoreEntitySub)
-                                        .where(popUpStoreEntitySub.id.eq(popUpStoreEntity.id))
-                                , "mainImageUrl"),
-                        ExpressionUtils.as(JPAExpressions.select(popUpStoreEntitySub.startDate)
-                                        .from(popUpStoreEntitySub)
-                                        .where(popUpStoreEntitySub.id.eq(popUpStoreEntity.id))
-                                , "startDate"),
-                        ExpressionUtils.as(JPAExpressions.select(popUpStoreEntitySub.endDate)
-                                        .from(popUpStoreEntitySub)
-                                        .where(popUpStoreEntitySub.id.eq(popUpStoreEntity.id))
-                                , "endDate")
+                        popUpStoreEntity.category.as("category"),
+                        popUpStoreEntity.name.as("name"),
+                        popUpStoreEntity.address.as("address"),
+                        popUpStoreEntity.mainImageUrl.as("mainImageUrl"),
+                        popUpStoreEntity.startDate.as("startDate"),
+                        popUpStoreEntity.endDate.as("endDate"),
+                        popUpStoreEntity.viewCount.as("viewCount"),
+                        popUpStoreEntity.commentCount.as("commentCount"),
+                        popUpStoreEntity.bookmarkCount.as("bookmarkCount")
                 ))
                 .from(popUpStoreEntity)
-                .leftJoin(userPopUpStoreViewEntity).on(userPopUpStoreViewEntity.popUpStore.eq(popUpStoreEntity))
-                .leftJoin(userPopUpStoreViewEntity.user, userEntity)
-                .on(ageGroupEq(user.getAge()),
-                        genderEq(user.getGender()))
-                .where(categoryIn(userInterestCategoryList),
-                        isOpenPopUp())
-                .groupBy(popUpStoreEntity.id)
-                .orderBy(popUpStoreEntity.viewCount.desc(),
-                        popUpStoreEntity.commentCount.desc(),
-                        popUpStoreEntity.bookmarkCount.desc(),
-                        userPopUpStoreViewEntity.viewCount.sum().desc(),
-                        userPopUpStoreViewEntity.commentCount.sum().desc(),
-                        userPopUpStoreViewEntity.bookmarkCount.sum().desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .where(isOpenPopUp())
                 .fetch();
     }
 
     @Override
-    public long countCustomPopUpStores(UserEntity user) {
-        List<Category> userInterestCategoryList = getUserInterestCategoryList(user.getUserId());
-        Long count = queryFactory.select(popUpStoreEntity.countDistinct())
-                .from(popUpStoreEntity)
-                .leftJoin(userPopUpStoreViewEntity).on(userPopUpStoreViewEntity.popUpStore.eq(popUpStoreEntity))
-                .leftJoin(userPopUpStoreViewEntity.user, userEntity)
-                .on(ageGroupEq(user.getAge()),
-                        genderEq(user.getGender()))
-                .where(categoryIn(userInterestCategoryList),
-                        isOpenPopUp())
-                .fetchOne();
-        return count != null ? count : 0L;
+    public List<SegmentScoreInfo> getSegmentScoreList() {
+        return queryFactory.select(Projections.bean(SegmentScoreInfo.class,
+                        userEntity.age.as("age"),
+                        userEntity.gender.as("gender"),
+                        popUpStoreEntity.category.as("category"),
+                        popUpStoreEntity.id.as("popUpStoreId"),
+                        userPopUpStoreViewEntity.viewCount.sum().as("viewCount"),
+                        userPopUpStoreViewEntity.commentCount.sum().as("commentCount"),
+                        userPopUpStoreViewEntity.bookmarkCount.sum().as("bookmarkCount")
+                ))
+                .from(userPopUpStoreViewEntity)
+                .join(userPopUpStoreViewEntity.user, userEntity)
+                .join(userPopUpStoreViewEntity.popUpStore, popUpStoreEntity)
+                .where(isOpenPopUp())
+                .groupBy(userEntity.age, userEntity.gender, popUpStoreEntity.category, popUpStoreEntity.id)
+                .fetch();
     }
 
     @Override
@@ -126,7 +98,7 @@ public class PopUpStoreRepositoryImpl implements PopUpStoreRepositoryCustom {
                         popUpStoreEntity.category.as("category"),
                         popUpStoreEntity.name.as("name"),
                         popUpStoreEntity.address.as("address"),
-                        popUpStoreEntity.mainImageUrl.as("mailImageUrl"),
+                        popUpStoreEntity.mainImageUrl.as("mainImageUrl"),
                         popUpStoreEntity.startDate.as("startDate"),
                         popUpStoreEntity.endDate.as("endDate")
                 ))
@@ -149,7 +121,7 @@ public class PopUpStoreRepositoryImpl implements PopUpStoreRepositoryCustom {
     }
 
     @Override
-    public List<GetHomeInfoResponse.PopUpStore> getNewPopUpStoreList(LocalDateTime currentDate, Pageable pageable) {
+    public List<GetHomeInfoResponse.PopUpStore> getNewPopUpStoreList(LocalDateTime currentDate, Pageable pageable, KeysetCursor cursor) {
 
         // DATE_ADD SQL 함수를 사용하여 14일을 더한 날짜를 계산
         DateTimeExpression<LocalDateTime> newPopUpDueDate = getNewPopUpDueDate();
@@ -159,15 +131,16 @@ public class PopUpStoreRepositoryImpl implements PopUpStoreRepositoryCustom {
                         popUpStoreEntity.category.as("category"),
                         popUpStoreEntity.name.as("name"),
                         popUpStoreEntity.address.as("address"),
-                        popUpStoreEntity.mainImageUrl.as("mailImageUrl"),
+                        popUpStoreEntity.mainImageUrl.as("mainImageUrl"),
                         popUpStoreEntity.startDate.as("startDate"),
                         popUpStoreEntity.endDate.as("endDate")
                 ))
                 .from(popUpStoreEntity)
                 .where(isNewPopUpStore(newPopUpDueDate, currentDate),
-                        isOpenPopUp())
-                .orderBy(QueryDslUtils.getOrderSpecifiers(pageable, popUpStoreEntity).toArray(OrderSpecifier[]::new))
-                .offset(pageable.getOffset())
+                        isOpenPopUp(),
+                        QueryDslUtils.getKeysetPredicate(pageable, popUpStoreEntity, cursor))
+                .orderBy(QueryDslUtils.getKeysetOrderSpecifiers(pageable, popUpStoreEntity).toArray(OrderSpecifier[]::new))
+                .offset(cursor == null ? pageable.getOffset() : 0) // 커서가 있으면 offset 없이 커서 이후부터 조회
                 .limit(pageable.getPageSize())
                 .fetch();
     }
@@ -180,30 +153,56 @@ public class PopUpStoreRepositoryImpl implements PopUpStoreRepositoryCustom {
 
         Long count = queryFactory.select(popUpStoreEntity.count())
                 .from(popUpStoreEntity)
-                .where(isNewPopUpStore(newPopUpDueDate, currentDate))
+                .where(isNewPopUpStore(newPopUpDueDate, currentDate),
+                        isOpenPopUp())
                 .fetchOne();
         return count != null ? count : 0L;
     }
 
     @Override
     public List<GetPopUpStoreDetailResponse.PopUpStore> getSimilarPopUpStoreList(Long popUpStoreId, Category category) {
-        return queryFactory.select(Projections.bean(GetPopUpStoreDetailResponse.PopUpStore.class,
-                        popUpStoreEntity.id.as("id"),
-                        popUpStoreEntity.name.as("name"),
-                        popUpStoreEntity.mainImageUrl.as("mainImageUrl"),
-                        popUpStoreEntity.endDate.as("endDate")
-                ))
+        return queryFactory.select(similarPopUpStoreProjection())
                 .from(popUpStoreEntity)
                 .where(categoryEq(category), // 같은 카테고리
                         isOpenPopUp(),  // 현재 진행 중인 팝업
                         popUpStoreIdNe(popUpStoreId)) // 현재 조회한 팝업은 제외
-                .orderBy(popUpStoreEntity.viewCount.desc(), popUpStoreEntity.commentCount.desc(), popUpStoreEntity.bookmarkCount.desc())
+                .orderBy(similarPopUpStoreOrder())
                 .limit(3) // 최대 3개
                 .fetch();
     }
 
     @Override
-    public List<GetOpenPopUpStoreListResponse.PopUpStore> getOpenPopUpStoreList(List<Category> categories, Pageable pageable) {
+    public List<GetPopUpStoreDetailResponse.PopUpStore> getTopOpenPopUpStoreListByCategory(Category category, int limit) {
+        return queryFactory.select(similarPopUpStoreProjection())
+                .from(popUpStoreEntity)
+                .where(categoryEq(category),
+                        isOpenPopUp())
+                .orderBy(similarPopUpStoreOrder())
+                .limit(limit)
+                .fetch();
+    }
+
+    private QBean<GetPopUpStoreDetailResponse.PopUpStore> similarPopUpStoreProjection() {
+        return Projections.bean(GetPopUpStoreDetailResponse.PopUpStore.class,
+                popUpStoreEntity.id.as("id"),
+                popUpStoreEntity.name.as("name"),
+                popUpStoreEntity.mainImageUrl.as("mainImageUrl"),
+                popUpStoreEntity.endDate.as("endDate"));
+    }
+
+    /**
+     * 비슷한 팝업 정렬 기준 (조회 수, 코멘트 수, 찜 수)
+     */
+    private OrderSpecifier<?>[] similarPopUpStoreOrder() {
+        return new OrderSpecifier<?>[]{
+                popUpStoreEntity.viewCount.desc(),
+                popUpStoreEntity.commentCount.desc(),
+                popUpStoreEntity.bookmarkCount.desc(),
+                popUpStoreEntity.id.desc()};
+    }
+
+    @Override
+    public List<GetOpenPopUpStoreListResponse.PopUpStore> getOpenPopUpStoreList(List<Category> categories, Pageable pageable, KeysetCursor cursor) {
         return queryFactory.select(Projections.bean(GetOpenPopUpStoreListResponse.PopUpStore.class,
                         popUpStoreEntity.id.as("id"),
                         popUpStoreEntity.category.as("category"),
@@ -215,9 +214,10 @@ public class PopUpStoreRepositoryImpl implements PopUpStoreRepositoryCustom {
                 ))
                 .from(popUpStoreEntity)
                 .where(categoryIn(categories),
-                        isOpenPopUp())
-                .orderBy(QueryDslUtils.getOrderSpecifiers(pageable, popUpStoreEntity).toArray(OrderSpecifier[]::new))
-                .offset(pageable.getOffset())
+                        isOpenPopUp(),
+                        QueryDslUtils.getKeysetPredicate(pageable, popUpStoreEntity, cursor))
+                .orderBy(QueryDslUtils.getKeysetOrderSpecifiers(pageable, popUpStoreEntity).toArray(OrderSpecifier[]::new))
+                .offset(cursor == null ? pageable.getOffset() : 0) // 커서가 있으면 offset 없이 커서 이후부터 조회
                 .limit(pageable.getPageSize())
                 .fetch();
     }
@@ -233,7 +233,7 @@ public class PopUpStoreRepositoryImpl implements PopUpStoreRepositoryCustom {
     }
 
     @Override
-    public List<GetClosedPopUpStoreListResponse.PopUpStore> getClosedPopUpStoreList(List<Category> categories, Pageable pageable) {
+    public List<GetClosedPopUpStoreListResponse.PopUpStore> getClosedPopUpStoreList(List<Category> categories, Pageable pageable, KeysetCursor cursor) {
         return queryFactory.select(Projections.bean(GetClosedPopUpStoreListResponse.PopUpStore.class,
                         popUpStoreEntity.id.as("id"),
                         popUpStoreEntity.category.as("category"),
@@ -245,9 +245,10 @@ public class PopUpStoreRepositoryImpl implements PopUpStoreRepositoryCustom {
                 ))
                 .from(popUpStoreEntity)
                 .where(categoryIn(categories),
-                        isClosedPopUp())
-                .orderBy(QueryDslUtils.getOrderSpecifiers(pageable, popUpStoreEntity).toArray(OrderSpecifier[]::new))
-                .offset(pageable.getOffset())
+                        isClosedPopUp(),
+                        QueryDslUtils.getKeysetPredicate(pageable, popUpStoreEntity, cursor))
+                .orderBy(QueryDslUtils.getKeysetOrderSpecifiers(pageable, popUpStoreEntity).toArray(OrderSpecifier[]::new))
+                .offset(cursor == null ? pageable.getOffset() : 0) // 커서가 있으면 offset 없이 커서 이후부터 조회
                 .limit(pageable.getPageSize())
                 .fetch();
     }
@@ -274,7 +275,7 @@ public class PopUpStoreRepositoryImpl implements PopUpStoreRepositoryCustom {
     }
 
     @Override
-    public List<SearchPopUpStoreResponse.PopUpStore> searchPopUpStore(String query) {
+    public List<SearchPopUpStoreResponse.PopUpStore> searchPopUpStore(String query, int limit) {
         return queryFactory.select(Projections.bean(SearchPopUpStoreResponse.PopUpStore.class,
                         popUpStoreEntity.id.as("id"),
                         popUpStoreEntity.name.as("name"),
@@ -285,29 +286,67 @@ public class PopUpStoreRepositoryImpl implements PopUpStoreRepositoryCustom {
                                 .or(addressContains(query)),
                         isOpenPopUp())
                 .orderBy(popUpStoreEntity.createDateTime.desc())
+                .limit(limit)
                 .fetch();
     }
 
     @Override
-    public List<PopUpStoreEntity> searchPopUpStoreByMap(List<Category> categories, String query) {
-        return queryFactory.selectFrom(popUpStoreEntity)
-                .innerJoin(popUpStoreEntity.location, locationEntity).fetchJoin()
+    public List<MapMarkerInfo> searchPopUpStoreByMap(List<Category> categories, String query, int limit) {
+        return queryFactory.select(mapMarkerProjection())
+                .from(popUpStoreEntity)
+                .innerJoin(popUpStoreEntity.location, locationEntity)
                 .where(categoryIn(categories),
                         nameContains(query),
                         isOpenPopUp())
                 .orderBy(popUpStoreEntity.createDateTime.desc())
+                .limit(limit)
                 .fetch();
+    }
 
+    @Override
+    public List<SearchDocumentInfo> getSearchDocumentList() {
+        return queryFactory.select(Projections.bean(SearchDocumentInfo.class,
+                        popUpStoreEntity.id.as("id"),
+                        popUpStoreEntity.category.as("category"),
+                        popUpStoreEntity.name.as("name"),
+                        popUpStoreEntity.address.as("address"),
+                        popUpStoreEntity.endDate.as("endDate"),
+                        popUpStoreEntity.viewCount.as("viewCount")
+                ))
+                .from(popUpStoreEntity)
+                .where(isOpenPopUp())
+                .fetch();
     }
 
     @Override
-    public List<PopUpStoreEntity> getViewBoundPopUpStoreList(List<Category> categories, double northEastLat, double northEastLon, double southWestLat, double southWestLon) {
-        return queryFactory.selectFrom(popUpStoreEntity)
-                .innerJoin(popUpStoreEntity.location, locationEntity).fetchJoin()
+    public List<MapMarkerInfo> getViewBoundMarkerList(List<Category> categories, double northEastLat, double northEastLon, double southWestLat, double southWestLon) {
+        return queryFactory.select(mapMarkerProjection())
+                .from(popUpStoreEntity)
+                .innerJoin(popUpStoreEntity.location, locationEntity)
                 .where(categoryIn(categories),
                         isOpenPopUp(),
                         latitudeBetween(southWestLat, northEastLat),
                         longitudeBetween(southWestLon, northEastLon))
+                .orderBy(popUpStoreEntity.id.asc())
+                .fetch();
+    }
+
+    @Override
+    public List<MapMarkerInfo> getMapMarkerList() {
+        return queryFactory.select(mapMarkerProjection())
+                .from(popUpStoreEntity)
+                .innerJoin(popUpStoreEntity.location, locationEntity)
+                .where(isOpenPopUp())
+                .fetch();
+    }
+
+    @Override
+    public List<MapMarkerInfo> getMapMarkerListByIdIn(Collection<Long> popUpStoreIds) {
+        return queryFactory.select(mapMarkerProjection())
+                .from(popUpStoreEntity)
+                .innerJoin(popUpStoreEntity.location, locationEntity)
+                .where(popUpStoreEntity.id.in(popUpStoreIds),
+                        isOpenPopUp())
                 .fetch();
     }
 
@@ -335,17 +374,19 @@ public class PopUpStoreRepositoryImpl implements PopUpStoreRepositoryCustom {
     }
 
     @Override
-    public List<GetAdminPopUpStoreListResponse.PopUpStore> getAdminPopUpStoreList(String query, Pageable pageable) {
+    public List<GetAdminPopUpStoreListResponse.PopUpStore> getAdminPopUpStoreList(String query, Pageable pageable, KeysetCursor cursor) {
         return queryFactory.select(Projections.bean(GetAdminPopUpStoreListResponse.PopUpStore.class,
                         popUpStoreEntity.id.as("id"),
                         popUpStoreEntity.name.as("name"),
                         popUpStoreEntity.category.as("category"),
-                        popUpStoreEntity.mainImageUrl.as("mainImageUrl")
+                        popUpStoreEntity.mainImageUrl.as("mainImageUrl"),
+                        popUpStoreEntity.startDate.as("startDate")
                 ))
                 .from(popUpStoreEntity)
-                .where(nameContains(query))
-                .orderBy(QueryDslUtils.getOrderSpecifiers(pageable, popUpStoreEntity).toArray(OrderSpecifier[]::new))
-                .offset(pageable.getOffset())
+                .where(nameContains(query),
+                        QueryDslUtils.getKeysetPredicate(pageable, popUpStoreEntity, cursor))
+                .orderBy(QueryDslUtils.getKeysetOrderSpecifiers(pageable, popUpStoreEntity).toArray(OrderSpecifier[]::new))
+                .offset(cursor == null ? pageable.getOffset() : 0) // 커서가 있으면 offset 없이 커서 이후부터 조회
                 .limit(pageable.getPageSize())
                 .fetch();
     }
@@ -372,6 +413,22 @@ public class PopUpStoreRepositoryImpl implements PopUpStoreRepositoryCustom {
         return userInterestCategoryEntity.user.userId.eq(userId);
     }
 
+    private QBean<MapMarkerInfo> mapMarkerProjection() {
+        return Projections.bean(MapMarkerInfo.class,
+                popUpStoreEntity.id.as("id"),
+                popUpStoreEntity.category.as("category"),
+                popUpStoreEntity.name.as("name"),
+                popUpStoreEntity.address.as("address"),
+                popUpStoreEntity.startDate.as("startDate"),
+                popUpStoreEntity.endDate.as("endDate"),
+                popUpStoreEntity.viewCount.as("viewCount"),
+                locationEntity.latitude.as("latitude"),
+                locationEntity.longitude.as("longitude"),
+                locationEntity.id.as("markerId"),
+                locationEntity.markerTitle.as("markerTitle"),
+                locationEntity.markerSnippet.as("markerSnippet"));
+    }
+
     private BooleanExpression categoryIn(List<Category> categories) {
         if (categories.isEmpty()) { /** 만약 유저의 관심 카테고리가 등록되어 있지 않다면 모든 카테고리를 대상으로 함 */
             return null;
@@ -379,17 +436,6 @@ public class PopUpStoreRepositoryImpl implements PopUpStoreRepositoryCustom {
         return popUpStoreEntity.category.in(categories);
     }
 
-    private BooleanExpression ageGroupEq(int age) {
-        return userPopUpStoreViewEntity.user.age.between(AgeGroupUtils.getStartAge(age), AgeGroupUtils.getEndAge(age));
-    }
-
-    private BooleanExpression genderEq(Gender gender) {
-        if (gender == Gender.NONE) {
-            return Expressions.TRUE;
-        }
-        return userPopUpStoreViewEntity.user.gender.eq(gender);
-    }
-
     private BooleanExpression categoryEq(Category category) {
         if (category == null) {
             return null;
@@ -412,14 +458,22 @@ public class PopUpStoreRepositoryImpl implements PopUpStoreRepositoryCustom {
         return locationEntity.longitude.between(southWestLon, northEastLon);
     }
 
+    /**
+     * 진행 중인 팝업 조건
+     * CLOSED_YN 은 스케줄러가 주기적으로 갱신하므로 (CLOSED_YN, END_DT) 인덱스로 열린 팝업만 읽고,
+     * 아직 종료 처리되지 않은 직후의 팝업은 종료일 조건으로 제외한다.
+     */
     private BooleanExpression isOpenPopUp() {
         LocalDateTime now = LocalDateTime.now();
-        return popUpStoreEntity.endDate.goe(now);
+        return popUpStoreEntity.closeYn.isFalse().and(popUpStoreEntity.endDate.goe(now));
     }
 
+    /**
+     * 종료된 팝업 (isOpenPopUp 의 여집합, 관리자가 조기 종료한 팝업 포함)
+     */
     private BooleanExpression isClosedPopUp() {
         LocalDateTime now = LocalDateTime.now();
-        return popUpStoreEntity.endDate.lt(now);
+        return popUpStoreEntity.closeYn.isTrue().or(popUpStoreEntity.endDate.lt(now));
     }
 
 
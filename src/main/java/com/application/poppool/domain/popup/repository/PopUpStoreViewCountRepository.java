@@ -0,0 +1,68 @@
+package com.application.poppool.domain.popup.repository;
+
+import com.application.poppool.domain.user.dto.info.UserPopUpStoreViewKey;
+import com.application.poppool.global.buffer.StripedCounterBuffer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 조회 수 버퍼를 DB에 일괄 반영하는 레포지토리
+ * 엔티티를 거치지 않고 VIEW_CNT = VIEW_CNT + ? 형태로 증가분만 반영한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PopUpStoreViewCountRepository {
+
+    private static final String INCREMENT_POPUP_STORE_VIEW_COUNT_SQL =
+            "UPDATE popup_store SET VIEW_CNT = VIEW_CNT + ? WHERE POPUP_STORE_ID = ?";
+
+    /**
+     * 유저 팝업스토어 뷰가 없으면 생성, 있으면 조회 수 증가 및 조회 시간 갱신 (USER_ID, POPUP_STORE_ID 유니크 키)
+     * 조회 시간은 버퍼에 누적된 마지막 조회 시각이며, 실패 후 재반영되거나 다른 서버가 늦게 반영해도 뒤로 돌아가지 않도록 더 늦은 시각만 반영한다.
+     */
+    private static final String UPSERT_USER_POPUP_STORE_VIEW_COUNT_SQL =
+            "INSERT INTO user_popup_store_view (USER_ID, POPUP_STORE_ID, VIEWED_AT, VIEW_CNT, COMMENT_CNT, BOOKMARK_CNT) VALUES (?, ?, ?, ?, 0, 0) " +
+                    "ON DUPLICATE KEY UPDATE VIEW_CNT = VIEW_CNT + ?, VIEWED_AT = GREATEST(COALESCE(VIEWED_AT, ?), ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 팝업스토어 조회 수 일괄 증가
+     *
+     * @param viewCounts 팝업스토어 ID별 증가분
+     */
+    @Transactional
+    public void incrementViewCounts(Map<Long, StripedCounterBuffer.Counter> viewCounts) {
+        List<Object[]> batchArgs = viewCounts.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue().count(), entry.getKey()})
+                .toList();
+
+        jdbcTemplate.batchUpdate(INCREMENT_POPUP_STORE_VIEW_COUNT_SQL, batchArgs);
+    }
+
+    /**
+     * 유저 팝업스토어 뷰 조회 수 일괄 반영 (처음 조회한 경우 생성) 및 조회 시간 업데이트
+     *
+     * @param viewCounts 유저 - 팝업스토어별 증가분과 마지막 조회 시각
+     */
+    @Transactional
+    public void upsertUserViewCounts(Map<UserPopUpStoreViewKey, StripedCounterBuffer.Counter> viewCounts) {
+        List<Object[]> batchArgs = viewCounts.entrySet().stream()
+                .map(entry -> {
+                    StripedCounterBuffer.Counter counter = entry.getValue();
+                    Timestamp viewedAt = Timestamp.valueOf(counter.lastAddedAt());
+                    return new Object[]{entry.getKey().userId(), entry.getKey().popUpStoreId(), viewedAt, counter.count(),
+                            counter.count(), viewedAt, viewedAt};
+                })
+                .toList();
+
+        jdbcTemplate.batchUpdate(UPSERT_USER_POPUP_STORE_VIEW_COUNT_SQL, batchArgs);
+    }
+
+}
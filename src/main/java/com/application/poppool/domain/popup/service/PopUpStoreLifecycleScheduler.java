@@ -0,0 +1,81 @@
+package com.application.poppool.domain.popup.service;
+
+import com.application.poppool.domain.popup.event.PopUpStoreChangedEvent;
+import com.application.poppool.domain.popup.repository.PopUpStoreLifecycleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 팝업스토어 생명주기 스케줄러
+ * 1. 종료 처리 : 종료일이 지난 팝업의 CLOSED_YN 을 'Y' 로 바꿔, 진행 중 팝업 조회가 (CLOSED_YN, END_DT) 인덱스로 열린 팝업만 읽도록 한다.
+ * 2. 아카이브 : 종료된 지 오래된 팝업과 코멘트, 뷰, 찜 등 관련 데이터를 청크 단위로 *_archive 테이블(db/popup_lifecycle.sql)로 옮겨 운영 테이블을 작게 유지한다.
+ * 두 작업 모두 여러 서버에서 동시에 실행되어도 결과가 같다. (아카이브 중복 시 기본 키 충돌로 해당 청크만 롤백)
+ */
+@Slf4j
+@Component
+public class PopUpStoreLifecycleScheduler {
+
+    private final PopUpStoreLifecycleRepository popUpStoreLifecycleRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration archiveAfter;
+    private final int archiveChunkSize;
+
+    public PopUpStoreLifecycleScheduler(PopUpStoreLifecycleRepository popUpStoreLifecycleRepository,
+                                        ApplicationEventPublisher eventPublisher,
+                                        @Value("${popup.lifecycle.archive-after:365d}") Duration archiveAfter,
+                                        @Value("${popup.lifecycle.archive-chunk-size:100}") int archiveChunkSize) {
+        this.popUpStoreLifecycleRepository = popUpStoreLifecycleRepository;
+        this.eventPublisher = eventPublisher;
+        this.archiveAfter = archiveAfter;
+        this.archiveChunkSize = archiveChunkSize;
+    }
+
+    /**
+     * 종료일이 지난 팝업 종료 처리 (애플리케이션 시작 시에도 한 번 수행)
+     */
+    @Scheduled(fixedDelayString = "${popup.lifecycle.close-delay:60000}")
+    public void closeEndedPopUpStores() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            int closedCount = popUpStoreLifecycleRepository.closeEndedPopUpStores(now);
+            if (closedCount > 0) {
+                log.info("팝업스토어 종료 처리 : {}건", closedCount);
+                eventPublisher.publishEvent(new PopUpStoreChangedEvent(null, PopUpStoreChangedEvent.ChangeType.CLOSE));
+            }
+        } catch (RuntimeException e) {
+            log.warn("팝업스토어 종료 처리 실패 - 다음 주기에 재시도합니다.", e);
+        }
+    }
+
+    /**
+     * 종료된 지 오래된 팝업 아카이브
+     * 한 청크씩 별도 트랜잭션으로 옮기므로, 실패한 청크는 원래 테이블에 남아 다음 실행 때 다시 옮긴다.
+     */
+    @Scheduled(cron = "${popup.lifecycle.archive-cron:0 0 4 * * *}")
+    public void archiveClosedPopUpStores() {
+        LocalDateTime endedBefore = LocalDateTime.now().minus(archiveAfter);
+        int archivedCount = 0;
+        try {
+            List<Long> popUpStoreIds;
+            while (!(popUpStoreIds = popUpStoreLifecycleRepository.findArchiveTargetIds(endedBefore, archiveChunkSize)).isEmpty()) {
+                popUpStoreLifecycleRepository.archive(popUpStoreIds);
+                archivedCount += popUpStoreIds.size();
+            }
+        } catch (RuntimeException e) {
+            log.warn("팝업스토어 아카이브 실패 - 다음 실행 때 재시도합니다.", e);
+        }
+
+        if (archivedCount > 0) {
+            log.info("팝업스토어 아카이브 : {}건", archivedCount);
+            eventPublisher.publishEvent(new PopUpStoreChangedEvent(null, PopUpStoreChangedEvent.ChangeType.DELETE));
+        }
+    }
+
+}
@@ -1,7 +1,8 @@
 package com.application.poppool.domain.popup.service;
 
 import com.application.poppool.domain.category.enums.Category;
-import com.application.poppool.domain.comment.entity.CommentEntity;
+import com.application.poppool.domain.comment.dto.response.GetPopUpStoreCommentListResponse;
+import com.application.poppool.domain.comment.enums.CommentSortType;
 import com.application.poppool.domain.comment.enums.CommentType;
 import com.application.poppool.domain.comment.service.CommentService;
 import com.application.poppool.domain.image.entity.PopUpStoreImageEntity;
@@ -10,24 +11,29 @@ import com.application.poppool.domain.popup.dto.resonse.GetOpenPopUpStoreListRes
 import com.application.poppool.domain.popup.dto.resonse.GetPopUpStoreDetailResponse;
 import com.application.poppool.domain.popup.dto.resonse.GetPopUpStoreDirectionResponse;
 import com.application.poppool.domain.popup.entity.PopUpStoreEntity;
+import com.application.poppool.domain.popup.event.PopUpStoreActivityEvent;
+import com.application.poppool.domain.popup.repository.PopUpStoreCounterRepository;
 import com.application.poppool.domain.popup.repository.PopUpStoreRepository;
 import com.application.poppool.domain.user.entity.UserEntity;
-import com.application.poppool.domain.user.entity.UserPopUpStoreViewEntity;
 import com.application.poppool.domain.user.repository.BookMarkPopUpStoreRepository;
-import com.application.poppool.domain.user.repository.UserPopUpStoreViewRepository;
 import com.application.poppool.domain.user.repository.UserRepository;
-import com.application.poppool.global.exception.ConcurrencyException;
+import com.application.poppool.global.async.ParallelQueryExecutor;
+import com.application.poppool.global.cache.CountCacheService;
+import com.application.poppool.global.cache.CountKey;
+import com.application.poppool.global.cache.CountType;
 import com.application.poppool.global.exception.ErrorCode;
 import com.application.poppool.global.exception.NotFoundException;
+import com.application.poppool.global.utils.KeysetCursor;
 import com.application.poppool.global.utils.SecurityUtils;
-import jakarta.persistence.OptimisticLockException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
@@ -35,137 +41,165 @@ public class PopUpStoreService {
 
     private final UserRepository userRepository;
     private final PopUpStoreRepository popUpStoreRepository;
+    private final PopUpStoreCounterRepository popUpStoreCounterRepository;
     private final CommentService commentService;
-    private final UserPopUpStoreViewRepository userPopUpStoreViewRepository;
     private final BookMarkPopUpStoreRepository bookMarkPopUpStoreRepository;
+    private final PopUpStoreViewCountBuffer popUpStoreViewCountBuffer;
+    private final PopUpStoreViewDeduplicator popUpStoreViewDeduplicator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CountCacheService countCacheService;
+    private final ParallelQueryExecutor parallelQueryExecutor;
+    private final SimilarPopUpStoreCache similarPopUpStoreCache;
 
+    @Value("${popup.detail.comment-size:10}")
+    private int detailCommentSize;
 
     /**
      * 팝업 상세 조회
+     * 팝업 기본 정보는 짧은 읽기 전용 트랜잭션에서 조회하고 커넥션을 반납한 뒤, 나머지 구간을 병렬로 조회한다.
+     * (요청 스레드가 커넥션을 쥔 채 병렬 구간을 기다리면 커넥션 풀이 고갈될 수 있으므로 메서드 전체를 트랜잭션으로 묶지 않는다)
      *
      * @param userId
      * @param popUpStoreId
      * @return
      */
-    @Transactional
     public GetPopUpStoreDetailResponse getPopUpStoreDetail(String userId, CommentType commentType, Long popUpStoreId) {
 
-        UserEntity user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> new NotFoundException(ErrorCode.USER_NOT_FOUND));
+        PopUpStoreDetailInfo detailInfo = parallelQueryExecutor.executeReadOnly(() -> getPopUpStoreDetailInfo(userId, popUpStoreId));
+        Category category = detailInfo.popUpStore().getCategory();
 
-        PopUpStoreEntity popUpStore = popUpStoreRepository.findById(popUpStoreId)
-                .orElseThrow(() -> new NotFoundException(ErrorCode.POPUP_STORE_NOT_FOUND));
+        /**
+         * 서로 독립적인 조회 구간은 별도의 읽기 전용 트랜잭션에서 병렬로 실행 (엔티티가 아닌 ID 만 전달)
+         * (찜 여부, 댓글 첫 페이지, 비슷한 팝업 리스트)
+         */
+        /** 찜 여부 체크 */
+        CompletableFuture<Boolean> bookmarkYnFuture = parallelQueryExecutor.supplyReadOnly(
+                () -> bookMarkPopUpStoreRepository.existsByUser_UserIdAndPopUpStore_Id(userId, popUpStoreId));
 
-        UserPopUpStoreViewEntity userPopUpStoreView = userPopUpStoreViewRepository.findByUserAndPopUpStore(user, popUpStore)
-                .orElseGet(() -> {
-                    UserPopUpStoreViewEntity newUserPopUpStoreView = UserPopUpStoreViewEntity.builder()
-                            .user(user)
-                            .popUpStore(popUpStore)
-                            .viewedAt(LocalDateTime.now())
-                            .viewCount(0)
-                            .commentCount(0)
-                            .bookmarkCount(0)
-                            .build();
-                    return userPopUpStoreViewRepository.save(newUserPopUpStoreView);
-                });
+        /** 댓글 첫 페이지 조회 (최신순, 이후 페이지는 코멘트 목록 API 에서 커서로 조회) */
+        CompletableFuture<GetPopUpStoreCommentListResponse> commentPageFuture = parallelQueryExecutor.supplyReadOnly(
+                () -> commentService.getPopUpStoreComments(userId, commentType, popUpStoreId,
+                        CommentSortType.NEWEST, null, detailCommentSize));
 
-        /** 찜 여부 체크 */
-        boolean bookmarkYn = bookMarkPopUpStoreRepository.existsByUserAndPopUpStore(user, popUpStore);
+        /** 비슷한 팝업 리스트 조회 */
+        CompletableFuture<List<GetPopUpStoreDetailResponse.PopUpStore>> similarPopUpStoreListFuture = similarPopUpStoreCache
+                .getSimilarPopUpStoreList(popUpStoreId, category) // 카테고리별 캐시, 없으면 DB 조회
+                .map(CompletableFuture::completedFuture)
+                .orElseGet(() -> parallelQueryExecutor.supplyReadOnly(
+                        () -> popUpStoreRepository.getSimilarPopUpStoreList(popUpStoreId, category)));
 
         /** 로그인 여부 체크 */
         boolean loginYn = false;
         if (SecurityUtils.isAuthenticated()) {
             loginYn = true;
         }
-        
-        /** 팝업 스토어 이미지 리스트 조회 */ 
-        List<PopUpStoreImageEntity> popUpStoreImageEntityList = popUpStore.getImages(); // 하나의 팝업 스토어 이므로 n+1 문제 발생하지 않음
 
-        List<GetPopUpStoreDetailResponse.PopUpStoreImage> popUpStoreImageList = popUpStoreImageEntityList.stream()
-                .map(popUpStoreImageEntity -> GetPopUpStoreDetailResponse.PopUpStoreImage.builder()
-                        .id(popUpStoreImageEntity.getId())
-                        .imageUrl(popUpStoreImageEntity.getUrl())
-                        .build())
-                .toList();
+        /** 구간(window) 안의 반복 조회는 한 번만 반영 */
+        if (popUpStoreViewDeduplicator.isFirstView(userId, popUpStoreId)) {
+            /**
+             * 유저 팝업스토어 뷰 조회 수 + 1
+             * 버퍼에 누적하여 주기적으로 별도의 짧은 트랜잭션에서 Upsert (처음 조회하는 경우 생성, 이미 있는 경우 조회 수 증가 및 조회 시간 갱신)
+             */
+            popUpStoreViewCountBuffer.recordUserView(userId, popUpStoreId);
 
-        /** 댓글 조회 */
-        List<CommentEntity> comments = commentService.getPopUpStoreComments(userId, commentType, popUpStoreId);
-
-        /** Entity -> Dto, 댓글 좋아요(도움돼요) 여부 확인 , 좋아요 수 */
-        List<GetPopUpStoreDetailResponse.Comment> commentList = comments.stream()
-                .map(comment -> GetPopUpStoreDetailResponse.Comment.builder()
-                        .nickname(comment.getUser().getNickname())
-                        .instagramId(comment.getUser().getInstagramId())
-                        .profileImageUrl(comment.getUser().getProfileImageUrl())
-                        .content(comment.getContent())
-                        .likeYn(commentService.isCommentLikedByUser(user, comment))
-                        .likeCount(comment.getLikeCount())
-                        .createDateTime(comment.getCreateDateTime())
-                        .build())
-                .toList();
+            /** 팝업스토어 조회 수 + 1 (버퍼에 누적하여 주기적으로 반영) */
+            popUpStoreViewCountBuffer.recordView(popUpStoreId);
 
-        /** 비슷한 팝업 리스트 조회 */
-        List<GetPopUpStoreDetailResponse.PopUpStore> similarPopUpStoreList = popUpStoreRepository
-                .getSimilarPopUpStoreList(popUpStoreId, popUpStore.getCategory());
-
-        /** 동시성 이슈 방지를 위한 retry 및 예외 처리*/
-        int retryCount = 0;
-        int maxRetryCount = 3; // 최대 재시도 횟수
-
-        while (retryCount < maxRetryCount) {
-            try {
-                /** 팝업스토어 조회 수 + 1*/
-                popUpStore.incrementViewCount();
-                break;
-            } catch (OptimisticLockException e) {
-                retryCount++;
-                if (retryCount >= maxRetryCount) {
-                    throw new ConcurrencyException(ErrorCode.CONCURRENCY_ERROR);
-                }
-            }
+            /** 맞춤 팝업 세그먼트 랭킹 반영 */
+            eventPublisher.publishEvent(PopUpStoreActivityEvent.of(detailInfo.user(), detailInfo.popUpStore(),
+                    PopUpStoreActivityEvent.ActivityType.VIEW, 1));
         }
 
-        /** 유저 팝업스토어 뷰 엔티티  조회 시간 업데이트 및 조회 수 + 1 */
-        userPopUpStoreView.updateViewedAt(LocalDateTime.now());
-        userPopUpStoreView.incrementViewCount();
+        /** 병렬 조회 결과 대기 */
+        boolean bookmarkYn = ParallelQueryExecutor.join(bookmarkYnFuture);
+        GetPopUpStoreCommentListResponse commentPage = ParallelQueryExecutor.join(commentPageFuture);
+        List<GetPopUpStoreDetailResponse.PopUpStore> similarPopUpStoreList = ParallelQueryExecutor.join(similarPopUpStoreListFuture);
 
+        PopUpStoreEntity popUpStore = detailInfo.popUpStore();
         return GetPopUpStoreDetailResponse.builder()
                 .name(popUpStore.getName())
                 .desc(popUpStore.getDesc())
                 .startDate(popUpStore.getStartDate())
                 .endDate(popUpStore.getEndDate())
                 .address(popUpStore.getAddress())
-                .commentCount(popUpStore.getCommentCount())
+                .commentCount(detailInfo.commentCount())
                 .bookmarkYn(bookmarkYn)
                 .loginYn(loginYn)
                 .mainImageUrl(popUpStore.getMainImageUrl())
-                .imageList(popUpStoreImageList)
-                .commentList(commentList)
+                .imageList(detailInfo.imageList())
+                .commentList(commentPage.getCommentList().stream()
+                        .map(comment -> GetPopUpStoreDetailResponse.Comment.builder()
+                                .commentId(comment.getCommentId())
+                                .nickname(comment.getNickname())
+                                .instagramId(comment.getInstagramId())
+                                .profileImageUrl(comment.getProfileImageUrl())
+                                .content(comment.getContent())
+                                .likeYn(comment.isLikeYn())
+                                .likeCount(comment.getLikeCount())
+                                .createDateTime(comment.getCreateDateTime())
+                                .build())
+                        .toList())
+                .commentNextCursor(commentPage.getNextCursor())
                 .similarPopUpStoreList(similarPopUpStoreList)
                 .build();
 
     }
 
+    /**
+     * 팝업 상세 기본 정보 조회 (회원, 팝업, 이미지 리스트, 코멘트 수)
+     * 이미지는 지연 로딩이므로 트랜잭션 안에서 응답 형태로 변환한다.
+     *
+     * @param userId
+     * @param popUpStoreId
+     * @return
+     */
+    private PopUpStoreDetailInfo getPopUpStoreDetailInfo(String userId, Long popUpStoreId) {
+        UserEntity user = userRepository.findByUserId(userId)
+                .orElseThrow(() -> new NotFoundException(ErrorCode.USER_NOT_FOUND));
+
+        PopUpStoreEntity popUpStore = popUpStoreRepository.findById(popUpStoreId)
+                .orElseThrow(() -> new NotFoundException(ErrorCode.POPUP_STORE_NOT_FOUND));
+
+        /** 팝업 스토어 이미지 리스트 조회 */
+        List<PopUpStoreImageEntity> popUpStoreImageEntityList = popUpStore.getImages(); // 하나의 팝업 스토어 이므로 n+1 문제 발생하지 않음
+
+        List<GetPopUpStoreDetailResponse.PopUpStoreImage> popUpStoreImageList = popUpStoreImageEntityList.stream()
+                .map(popUpStoreImageEntity -> GetPopUpStoreDetailResponse.PopUpStoreImage.builder()
+                        .id(popUpStoreImageEntity.getId())
+                        .imageUrl(popUpStoreImageEntity.getUrl())
+                        .build())
+                .toList();
+
+        long commentCount = popUpStoreCounterRepository.getCommentCount(popUpStoreId); // 엔티티는 2차 캐시 값이므로 카운터는 DB에서 조회
+
+        return new PopUpStoreDetailInfo(user, popUpStore, popUpStoreImageList, commentCount);
+    }
+
     /**
      * 진행 중(오픈)인 팝업 리스트 조회
      *
+     * @param categories
+     * @param cursor     다음 페이지 커서 (없으면 offset 페이지네이션)
      * @param pageable
      * @return
      */
     @Transactional(readOnly = true)
-    public GetOpenPopUpStoreListResponse getOpenPopUpStoreList(List<Category> categories, Pageable pageable) {
-        List<GetOpenPopUpStoreListResponse.PopUpStore> openPopUpStoreList = popUpStoreRepository.getOpenPopUpStoreList(categories, pageable);
+    public GetOpenPopUpStoreListResponse getOpenPopUpStoreList(List<Category> categories, String cursor, Pageable pageable) {
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor, pageable);
+        List<GetOpenPopUpStoreListResponse.PopUpStore> openPopUpStoreList = popUpStoreRepository.getOpenPopUpStoreList(categories, pageable, keysetCursor);
 
-        // 오픈 팝업 전체 데이터 수
-        long totalElements = popUpStoreRepository.countOpenPopUpStores(categories);
+        // 오픈 팝업 전체 데이터 수 (캐시, 커서 이어보기 요청이면 캐시된 값만 사용)
+        long totalElements = countCacheService.getCountOnFirstPage(CountKey.of(CountType.OPEN_POPUP_STORE, categories),
+                keysetCursor != null, () -> popUpStoreRepository.countOpenPopUpStores(categories));
 
         // 오픈 팝업 페이지 수
-        int totalPages = (int) Math.ceil((double) totalElements / pageable.getPageSize());
+        int totalPages = CountCacheService.getTotalPages(totalElements, pageable.getPageSize());
 
         return GetOpenPopUpStoreListResponse.builder()
                 .openPopUpStoreList(openPopUpStoreList)
                 .totalPages(totalPages)
                 .totalElements(totalElements)
+                .nextCursor(KeysetCursor.next(openPopUpStoreList, pageable))
                 .build();
     }
 
@@ -174,23 +208,27 @@ public class PopUpStoreService {
      * 종료 팝업 리스트 조회
      *
      * @param categories
+     * @param cursor     다음 페이지 커서 (없으면 offset 페이지네이션)
      * @param pageable
      * @return
      */
     @Transactional(readOnly = true)
-    public GetClosedPopUpStoreListResponse getClosedPopUpStoreList(List<Category> categories, Pageable pageable) {
-        List<GetClosedPopUpStoreListResponse.PopUpStore> closedPopUpStoreList = popUpStoreRepository.getClosedPopUpStoreList(categories, pageable);
+    public GetClosedPopUpStoreListResponse getClosedPopUpStoreList(List<Category> categories, String cursor, Pageable pageable) {
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor, pageable);
+        List<GetClosedPopUpStoreListResponse.PopUpStore> closedPopUpStoreList = popUpStoreRepository.getClosedPopUpStoreList(categories, pageable, keysetCursor);
 
-        // 종료 팝업 전체 데이터 수
-        long totalElements = popUpStoreRepository.countOpenPopUpStores(categories);
+        // 종료 팝업 전체 데이터 수 (캐시, 커서 이어보기 요청이면 캐시된 값만 사용)
+        long totalElements = countCacheService.getCountOnFirstPage(CountKey.of(CountType.CLOSED_POPUP_STORE, categories),
+                keysetCursor != null, () -> popUpStoreRepository.countClosedPopUpStores(categories));
 
         // 종료 팝업 페이지 수
-        int totalPages = (int) Math.ceil((double) totalElements / pageable.getPageSize());
+        int totalPages = CountCacheService.getTotalPages(totalElements, pageable.getPageSize());
 
         return GetClosedPopUpStoreListResponse.builder()
                 .closedPopUpStoreList(closedPopUpStoreList)
                 .totalPages(totalPages)
                 .totalElements(totalElements)
+                .nextCursor(KeysetCursor.next(closedPopUpStoreList, pageable))
                 .build();
     }
 
@@ -205,4 +243,10 @@ public class PopUpStoreService {
         return popUpStoreRepository.getPopUpStoreDirection(popUpStoreId);
     }
 
+    private record PopUpStoreDetailInfo(UserEntity user,
+                                        PopUpStoreEntity popUpStore,
+                                        List<GetPopUpStoreDetailResponse.PopUpStoreImage> imageList,
+                                        long commentCount) {
+    }
+
 }
@@ -0,0 +1,85 @@
+package com.application.poppool.domain.popup.service;
+
+import com.application.poppool.domain.popup.repository.PopUpStoreViewCountRepository;
+import com.application.poppool.domain.user.dto.info.UserPopUpStoreViewKey;
+import com.application.poppool.global.buffer.StripedCounterBuffer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 팝업스토어 조회 수 Write-Behind 버퍼
+ * 상세 조회 시 조회 수를 바로 업데이트하지 않고 메모리에 누적한 뒤, 주기적으로 DB에 일괄 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopUpStoreViewCountBuffer {
+
+    private static final int STRIPE_COUNT = 16;
+
+    private final PopUpStoreViewCountRepository popUpStoreViewCountRepository;
+
+    private final StripedCounterBuffer<Long> popUpStoreViewCounts = new StripedCounterBuffer<>(STRIPE_COUNT);
+    private final StripedCounterBuffer<UserPopUpStoreViewKey> userPopUpStoreViewCounts = new StripedCounterBuffer<>(STRIPE_COUNT);
+
+    /**
+     * 팝업스토어 조회 수 + 1 (버퍼에 누적)
+     *
+     * @param popUpStoreId
+     */
+    public void recordView(Long popUpStoreId) {
+        popUpStoreViewCounts.add(popUpStoreId, 1L); // 팝업 조회 수 반영은 시각을 쓰지 않음
+    }
+
+    /**
+     * 유저 팝업스토어 뷰 조회 수 + 1 (버퍼에 누적, 처음 조회한 경우 반영 시 생성, 조회 시간은 마지막 조회 시각으로 반영)
+     *
+     * @param userId
+     * @param popUpStoreId
+     */
+    public void recordUserView(String userId, Long popUpStoreId) {
+        userPopUpStoreViewCounts.add(new UserPopUpStoreViewKey(userId, popUpStoreId), 1L, LocalDateTime.now());
+    }
+
+    /**
+     * 누적된 조회 수를 DB에 일괄 반영
+     */
+    @Scheduled(fixedDelayString = "${popup.view-count.flush-delay:5000}")
+    public void flush() {
+        Map<Long, StripedCounterBuffer.Counter> viewCounts = popUpStoreViewCounts.drain();
+        if (!viewCounts.isEmpty()) {
+            try {
+                popUpStoreViewCountRepository.incrementViewCounts(viewCounts);
+            } catch (RuntimeException e) {
+                // 반영 실패 시 다음 주기에 다시 반영할 수 있도록 버퍼에 되돌림
+                log.warn("팝업스토어 조회 수 반영 실패 - 다음 주기에 재시도합니다.", e);
+                popUpStoreViewCounts.addAll(viewCounts);
+            }
+        }
+
+        Map<UserPopUpStoreViewKey, StripedCounterBuffer.Counter> userViewCounts = userPopUpStoreViewCounts.drain();
+        if (!userViewCounts.isEmpty()) {
+            try {
+                popUpStoreViewCountRepository.upsertUserViewCounts(userViewCounts);
+            } catch (RuntimeException e) {
+                log.warn("유저 팝업스토어 뷰 조회 수 반영 실패 - 다음 주기에 재시도합니다.", e);
+                userPopUpStoreViewCounts.addAll(userViewCounts);
+            }
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 조회 수 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.application.poppool.domain.popup.service;
+
+import com.application.poppool.global.dedupe.RotatingBloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 팝업스토어 중복 조회 판별
+ * 같은 회원이 같은 팝업을 구간(window) 안에서 다시 조회(새로고침, 뒤로 가기 등)하면 조회 수를 한 번만 반영하도록,
+ * (회원 ID, 팝업스토어 ID) 를 시간 구간별로 교체되는 블룸 필터에 기록한다.
+ * 메모리 사용량은 예상 조회 수와 오탐률로 고정되며, 오탐 시에는 처음 조회여도 조회 수가 반영되지 않을 수 있다.
+ */
+@Component
+public class PopUpStoreViewDeduplicator {
+
+    private final RotatingBloomFilter seenViews;
+
+    public PopUpStoreViewDeduplicator(@Value("${popup.view-dedupe.window:30m}") Duration window,
+                                      @Value("${popup.view-dedupe.expected-views:1000000}") long expectedViews,
+                                      @Value("${popup.view-dedupe.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.seenViews = new RotatingBloomFilter(window.toMillis(), expectedViews, falsePositiveRate);
+    }
+
+    /**
+     * 구간 안에서 처음 조회한 것인지 판별하고 기록
+     *
+     * @param userId
+     * @param popUpStoreId
+     * @return 처음 조회이면 true (조회 수 반영 대상)
+     */
+    public boolean isFirstView(String userId, Long popUpStoreId) {
+        return seenViews.put(userId + ':' + popUpStoreId);
+    }
+
+}
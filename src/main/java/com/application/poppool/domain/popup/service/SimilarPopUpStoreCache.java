@@ -0,0 +1,102 @@
+package com.application.poppool.domain.popup.service;
+
+import com.application.poppool.domain.category.enums.Category;
+import com.application.poppool.domain.popup.dto.resonse.GetPopUpStoreDetailResponse;
+import com.application.poppool.domain.popup.event.PopUpStoreChangedEvent;
+import com.application.poppool.domain.popup.repository.PopUpStoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 카테고리별 비슷한 팝업 캐시
+ * 카테고리마다 진행 중인 팝업 상위 (K + 1)개를 미리 정렬해 두고, 상세 조회 시 현재 팝업만 메모리에서 제외해 K개를 반환한다.
+ * 주기적으로(또는 관리자 수정 후) 다시 계산한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SimilarPopUpStoreCache {
+
+    /**
+     * 비슷한 팝업 개수 (K)
+     */
+    public static final int SIMILAR_POPUP_STORE_SIZE = 3;
+
+    private final PopUpStoreRepository popUpStoreRepository;
+
+    private volatile Map<Category, List<GetPopUpStoreDetailResponse.PopUpStore>> snapshot;
+
+    /**
+     * 비슷한 팝업 리스트 조회 (현재 팝업 제외)
+     *
+     * @param popUpStoreId 현재 조회한 팝업
+     * @param category
+     * @return 스냅샷이 없거나, 스냅샷 이후 종료된 팝업이 있어 K개를 채울 수 없는 경우 빈 값
+     */
+    public Optional<List<GetPopUpStoreDetailResponse.PopUpStore>> getSimilarPopUpStoreList(Long popUpStoreId, Category category) {
+        Map<Category, List<GetPopUpStoreDetailResponse.PopUpStore>> current = snapshot;
+        if (current == null || category == null) {
+            return Optional.empty();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<GetPopUpStoreDetailResponse.PopUpStore> similarPopUpStoreList = new ArrayList<>(SIMILAR_POPUP_STORE_SIZE);
+        for (GetPopUpStoreDetailResponse.PopUpStore popUpStore : current.getOrDefault(category, List.of())) {
+            if (popUpStore.getId().equals(popUpStoreId)) {
+                continue;
+            }
+            if (popUpStore.getEndDate() != null && popUpStore.getEndDate().isBefore(now)) {
+                return Optional.empty(); // 스냅샷 이후 종료된 팝업이 있으면 DB 조회
+            }
+            if (similarPopUpStoreList.size() < SIMILAR_POPUP_STORE_SIZE) {
+                similarPopUpStoreList.add(popUpStore);
+            }
+        }
+        return Optional.of(similarPopUpStoreList);
+    }
+
+    /**
+     * 주기적으로 스냅샷 재계산
+     */
+    @Scheduled(fixedDelayString = "${popup.similar.refresh-delay:60000}")
+    @Transactional(readOnly = true)
+    public void refresh() {
+        rebuild();
+    }
+
+    /**
+     * 관리자 페이지에서 팝업스토어가 변경되면 커밋 이후 스냅샷 재계산
+     *
+     * @param event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public void onPopUpStoreChanged(PopUpStoreChangedEvent event) {
+        rebuild();
+    }
+
+    private void rebuild() {
+        Map<Category, List<GetPopUpStoreDetailResponse.PopUpStore>> rebuilt = new EnumMap<>(Category.class);
+        for (Category category : Category.values()) {
+            rebuilt.put(category, List.copyOf(popUpStoreRepository
+                    .getTopOpenPopUpStoreListByCategory(category, SIMILAR_POPUP_STORE_SIZE + 1)));
+        }
+        this.snapshot = rebuilt;
+
+        log.debug("비슷한 팝업 스냅샷 갱신 - 카테고리 {}개", rebuilt.size());
+    }
+
+}
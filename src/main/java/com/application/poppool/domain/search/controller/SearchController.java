@@ -1,5 +1,6 @@
 package com.application.poppool.domain.search.controller;
 
+import com.application.poppool.domain.search.dto.SearchAutocompleteResponse;
 import com.application.poppool.domain.search.dto.SearchPopUpStoreResponse;
 import com.application.poppool.domain.search.service.SearchService;
 import lombok.RequiredArgsConstructor;
@@ -19,9 +20,17 @@ public class SearchController implements SearchControllerDoc {
     private final SearchService searchService;
 
     @GetMapping("/popup-stores")
-    public ResponseEntity<SearchPopUpStoreResponse> searchPopUpStore(@RequestParam String query) {
+    public ResponseEntity<SearchPopUpStoreResponse> searchPopUpStore(@RequestParam String query,
+                                                                     @RequestParam(defaultValue = "20") int limit) {
         log.info("팝업스토어 검색");
-        return ResponseEntity.ok(searchService.searchPopUpStore(query));
+        return ResponseEntity.ok(searchService.searchPopUpStore(query, limit));
+    }
+
+    @GetMapping("/autocomplete")
+    public ResponseEntity<SearchAutocompleteResponse> autocomplete(@RequestParam String query,
+                                                                   @RequestParam(defaultValue = "10") int limit) {
+        log.info("팝업스토어 검색어 자동완성");
+        return ResponseEntity.ok(searchService.autocomplete(query, limit));
     }
 
 
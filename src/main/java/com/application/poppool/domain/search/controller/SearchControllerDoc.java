@@ -1,5 +1,6 @@
 package com.application.poppool.domain.search.controller;
 
+import com.application.poppool.domain.search.dto.SearchAutocompleteResponse;
 import com.application.poppool.domain.search.dto.SearchPopUpStoreResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -9,6 +10,11 @@ import org.springframework.web.bind.annotation.RequestParam;
 @Tag(name = "통합 검색 API")
 public interface SearchControllerDoc {
 
-    @Operation(summary = "통합 검색", description = "통합 검색을 합니다.")
-    ResponseEntity<SearchPopUpStoreResponse> searchPopUpStore(@RequestParam String query);
+    @Operation(summary = "통합 검색", description = "통합 검색을 합니다. 이름 일치, 주소 일치, 조회 수 순으로 최대 limit 개를 조회합니다.")
+    ResponseEntity<SearchPopUpStoreResponse> searchPopUpStore(@RequestParam String query,
+                                                              @RequestParam(defaultValue = "20") int limit);
+
+    @Operation(summary = "검색어 자동완성", description = "이름 또는 초성이 검색어로 시작하는 팝업스토어를 조회 수 순으로 최대 limit 개 조회합니다.")
+    ResponseEntity<SearchAutocompleteResponse> autocomplete(@RequestParam String query,
+                                                            @RequestParam(defaultValue = "10") int limit);
 }
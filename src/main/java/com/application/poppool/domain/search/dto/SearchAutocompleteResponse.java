@@ -0,0 +1,23 @@
+package com.application.poppool.domain.search.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class SearchAutocompleteResponse {
+
+    private List<Suggestion> suggestionList;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Suggestion {
+        private Long id;
+        private String name;
+    }
+
+
+}
@@ -0,0 +1,23 @@
+package com.application.poppool.domain.search.dto.info;
+
+import com.application.poppool.domain.category.enums.Category;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 인덱스 대상 팝업스토어 (진행 중인 팝업)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchDocumentInfo {
+    private Long id;
+    private Category category;
+    private String name;
+    private String address;
+    private LocalDateTime endDate;
+    private long viewCount;
+}
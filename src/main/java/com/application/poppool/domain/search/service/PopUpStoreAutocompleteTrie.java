@@ -0,0 +1,227 @@
+package com.application.poppool.domain.search.service;
+
+import com.application.poppool.domain.popup.event.PopUpStoreChangedEvent;
+import com.application.poppool.domain.popup.repository.PopUpStoreRepository;
+import com.application.poppool.domain.search.dto.info.SearchDocumentInfo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 팝업스토어 이름 자동완성 트라이
+ * 정규화한 이름(과 이름 중간 단어부터 시작하는 접미사)을 트라이에 넣고, 각 노드에 조회 수 상위 N개 팝업을 미리 담아둔다.
+ * 초성 트라이를 따로 두어 "ㅅㅅ" 처럼 초성만 입력해도 "성수" 로 시작하는 팝업을 찾을 수 있다.
+ * 조회는 검색어 길이만큼 노드를 따라 내려가는 것으로 끝나므로 키 입력마다 호출해도 DB 를 거치지 않는다.
+ * 재구성 사이에 종료된 팝업은 조회 시 제외하며, 그 때문에 상위 N개가 모자라면 하위 노드 전체에서 진행 중인 팝업을 다시 모은다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopUpStoreAutocompleteTrie {
+
+    private static final char HANGUL_SYLLABLE_START = 0xAC00;
+    private static final char HANGUL_SYLLABLE_END = 0xD7A3;
+    private static final int CHOSEONG_INTERVAL = 588; // 중성 21개 * 종성 28개
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    /**
+     * 조회 수 내림차순 -> ID 내림차순
+     */
+    private static final Comparator<SearchDocumentInfo> SUGGEST_ORDER = Comparator
+            .comparingLong(SearchDocumentInfo::getViewCount).reversed()
+            .thenComparing(Comparator.comparingLong(SearchDocumentInfo::getId).reversed());
+
+    private final PopUpStoreRepository popUpStoreRepository;
+
+    @Value("${search.autocomplete.top-n:10}")
+    private int topN;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 자동완성 후보 조회 (조회 수 순)
+     * 검색어에 초성(자음만 입력된 글자)이 있으면 초성 트라이에서, 아니면 이름 트라이에서 찾는다.
+     *
+     * @param query
+     * @param limit
+     * @return 트라이가 아직 만들어지지 않았거나 일치하는 팝업이 없으면 빈 리스트
+     */
+    public List<SearchDocumentInfo> suggest(String query, int limit) {
+        Snapshot current = snapshot;
+        String normalizedQuery = PopUpStoreSearchIndex.normalize(query);
+        if (current == null || normalizedQuery.isEmpty()) {
+            return List.of();
+        }
+
+        Node node = containsChoseong(normalizedQuery)
+                ? current.choseongRoot().find(toChoseong(normalizedQuery))
+                : current.nameRoot().find(normalizedQuery);
+        if (node == null) {
+            return List.of();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int size = Math.min(limit, topN);
+        List<SearchDocumentInfo> suggestions = node.topDocuments.stream()
+                .filter(document -> isOpen(document, now))
+                .limit(size)
+                .toList();
+        if (suggestions.size() >= size || node.topDocuments.size() < topN) {
+            return suggestions;
+        }
+
+        /** 상위 N개 중 종료된 팝업이 빠져 모자라면, 하위 노드의 전체 팝업에서 진행 중인 팝업만 다시 모음 */
+        Map<Long, SearchDocumentInfo> documents = new HashMap<>();
+        node.collect(documents);
+        return documents.values().stream()
+                .filter(document -> isOpen(document, now))
+                .sorted(SUGGEST_ORDER)
+                .limit(size)
+                .toList();
+    }
+
+    /**
+     * 주기적으로 트라이 재구성 (종료된 팝업 정리 및 조회 수 순위 반영)
+     */
+    @Scheduled(fixedDelayString = "${search.autocomplete.refresh-delay:300000}")
+    @Transactional(readOnly = true)
+    public void refresh() {
+        rebuild();
+    }
+
+    /**
+     * 관리자 페이지에서 팝업스토어가 등록/수정/삭제되면 커밋 이후 트라이 재구성
+     *
+     * @param event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public void onPopUpStoreChanged(PopUpStoreChangedEvent event) {
+        rebuild();
+    }
+
+    private void rebuild() {
+        List<SearchDocumentInfo> documentList = new ArrayList<>(popUpStoreRepository.getSearchDocumentList());
+        /** 조회 수 내림차순으로 넣으면 각 노드에는 먼저 들어온 N개만 남기면 된다 */
+        documentList.sort(SUGGEST_ORDER);
+
+        Node nameRoot = new Node();
+        Node choseongRoot = new Node();
+        for (SearchDocumentInfo document : documentList) {
+            for (String key : indexKeys(document.getName())) {
+                nameRoot.insert(key, document, topN);
+                choseongRoot.insert(toChoseong(key), document, topN);
+            }
+        }
+
+        this.snapshot = new Snapshot(nameRoot, choseongRoot);
+
+        log.debug("팝업스토어 자동완성 트라이 갱신 - 팝업 {}건", documentList.size());
+    }
+
+    /**
+     * 이름 전체 및 각 단어부터 시작하는 접미사 (정규화)
+     * 예) "성수 팝업 스토어" -> "성수팝업스토어", "팝업스토어", "스토어"
+     */
+    private static List<String> indexKeys(String name) {
+        List<String> keys = new ArrayList<>();
+        if (name == null) {
+            return keys;
+        }
+        String[] words = name.trim().split("\\s+");
+        for (int i = 0; i < words.length; i++) {
+            String key = PopUpStoreSearchIndex.normalize(String.join("", List.of(words).subList(i, words.length)));
+            if (!key.isEmpty()) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
+    private static boolean isOpen(SearchDocumentInfo document, LocalDateTime now) {
+        return !document.getEndDate().isBefore(now);
+    }
+
+    private static boolean containsChoseong(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= CHOSEONG[0] && c <= CHOSEONG[CHOSEONG.length - 1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 한글 음절을 초성으로 변환 (한글 음절이 아닌 글자는 그대로)
+     */
+    static String toChoseong(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= HANGUL_SYLLABLE_START && c <= HANGUL_SYLLABLE_END) {
+                builder.append(CHOSEONG[(c - HANGUL_SYLLABLE_START) / CHOSEONG_INTERVAL]);
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private final List<SearchDocumentInfo> topDocuments = new ArrayList<>();
+        private final List<SearchDocumentInfo> documents = new ArrayList<>(0); // 이 노드에서 끝나는 키의 팝업
+
+        void insert(String key, SearchDocumentInfo document, int topN) {
+            Node node = this;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+                if (node.topDocuments.size() < topN && !node.topDocuments.contains(document)) {
+                    node.topDocuments.add(document);
+                }
+            }
+            node.documents.add(document);
+        }
+
+        /**
+         * 하위 노드를 포함한 전체 팝업 수집 (ID 기준 중복 제거)
+         */
+        void collect(Map<Long, SearchDocumentInfo> result) {
+            for (SearchDocumentInfo document : documents) {
+                result.putIfAbsent(document.getId(), document);
+            }
+            for (Node child : children.values()) {
+                child.collect(result);
+            }
+        }
+
+        Node find(String key) {
+            Node node = this;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+            }
+            return node;
+        }
+    }
+
+    private record Snapshot(Node nameRoot, Node choseongRoot) {
+    }
+
+}
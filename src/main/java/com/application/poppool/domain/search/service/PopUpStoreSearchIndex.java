@@ -0,0 +1,227 @@
+package com.application.poppool.domain.search.service;
+
+import com.application.poppool.domain.category.enums.Category;
+import com.application.poppool.domain.popup.event.PopUpStoreChangedEvent;
+import com.application.poppool.domain.popup.repository.PopUpStoreRepository;
+import com.application.poppool.domain.search.dto.info.SearchDocumentInfo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 팝업스토어 이름/주소 n-gram 역색인
+ * 이름과 주소를 정규화(NFC, 소문자, 공백 제거)한 뒤 두 글자 단위(bigram)로 잘라 팝업 ID 목록을 색인한다.
+ * 한글은 음절 단위로 잘리므로 "성수" 같은 두 글자 검색어도 그대로 색인 키가 된다.
+ * 검색 시에는 검색어 bigram 의 포스팅 목록을 교집합한 뒤 실제 포함 여부를 확인하고 점수 순으로 정렬한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopUpStoreSearchIndex {
+
+    private static final int NGRAM_SIZE = 2;
+
+    private static final int NAME_MATCH_SCORE = 2;
+    private static final int ADDRESS_MATCH_SCORE = 1;
+    private static final int NAME_PREFIX_SCORE = 1;
+
+    private final PopUpStoreRepository popUpStoreRepository;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 검색어로 진행 중인 팝업 검색
+     * 이름 일치 > 주소 일치 순이며, 이름이 검색어로 시작하면 가산점을 주고 같은 점수는 조회 수 순으로 정렬한다.
+     *
+     * @param query
+     * @param categories     카테고리 조건 (비어 있으면 전체)
+     * @param includeAddress 주소도 검색 대상에 포함할지 여부
+     * @return 인덱스가 아직 만들어지지 않은 경우 빈 값
+     */
+    public Optional<List<SearchDocumentInfo>> search(String query, List<Category> categories, boolean includeAddress) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return Optional.empty();
+        }
+
+        String normalizedQuery = normalize(query);
+        if (normalizedQuery.isEmpty()) {
+            return Optional.of(List.of());
+        }
+
+        Set<Category> categorySet = (categories == null || categories.isEmpty()) ? null : EnumSet.copyOf(categories);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<ScoredDocument> matches = new ArrayList<>();
+        for (IndexedDocument document : candidates(current, normalizedQuery)) {
+            if (document.info().getEndDate().isBefore(now)
+                    || (categorySet != null && !categorySet.contains(document.info().getCategory()))) {
+                continue;
+            }
+
+            int score = 0;
+            if (document.name().contains(normalizedQuery)) {
+                score += NAME_MATCH_SCORE;
+                if (document.name().startsWith(normalizedQuery)) {
+                    score += NAME_PREFIX_SCORE;
+                }
+            } else if (includeAddress && document.address().contains(normalizedQuery)) {
+                score += ADDRESS_MATCH_SCORE;
+            }
+
+            if (score > 0) {
+                matches.add(new ScoredDocument(document.info(), score));
+            }
+        }
+
+        matches.sort(Comparator.comparingInt(ScoredDocument::score).reversed()
+                .thenComparing(Comparator.comparingLong((ScoredDocument scored) -> scored.info().getViewCount()).reversed())
+                .thenComparing(Comparator.comparingLong((ScoredDocument scored) -> scored.info().getId()).reversed()));
+
+        return Optional.of(matches.stream().map(ScoredDocument::info).toList());
+    }
+
+    /**
+     * 주기적으로 인덱스 재구성 (종료된 팝업 정리 및 조회 수 반영)
+     */
+    @Scheduled(fixedDelayString = "${search.index.refresh-delay:300000}")
+    @Transactional(readOnly = true)
+    public void refresh() {
+        rebuild();
+    }
+
+    /**
+     * 관리자 페이지에서 팝업스토어가 등록/수정/삭제되면 커밋 이후 인덱스 재구성
+     *
+     * @param event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public void onPopUpStoreChanged(PopUpStoreChangedEvent event) {
+        rebuild();
+    }
+
+    private void rebuild() {
+        List<SearchDocumentInfo> documentList = popUpStoreRepository.getSearchDocumentList();
+
+        Map<Long, IndexedDocument> documents = new HashMap<>();
+        Map<String, List<Long>> postings = new HashMap<>();
+        for (SearchDocumentInfo info : documentList) {
+            IndexedDocument document = new IndexedDocument(info, normalize(info.getName()), normalize(info.getAddress()));
+            documents.put(info.getId(), document);
+
+            Set<String> grams = new LinkedHashSet<>(ngrams(document.name()));
+            grams.addAll(ngrams(document.address()));
+            for (String gram : grams) {
+                postings.computeIfAbsent(gram, key -> new ArrayList<>()).add(info.getId());
+            }
+        }
+
+        Map<String, long[]> sortedPostings = new HashMap<>();
+        postings.forEach((gram, ids) -> sortedPostings.put(gram, ids.stream().mapToLong(Long::longValue).sorted().toArray()));
+
+        this.snapshot = new Snapshot(Map.copyOf(documents), Map.copyOf(sortedPostings));
+
+        log.debug("팝업스토어 검색 인덱스 갱신 - 문서 {}건, n-gram {}개", documents.size(), sortedPostings.size());
+    }
+
+    /**
+     * 검색어 bigram 포스팅 목록의 교집합
+     * 검색어가 한 글자라 bigram 을 만들 수 없으면 전체 문서를 후보로 한다.
+     */
+    private Collection<IndexedDocument> candidates(Snapshot current, String normalizedQuery) {
+        List<String> grams = ngrams(normalizedQuery);
+        if (grams.isEmpty()) {
+            return current.documents().values();
+        }
+
+        List<long[]> postingList = new ArrayList<>();
+        for (String gram : new LinkedHashSet<>(grams)) {
+            long[] posting = current.postings().get(gram);
+            if (posting == null) {
+                return List.of();
+            }
+            postingList.add(posting);
+        }
+        postingList.sort(Comparator.comparingInt(posting -> posting.length));
+
+        long[] intersection = postingList.get(0);
+        for (int i = 1; i < postingList.size() && intersection.length > 0; i++) {
+            intersection = intersect(intersection, postingList.get(i));
+        }
+
+        List<IndexedDocument> result = new ArrayList<>(intersection.length);
+        for (long id : intersection) {
+            result.add(current.documents().get(id));
+        }
+        return result;
+    }
+
+    private static long[] intersect(long[] left, long[] right) {
+        long[] result = new long[Math.min(left.length, right.length)];
+        int i = 0, j = 0, size = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] == right[j]) {
+                result[size++] = left[i];
+                i++;
+                j++;
+            } else if (left[i] < right[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private static List<String> ngrams(String text) {
+        List<String> grams = new ArrayList<>();
+        for (int i = 0; i + NGRAM_SIZE <= text.length(); i++) {
+            grams.add(text.substring(i, i + NGRAM_SIZE));
+        }
+        return grams;
+    }
+
+    /**
+     * 정규화 (NFC 정규화, 소문자 변환, 공백 제거)
+     * 자모가 분리된(NFD) 한글 입력도 완성형 음절로 맞춘다.
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("\\s+", "");
+    }
+
+    private record IndexedDocument(SearchDocumentInfo info, String name, String address) {
+    }
+
+    private record ScoredDocument(SearchDocumentInfo info, int score) {
+    }
+
+    private record Snapshot(Map<Long, IndexedDocument> documents, Map<String, long[]> postings) {
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.application.poppool.domain.search.service;
 
 import com.application.poppool.domain.popup.repository.PopUpStoreRepository;
+import com.application.poppool.domain.search.dto.SearchAutocompleteResponse;
 import com.application.poppool.domain.search.dto.SearchPopUpStoreResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -12,23 +13,59 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SearchService {
 
+    public static final int MAX_SEARCH_LIMIT = 100;
+
     private final PopUpStoreRepository popUpStoreRepository;
+    private final PopUpStoreSearchIndex popUpStoreSearchIndex;
+    private final PopUpStoreAutocompleteTrie popUpStoreAutocompleteTrie;
 
     /**
      * 통합 검색
+     * 검색 인덱스에서 이름/주소로 검색해 점수 순으로 limit 개까지 반환하고, 인덱스가 준비되지 않은 경우에만 DB 조회
      *
      * @param query
+     * @param limit
      * @return
      */
     @Transactional(readOnly = true)
-    public SearchPopUpStoreResponse searchPopUpStore(String query) {
+    public SearchPopUpStoreResponse searchPopUpStore(String query, int limit) {
         if (query.length() < 2) { // 검색어가 두 글자 이상인 경우에만 검색 진행
             return null;
         }
 
-        List<SearchPopUpStoreResponse.PopUpStore> popUpStoreList = popUpStoreRepository.searchPopUpStore(query);
+        int searchLimit = Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT));
+
+        List<SearchPopUpStoreResponse.PopUpStore> popUpStoreList = popUpStoreSearchIndex.search(query, List.of(), true)
+                .map(documentList -> documentList.stream()
+                        .limit(searchLimit)
+                        .map(document -> SearchPopUpStoreResponse.PopUpStore.builder()
+                                .id(document.getId())
+                                .name(document.getName())
+                                .address(document.getAddress())
+                                .build())
+                        .toList())
+                .orElseGet(() -> popUpStoreRepository.searchPopUpStore(query, searchLimit));
 
         return SearchPopUpStoreResponse.builder().popUpStoreList(popUpStoreList).build();
     }
 
+    /**
+     * 검색어 자동완성
+     * 이름(또는 초성)이 검색어로 시작하는 팝업을 조회 수 순으로 반환 (DB 조회 없음)
+     *
+     * @param query
+     * @param limit
+     * @return
+     */
+    public SearchAutocompleteResponse autocomplete(String query, int limit) {
+        List<SearchAutocompleteResponse.Suggestion> suggestionList = popUpStoreAutocompleteTrie.suggest(query, Math.max(1, limit)).stream()
+                .map(document -> SearchAutocompleteResponse.Suggestion.builder()
+                        .id(document.getId())
+                        .name(document.getName())
+                        .build())
+                .toList();
+
+        return SearchAutocompleteResponse.builder().suggestionList(suggestionList).build();
+    }
+
 }
@@ -17,6 +17,7 @@ import com.application.poppool.domain.user.repository.UserRepository;
 import com.application.poppool.global.exception.BadRequestException;
 import com.application.poppool.global.exception.ErrorCode;
 import com.application.poppool.global.exception.NotFoundException;
+import com.application.poppool.global.security.CustomUserDetailsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -34,6 +35,7 @@ public class SignUpService {
     private final UserInterestCategoryRepository userInterestCategoryRepository;
     private final RoleRepository roleRepository;
     private final CategoryRepository categoryRepository;
+    private final CustomUserDetailsService customUserDetailsService;
 
     /**
      * 회원가입
@@ -65,6 +67,8 @@ public class SignUpService {
         // 회원 관심 카테고리 추가
         this.addUserInterestCategory(signUpRequest.getInterestCategories(), user);
 
+        // 인증 정보 캐시 삭제 (권한 부여 반영)
+        customUserDetailsService.evictAfterCommit(user.getUserId());
     }
 
 
@@ -2,8 +2,12 @@ package com.application.poppool.domain.token.repository;
 
 import com.application.poppool.domain.token.entity.RefreshTokenEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +16,22 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshTokenEntity
     Optional<RefreshTokenEntity> findByUserId(String userId);
 
     Optional<RefreshTokenEntity> deleteByUserId(String userId);
+
+    /**
+     * 저장된 RT 가 oldToken 인 경우에만 새 RT 로 교체 (Compare-And-Set)
+     * 다른 요청(또는 다른 서버)이 먼저 교체했다면 0 을 반환한다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update RefreshTokenEntity r set r.token = :newToken, r.expiresAt = :expiresAt where r.userId = :userId and r.token = :oldToken")
+    int compareAndSetToken(@Param("userId") String userId,
+                           @Param("oldToken") String oldToken,
+                           @Param("newToken") String newToken,
+                           @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * 만료된 RT 삭제
+     */
+    @Modifying
+    @Query("delete from RefreshTokenEntity r where r.expiresAt < :now")
+    int deleteAllExpiredBefore(@Param("now") LocalDateTime now);
 }
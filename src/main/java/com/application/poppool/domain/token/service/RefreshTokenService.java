@@ -1,5 +1,6 @@
 package com.application.poppool.domain.token.service;
 
+import com.application.poppool.domain.auth.dto.response.LoginResponse;
 import com.application.poppool.domain.token.entity.RefreshTokenEntity;
 import com.application.poppool.domain.token.repository.RefreshTokenRepository;
 import com.application.poppool.global.exception.BadRequestException;
@@ -10,6 +11,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 
 @Service
@@ -17,6 +20,7 @@ import java.time.LocalDateTime;
 public class RefreshTokenService {
 
     private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
 
     /**
      * 요청한 유저의 RefreshToken이 맞는지, 그리고 db 테이블에 있는 토큰이랑 동일한지 유효성 검증
@@ -35,6 +39,19 @@ public class RefreshTokenService {
         return storedRefreshToken.getToken().equals(refreshToken);
     }
 
+    /**
+     * RefreshToken 재발급 (RTR)
+     * 같은 RT 로 동시에 들어온 요청은 유예 시간 동안 같은 새 토큰 쌍을 받는다.
+     *
+     * @param userId
+     * @param refreshToken
+     * @param issuer       새 토큰 쌍 발급
+     * @return 유효하지 않은 RT 이면 빈 값
+     */
+    public Optional<LoginResponse> rotateRefreshToken(String userId, String refreshToken, Supplier<LoginResponse> issuer) {
+        return refreshTokenStore.rotate(userId, refreshToken, issuer);
+    }
+
     /**
      * 새로운 RefreshToken 발급하면서 db 테이블에도 새로운 RefreshToken으로 대체 (RTR)
      *
@@ -57,6 +74,9 @@ public class RefreshTokenService {
                             refreshTokenRepository.save(newToken);
                         }
                 );
+
+        // RT 캐시 삭제
+        refreshTokenStore.evictAfterCommit(userId);
     }
 
     @Transactional(readOnly = true)
@@ -75,6 +95,9 @@ public class RefreshTokenService {
     @Transactional
     public void deleteRefreshToken(String userId) {
         refreshTokenRepository.deleteByUserId(userId);
+
+        // RT 캐시 삭제
+        refreshTokenStore.evictAfterCommit(userId);
     }
 
 }
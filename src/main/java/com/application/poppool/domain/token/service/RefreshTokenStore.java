@@ -0,0 +1,172 @@
+package com.application.poppool.domain.token.service;
+
+import com.application.poppool.domain.auth.dto.response.LoginResponse;
+import com.application.poppool.domain.token.entity.RefreshTokenEntity;
+import com.application.poppool.domain.token.repository.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * RefreshToken 저장소 (로컬 캐시 + RTR 교체 병합)
+ * 회원별 현재 RT 를 메모리에 캐시해 재발급 시 DB 비교 조회를 줄이고,
+ * 같은 RT 로 동시에 들어온 재발급 요청은 회원 단위 락으로 직렬화하여 처음 한 번만 교체한다.
+ * 교체 직후 유예 시간(grace period) 동안 이전 RT 로 들어온 요청에는 같은 새 토큰 쌍을 돌려준다.
+ * 교체 기록은 서버 메모리에만 있으므로, 이 처리는 같은 서버에서 교체한 요청에만 적용된다. (다른 서버로 간 이전 RT 요청은 유효하지 않은 RT)
+ * 로그인/로그아웃/탈퇴로 RT 가 직접 변경되면 회원의 교체 기록도 함께 지워, 이전 RT 로 토큰 쌍을 다시 받을 수 없게 한다.
+ */
+@Slf4j
+@Component
+public class RefreshTokenStore {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long gracePeriodMillis;
+
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    private final Map<String, CachedRefreshToken> tokenCache = new ConcurrentHashMap<>(); // userId -> 현재 RT
+    private final Map<String, RotatedTokenPair> recentRotations = new ConcurrentHashMap<>(); // 이전 RT -> 새 토큰 쌍
+
+    public RefreshTokenStore(RefreshTokenRepository refreshTokenRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${jwt.refresh-rotation.grace-period:10s}") Duration gracePeriod) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.gracePeriodMillis = gracePeriod.toMillis();
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * RT 재발급 (RTR)
+     * 1. 유예 시간 내에 이미 교체된 RT 이면 그때 발급한 토큰 쌍을 그대로 반환
+     * 2. 저장된 RT 와 같으면 새 토큰 쌍을 발급하고 DB 에 CAS 로 교체 (커밋까지 락 안에서 수행)
+     * 3. 그 외에는 유효하지 않은 RT
+     *
+     * @param userId
+     * @param refreshToken 요청으로 들어온 RT
+     * @param issuer       새 토큰 쌍 발급
+     * @return 유효하지 않은 RT 이면 빈 값
+     */
+    public Optional<LoginResponse> rotate(String userId, String refreshToken, Supplier<LoginResponse> issuer) {
+        synchronized (lockFor(userId)) {
+            long now = System.currentTimeMillis();
+
+            RotatedTokenPair rotated = recentRotations.get(refreshToken);
+            if (rotated != null) {
+                if (rotated.expiresAt() > now && rotated.userId().equals(userId)) {
+                    return Optional.of(rotated.loginResponse());
+                }
+                recentRotations.remove(refreshToken);
+            }
+
+            if (!isCurrentToken(userId, refreshToken)) {
+                return Optional.empty();
+            }
+
+            LoginResponse loginResponse = issuer.get();
+            Integer updated = transactionTemplate.execute(status -> refreshTokenRepository.compareAndSetToken(
+                    userId, refreshToken, loginResponse.getRefreshToken(), loginResponse.getRefreshTokenExpiresAt()));
+
+            if (updated == null || updated == 0) { // 다른 서버에서 먼저 교체됨
+                tokenCache.remove(userId);
+                return Optional.empty();
+            }
+
+            tokenCache.put(userId, new CachedRefreshToken(loginResponse.getRefreshToken(), loginResponse.getRefreshTokenExpiresAt()));
+            recentRotations.put(refreshToken, new RotatedTokenPair(userId, loginResponse, now + gracePeriodMillis));
+            return Optional.of(loginResponse);
+        }
+    }
+
+    /**
+     * 요청으로 들어온 RT 가 회원의 현재 RT 인지 확인
+     * 캐시와 다르면 다른 서버에서 교체되었을 수 있으므로 DB 에서 다시 확인한다.
+     *
+     * @param userId
+     * @param refreshToken
+     * @return
+     */
+    public boolean isCurrentToken(String userId, String refreshToken) {
+        CachedRefreshToken cached = tokenCache.get(userId);
+        if (cached != null && cached.token().equals(refreshToken) && cached.expiresAt().isAfter(LocalDateTime.now())) {
+            return true;
+        }
+
+        Optional<RefreshTokenEntity> stored = refreshTokenRepository.findByUserId(userId);
+        if (stored.isEmpty()) {
+            tokenCache.remove(userId);
+            return false;
+        }
+
+        RefreshTokenEntity storedToken = stored.get();
+        tokenCache.put(userId, new CachedRefreshToken(storedToken.getToken(), storedToken.getExpiresAt()));
+        return storedToken.getToken().equals(refreshToken) && storedToken.getExpiresAt().isAfter(LocalDateTime.now());
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 회원의 RT 캐시와 유예 중인 교체 기록 삭제 (로그인/로그아웃/탈퇴 등 RT 가 직접 변경된 경우)
+     *
+     * @param userId
+     */
+    public void evictAfterCommit(String userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(userId);
+            }
+        });
+    }
+
+    /**
+     * 만료된 RT 정리 (DB 행, 캐시, 유예 중인 교체 기록)
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh-token-purge-delay:3600000}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        long nowMillis = System.currentTimeMillis();
+
+        Integer deleted = transactionTemplate.execute(status -> refreshTokenRepository.deleteAllExpiredBefore(now));
+        tokenCache.values().removeIf(cached -> !cached.expiresAt().isAfter(now));
+        recentRotations.values().removeIf(rotated -> rotated.expiresAt() <= nowMillis);
+
+        log.debug("만료된 RefreshToken {}건 삭제", deleted);
+    }
+
+    private void evict(String userId) {
+        synchronized (lockFor(userId)) {
+            tokenCache.remove(userId);
+            recentRotations.values().removeIf(rotated -> rotated.userId().equals(userId));
+        }
+    }
+
+    private Object lockFor(String userId) {
+        return locks[Math.floorMod(userId.hashCode(), LOCK_STRIPES)];
+    }
+
+    private record CachedRefreshToken(String token, LocalDateTime expiresAt) {
+    }
+
+    private record RotatedTokenPair(String userId, LoginResponse loginResponse, long expiresAt) {
+    }
+
+}
@@ -0,0 +1,10 @@
+package com.application.poppool.domain.user.dto.info;
+
+/**
+ * 유저 - 팝업스토어 조회 식별 키
+ *
+ * @param userId
+ * @param popUpStoreId
+ */
+public record UserPopUpStoreViewKey(String userId, Long popUpStoreId) {
+}
@@ -2,13 +2,17 @@ package com.application.poppool.domain.user.entity;
 
 import com.application.poppool.domain.user.enums.Role;
 import com.application.poppool.global.audit.BaseEntity;
+import com.application.poppool.global.cache.EntityCacheRegion;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = EntityCacheRegion.ROLE)
 @Table(name = "roles", uniqueConstraints = {
         @UniqueConstraint(columnNames = {"ROLE"})
 })
@@ -50,24 +50,4 @@ public class UserPopUpStoreViewEntity {
         this.viewedAt = viewedAt;
     }
 
-    public void incrementViewCount() {
-        this.viewCount++;
-    }
-
-    public void incrementCommentCount() {
-        this.commentCount++;
-    }
-
-    public void decrementCommentCount() {
-        this.commentCount--;
-    }
-
-    public void incrementBookmarkCount() {
-        this.bookmarkCount++;
-    }
-
-    public void decrementBookmarkCount() {
-        this.bookmarkCount--;
-    }
-
 }
@@ -3,6 +3,8 @@ package com.application.poppool.domain.user.repository;
 import com.application.poppool.domain.user.entity.BlockedUserEntity;
 import com.application.poppool.domain.user.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -18,4 +20,8 @@ public interface BlockedUserRepository extends JpaRepository<BlockedUserEntity,
     // 두 사용자의 차단 관계가 존재하는지 체크
     boolean existsByUserAndBlockedUser(UserEntity user, UserEntity blockedUser);
 
+    // 사용자가 차단한 사용자 아이디 전체 조회
+    @Query("select b.blockedUser.userId from BlockedUserEntity b where b.user.userId = :userId")
+    List<String> findBlockedUserIdsByUserId(@Param("userId") String userId);
+
 }
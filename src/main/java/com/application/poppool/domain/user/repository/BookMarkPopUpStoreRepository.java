@@ -27,4 +27,6 @@ public interface BookMarkPopUpStoreRepository extends JpaRepository<BookMarkPopU
     // findBy + "FK가 참조하는 엔티티명" + "_" + "FK가 참조하는 엔티티의 ID 필드명(첫글자 대문자)"
     Optional<BookMarkPopUpStoreEntity> findByUser_UserIdAndPopUpStore_Id(String userId, Long popUpStoreId);
 
+    boolean existsByUser_UserIdAndPopUpStore_Id(String userId, Long popUpStoreId);
+
 }
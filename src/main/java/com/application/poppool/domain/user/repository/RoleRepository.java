@@ -2,7 +2,10 @@ package com.application.poppool.domain.user.repository;
 
 import com.application.poppool.domain.user.entity.RoleEntity;
 import com.application.poppool.domain.user.enums.Role;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -10,5 +13,9 @@ import java.util.Optional;
 @Repository
 public interface RoleRepository extends JpaRepository<RoleEntity, Long> {
 
+    /**
+     * 권한 조회 (쿼리 캐시)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<RoleEntity> findByRole(Role role);
 }
@@ -1,16 +1,19 @@
 package com.application.poppool.domain.user.repository;
 
 import com.application.poppool.domain.popup.entity.PopUpStoreEntity;
-import com.application.poppool.domain.user.entity.UserEntity;
 import com.application.poppool.domain.user.entity.UserPopUpStoreViewEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
 
 @Repository
 public interface UserPopUpStoreViewRepository extends JpaRepository<UserPopUpStoreViewEntity, Long> {
@@ -18,7 +21,63 @@ public interface UserPopUpStoreViewRepository extends JpaRepository<UserPopUpSto
     @Query("SELECT DISTINCT upsv.popUpStore FROM UserPopUpStoreViewEntity upsv WHERE upsv.user.userId = :userId ORDER BY upsv.viewedAt DESC")
     Page<PopUpStoreEntity> findRecentViewPopUpStoresByUserId(@Param("userId") String userId, Pageable pageable);
 
-    Optional<UserPopUpStoreViewEntity> findByUserAndPopUpStore(UserEntity user, PopUpStoreEntity popUpStore);
+    /**
+     * 유저 팝업스토어 뷰 Upsert (조회 기록 생성 + 카운트 증감을 한 번에)
+     * (USER_ID, POPUP_STORE_ID) 유니크 키로 없으면 생성하고, 있으면 증감분만 반영한다.
+     * 코멘트 수/찜 수는 0 미만으로 내려가지 않으며, 조회 시간은 조회 수가 증가하는 경우에만 갱신한다.
+     * 행을 생성하므로 증가에만 사용하고, 감소는 decrementCommentCount / decrementBookmarkCount 를 사용한다.
+     * 네이티브 UPDATE 는 영향받는 테이블을 지정하지 않으면 2차 캐시 전체를 무효화하므로 user_popup_store_view 로 한정한다.
+     *
+     * @param userId
+     * @param popUpStoreId
+     * @param viewedAt
+     * @param viewDelta     조회 수 증가분
+     * @param commentDelta  코멘트 수 증감분
+     * @param bookmarkDelta 찜 수 증감분
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_popup_store_view"))
+    @Query(value = "INSERT INTO user_popup_store_view (USER_ID, POPUP_STORE_ID, VIEWED_AT, VIEW_CNT, COMMENT_CNT, BOOKMARK_CNT) " +
+            "VALUES (:userId, :popUpStoreId, :viewedAt, :viewDelta, GREATEST(:commentDelta, 0), GREATEST(:bookmarkDelta, 0)) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "VIEWED_AT = IF(:viewDelta > 0, :viewedAt, VIEWED_AT), " +
+            "VIEW_CNT = VIEW_CNT + :viewDelta, " +
+            "COMMENT_CNT = GREATEST(COMMENT_CNT + :commentDelta, 0), " +
+            "BOOKMARK_CNT = GREATEST(BOOKMARK_CNT + :bookmarkDelta, 0)",
+            nativeQuery = true)
+    int upsertUserPopUpStoreView(@Param("userId") String userId,
+                                 @Param("popUpStoreId") Long popUpStoreId,
+                                 @Param("viewedAt") LocalDateTime viewedAt,
+                                 @Param("viewDelta") long viewDelta,
+                                 @Param("commentDelta") long commentDelta,
+                                 @Param("bookmarkDelta") long bookmarkDelta);
 
+    /**
+     * 유저 팝업스토어 뷰 코멘트 수 - 1 (0 미만으로 내려가지 않음)
+     * 삭제로 인해 조회 기록이 생기지 않도록 이미 있는 뷰만 갱신한다.
+     *
+     * @param userId
+     * @param popUpStoreId
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_popup_store_view"))
+    @Query(value = "UPDATE user_popup_store_view SET COMMENT_CNT = GREATEST(COMMENT_CNT - 1, 0) " +
+            "WHERE USER_ID = :userId AND POPUP_STORE_ID = :popUpStoreId",
+            nativeQuery = true)
+    int decrementCommentCount(@Param("userId") String userId, @Param("popUpStoreId") Long popUpStoreId);
+
+    /**
+     * 유저 팝업스토어 뷰 찜 수 - 1 (0 미만으로 내려가지 않음)
+     * 삭제로 인해 조회 기록이 생기지 않도록 이미 있는 뷰만 갱신한다.
+     *
+     * @param userId
+     * @param popUpStoreId
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_popup_store_view"))
+    @Query(value = "UPDATE user_popup_store_view SET BOOKMARK_CNT = GREATEST(BOOKMARK_CNT - 1, 0) " +
+            "WHERE USER_ID = :userId AND POPUP_STORE_ID = :popUpStoreId",
+            nativeQuery = true)
+    int decrementBookmarkCount(@Param("userId") String userId, @Param("popUpStoreId") Long popUpStoreId);
 
 }
@@ -1,6 +1,7 @@
 package com.application.poppool.domain.user.repository;
 
 import com.application.poppool.domain.user.entity.UserEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -11,5 +12,9 @@ public interface UserRepository extends JpaRepository<UserEntity, String> {
 
     Optional<UserEntity> findByUserId(String userId);
 
+    // 회원 + 권한 함께 조회 (인증 정보 생성용)
+    @EntityGraph(attributePaths = "userRoles")
+    Optional<UserEntity> findWithUserRolesByUserId(String userId);
+
     Optional<UserEntity> findByNickname(String nickName);
 }
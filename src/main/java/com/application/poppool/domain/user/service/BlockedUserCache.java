@@ -0,0 +1,52 @@
+package com.application.poppool.domain.user.service;
+
+import com.application.poppool.domain.user.repository.BlockedUserRepository;
+import com.application.poppool.global.cache.LocalCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 회원별 차단한 회원 아이디 집합 캐시
+ * 코멘트 조회 시 blocked_user 를 조인하지 않고, 캐시된 차단 목록과 메모리에서 비교해 걸러낸다.
+ * 차단/차단 해제 시에는 커밋 이후 해당 회원의 집합을 삭제하며, 삭제 전에 시작된 조회 결과는 캐시되지 않는다.
+ * (다른 서버의 캐시는 TTL 이 지나야 반영되므로 TTL 은 짧게 유지)
+ */
+@Component
+public class BlockedUserCache {
+
+    private final BlockedUserRepository blockedUserRepository;
+    private final LocalCache<String, Set<String>> cache;
+
+    public BlockedUserCache(BlockedUserRepository blockedUserRepository,
+                            @Value("${user.blocked-user-cache.ttl:30s}") Duration ttl,
+                            @Value("${user.blocked-user-cache.max-size:10000}") int maxSize) {
+        this.blockedUserRepository = blockedUserRepository;
+        this.cache = new LocalCache<>(ttl, maxSize);
+    }
+
+    /**
+     * 회원이 차단한 회원 아이디 집합 조회 (불변 집합)
+     *
+     * @param userId
+     * @return 차단한 회원이 없거나 userId 가 없으면 빈 집합
+     */
+    public Set<String> getBlockedUserIds(String userId) {
+        if (userId == null) {
+            return Set.of();
+        }
+        return cache.get(userId, id -> Set.copyOf(blockedUserRepository.findBlockedUserIdsByUserId(id)));
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 회원의 차단 목록 캐시 삭제 (트랜잭션이 없으면 즉시 삭제)
+     *
+     * @param userId
+     */
+    public void evictAfterCommit(String userId) {
+        cache.evictAfterCommit(userId);
+    }
+
+}
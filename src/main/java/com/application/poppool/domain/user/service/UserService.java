@@ -3,6 +3,8 @@ package com.application.poppool.domain.user.service;
 import com.application.poppool.domain.comment.enums.CommentType;
 import com.application.poppool.domain.comment.repository.CommentRepository;
 import com.application.poppool.domain.popup.entity.PopUpStoreEntity;
+import com.application.poppool.domain.popup.event.PopUpStoreActivityEvent;
+import com.application.poppool.domain.popup.repository.PopUpStoreCounterRepository;
 import com.application.poppool.domain.popup.repository.PopUpStoreRepository;
 import com.application.poppool.domain.token.service.RefreshTokenService;
 import com.application.poppool.domain.user.dto.request.CheckedSurveyListRequest;
@@ -10,14 +12,16 @@ import com.application.poppool.domain.user.dto.response.*;
 import com.application.poppool.domain.user.entity.*;
 import com.application.poppool.domain.user.enums.Role;
 import com.application.poppool.domain.user.repository.*;
+import com.application.poppool.global.cache.CountCacheService;
+import com.application.poppool.global.cache.CountKey;
 import com.application.poppool.global.exception.BadRequestException;
-import com.application.poppool.global.exception.ConcurrencyException;
 import com.application.poppool.global.exception.ErrorCode;
 import com.application.poppool.global.exception.NotFoundException;
 import com.application.poppool.global.jwt.JwtService;
+import com.application.poppool.global.security.CustomUserDetailsService;
 import com.application.poppool.global.utils.SecurityUtils;
-import jakarta.persistence.OptimisticLockException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -36,11 +40,16 @@ public class UserService {
     private final CommentRepository commentRepository;
     private final WithDrawlRepository withDrawlSurveyRepository;
     private final BlockedUserRepository blockedUserRepository;
+    private final BlockedUserCache blockedUserCache;
+    private final CustomUserDetailsService customUserDetailsService;
     private final UserPopUpStoreViewRepository userPopUpStoreViewRepository;
     private final BookMarkPopUpStoreRepository bookMarkPopUpStoreRepository;
     private final RefreshTokenService refreshTokenService;
     private final JwtService jwtService;
     private final PopUpStoreRepository popUpStoreRepository;
+    private final PopUpStoreCounterRepository popUpStoreCounterRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CountCacheService countCacheService;
 
 
     /**
@@ -92,11 +101,12 @@ public class UserService {
         // 회원의 코멘트 조회
         List<GetMyCommentResponse.MyCommentInfo> myCommentList = commentRepository.findByMyCommentsWithPopUpStore(userId, commentType, pageable);
 
-        // 전체 코멘트 수
-        long totalElements = commentRepository.countMyComments(userId, commentType);
+        // 전체 코멘트 수 (캐시)
+        long totalElements = countCacheService.getCount(CountKey.myComment(userId, commentType),
+                () -> commentRepository.countMyComments(userId, commentType));
 
         // 전체 페이지 수
-        int totalPages = (int) Math.ceil((double) totalElements / pageable.getPageSize());
+        int totalPages = CountCacheService.getTotalPages(totalElements, pageable.getPageSize());
 
         return GetMyCommentResponse.builder()
                 .myCommentList(myCommentList)
@@ -161,19 +171,6 @@ public class UserService {
             throw new BadRequestException(ErrorCode.ALREADY_EXISTS_BOOKMARK);
         }
 
-        UserPopUpStoreViewEntity userPopUpStoreView = userPopUpStoreViewRepository.findByUserAndPopUpStore(user, popUpStore)
-                .orElseGet(() -> {
-                    UserPopUpStoreViewEntity newUserPopUpStoreView = UserPopUpStoreViewEntity.builder()
-                            .user(user)
-                            .popUpStore(popUpStore)
-                            .viewedAt(LocalDateTime.now())
-                            .viewCount(0)
-                            .commentCount(0)
-                            .bookmarkCount(0)
-                            .build();
-                    return userPopUpStoreViewRepository.save(newUserPopUpStoreView);
-                });
-
         BookMarkPopUpStoreEntity bookMarkPopUpStore = BookMarkPopUpStoreEntity.builder()
                 .user(user)
                 .popUpStore(popUpStore)
@@ -182,24 +179,13 @@ public class UserService {
         // 찜 저장
         bookMarkPopUpStoreRepository.save(bookMarkPopUpStore);
 
-        /** 동시성 이슈 방지를 위한 retry 및 예외 처리*/
-        int retryCount = 0;
-        int maxRetryCount = 3; // 최대 재시도 횟수
-
-        while (retryCount < maxRetryCount) {
-            try {
-                // 팝업 스토어 찜 수 + 1
-                popUpStore.incrementBookmarkCount();
-                break;
-            } catch (OptimisticLockException e) {
-                retryCount++;
-                if (retryCount >= maxRetryCount) {
-                    throw new ConcurrencyException(ErrorCode.CONCURRENCY_ERROR);
-                }
-            }
-        }
-        // 팝업 스토어 뷰 찜 수 + 1
-        userPopUpStoreView.incrementBookmarkCount();
+        // 팝업 스토어 찜 수 + 1
+        popUpStoreCounterRepository.incrementBookmarkCount(popUpStoreId);
+        // 팝업 스토어 뷰 찜 수 + 1 (없으면 생성)
+        userPopUpStoreViewRepository.upsertUserPopUpStoreView(userId, popUpStoreId, LocalDateTime.now(), 0, 0, 1);
+
+        /** 맞춤 팝업 세그먼트 랭킹 반영 */
+        eventPublisher.publishEvent(PopUpStoreActivityEvent.of(user, popUpStore, PopUpStoreActivityEvent.ActivityType.BOOKMARK, 1));
     }
 
     /**
@@ -214,43 +200,19 @@ public class UserService {
         PopUpStoreEntity popUpStore = popUpStoreRepository.findById(popUpStoreId)
                 .orElseThrow(() -> new NotFoundException(ErrorCode.POPUP_STORE_NOT_FOUND));
 
-        UserPopUpStoreViewEntity userPopUpStoreView = userPopUpStoreViewRepository.findByUserAndPopUpStore(user, popUpStore)
-                .orElseGet(() -> {
-                    UserPopUpStoreViewEntity newUserPopUpStoreView = UserPopUpStoreViewEntity.builder()
-                            .user(user)
-                            .popUpStore(popUpStore)
-                            .viewedAt(LocalDateTime.now())
-                            .viewCount(0)
-                            .commentCount(0)
-                            .bookmarkCount(0)
-                            .build();
-                    return userPopUpStoreViewRepository.save(newUserPopUpStoreView);
-                });
-
         BookMarkPopUpStoreEntity bookMarkPopUpStore = bookMarkPopUpStoreRepository.findByUser_UserIdAndPopUpStore_Id(userId, popUpStoreId)
                 .orElseThrow(() -> new NotFoundException(ErrorCode.BOOKMARK_NOT_FOUND));
 
         // 찜 삭제
         bookMarkPopUpStoreRepository.delete(bookMarkPopUpStore);
 
-        /** 동시성 이슈 방지를 위한 retry 및 예외 처리*/
-        int retryCount = 0;
-        int maxRetryCount = 3; // 최대 재시도 횟수
-
-        while (retryCount < maxRetryCount) {
-            try {
-                // 팝업 스토어 찜 수 - 1
-                popUpStore.decrementBookmarkCount();
-                break;
-            } catch (OptimisticLockException e) {
-                retryCount++;
-                if (retryCount >= maxRetryCount) {
-                    throw new ConcurrencyException(ErrorCode.CONCURRENCY_ERROR);
-                }
-            }
-        }
-        // 팝업 스토어 뷰 찜 수 - 1
-        userPopUpStoreView.decrementBookmarkCount();
+        // 팝업 스토어 찜 수 - 1
+        popUpStoreCounterRepository.decrementBookmarkCount(popUpStoreId);
+        // 팝업 스토어 뷰 찜 수 - 1 (뷰가 있는 경우만)
+        userPopUpStoreViewRepository.decrementBookmarkCount(userId, popUpStoreId);
+
+        /** 맞춤 팝업 세그먼트 랭킹 반영 */
+        eventPublisher.publishEvent(PopUpStoreActivityEvent.of(user, popUpStore, PopUpStoreActivityEvent.ActivityType.BOOKMARK, -1));
 
     }
 
@@ -343,6 +305,9 @@ public class UserService {
         // 차단 정보 저장
         blockedUserRepository.save(blockedUser);
 
+        // 차단 목록 캐시 삭제
+        blockedUserCache.evictAfterCommit(userId);
+
     }
 
     /**
@@ -362,6 +327,9 @@ public class UserService {
         // 차단 해제
         blockedUserRepository.delete(blockedUser);
 
+        // 차단 목록 캐시 삭제
+        blockedUserCache.evictAfterCommit(BlockerUserId);
+
     }
 
     /**
@@ -389,6 +357,12 @@ public class UserService {
 
         // 회원 삭제
         userRepository.delete(user);
+
+        // refreshToken 삭제 (RT 캐시와 유예 중인 교체 기록도 커밋 이후 삭제)
+        refreshTokenService.deleteRefreshToken(userId);
+
+        // 인증 정보 캐시 삭제
+        customUserDetailsService.evictAfterCommit(userId);
     }
 
     /**
@@ -0,0 +1,120 @@
+package com.application.poppool.global.async;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 서로 독립적인 조회 구간을 병렬로 실행하는 전용 실행기
+ * 각 구간은 별도의 읽기 전용 트랜잭션에서 실행되며, 응답 시간이 구간 합이 아니라 가장 느린 구간에 가까워진다.
+ * 스레드 수와 대기열 크기가 제한되어 있고, 대기열이 가득 차면 요청 스레드에서 직접 실행(순차 실행과 동일)하므로
+ * 부하가 몰려도 커넥션 풀을 무한정 점유하지 않는다.
+ * 요청 스레드가 트랜잭션(커넥션)을 쥔 채 구간을 기다리면, 구간마다 커넥션이 하나 더 필요해져 동시 요청이 많을 때 커넥션 풀이 고갈(교착)될 수 있다.
+ * 따라서 병렬 구간은 트랜잭션 밖에서만 시작할 수 있고, 요청 스레드의 조회는 executeReadOnly 로 짧게 끝내 커넥션을 먼저 반납한다.
+ * 구간에는 엔티티가 아닌 ID 등 값만 전달한다. (다른 스레드에서 영속성 컨텍스트 밖의 엔티티를 지연 로딩하지 않도록)
+ */
+@Component
+public class ParallelQueryExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    public ParallelQueryExecutor(PlatformTransactionManager transactionManager,
+                                 @Value("${async.query.pool-size:6}") int poolSize,
+                                 @Value("${async.query.queue-capacity:64}") int queueCapacity) {
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new QueryThreadFactory(), new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.readOnlyTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW); // 요청 스레드에서 실행되더라도 별도 트랜잭션
+    }
+
+    /**
+     * 조회 구간을 별도의 읽기 전용 트랜잭션에서 비동기로 실행
+     * 요청 스레드의 인증 정보(SecurityContext)를 그대로 전달한다.
+     *
+     * @param query
+     * @return
+     */
+    public <T> CompletableFuture<T> supplyReadOnly(Supplier<T> query) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("병렬 조회는 트랜잭션 밖에서 시작해야 합니다.");
+        }
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        return CompletableFuture.supplyAsync(() -> {
+            SecurityContext previousContext = SecurityContextHolder.getContext();
+            SecurityContextHolder.setContext(securityContext);
+            try {
+                return readOnlyTransactionTemplate.execute(status -> query.get());
+            } finally {
+                SecurityContextHolder.setContext(previousContext);
+            }
+        }, executor);
+    }
+
+    /**
+     * 조회 구간을 요청 스레드에서 짧은 읽기 전용 트랜잭션으로 실행 (끝나면 커넥션 반납)
+     *
+     * @param query
+     * @return
+     */
+    public <T> T executeReadOnly(Supplier<T> query) {
+        return readOnlyTransactionTemplate.execute(status -> query.get());
+    }
+
+    /**
+     * 조회 구간 결과 대기
+     * 구간에서 발생한 예외(NotFoundException 등)는 감싸지 않고 그대로 던진다.
+     *
+     * @param future
+     * @return
+     */
+    public static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static class QueryThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "parallel-query-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+}
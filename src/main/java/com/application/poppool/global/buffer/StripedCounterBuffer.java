@@ -0,0 +1,110 @@
+package com.application.poppool.global.buffer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 키별 증가분을 메모리에 누적해두는 스트라이프(Striped) 카운터 버퍼
+ * 키의 해시로 스트라이프를 나누어 락 경합을 줄이고, drain() 시 누적된 값을 한 번에 꺼내간다.
+ * 발생 시각을 함께 넘기면 키별 마지막 시각을 보관하므로, 반영 시점이 아닌 실제 발생 시각을 DB 에 기록할 수 있다.
+ *
+ * @param <K>
+ */
+public class StripedCounterBuffer<K> {
+
+    private final List<Stripe<K>> stripes;
+    private final int mask;
+
+    public StripedCounterBuffer(int stripeCount) {
+        // 스트라이프 수는 2의 거듭제곱으로 맞춤
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        this.stripes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            stripes.add(new Stripe<>());
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * 증가분 누적 (발생 시각을 보관하지 않음)
+     *
+     * @param key
+     * @param delta
+     */
+    public void add(K key, long delta) {
+        add(key, new Counter(delta, null));
+    }
+
+    /**
+     * 증가분 누적
+     *
+     * @param key
+     * @param delta
+     * @param addedAt 발생 시각 (키별로 가장 늦은 시각만 보관)
+     */
+    public void add(K key, long delta, LocalDateTime addedAt) {
+        add(key, new Counter(delta, addedAt));
+    }
+
+    /**
+     * 누적된 증가분 전체를 꺼내고 버퍼를 비움
+     *
+     * @return
+     */
+    public Map<K, Counter> drain() {
+        Map<K, Counter> drained = new HashMap<>();
+        for (Stripe<K> stripe : stripes) {
+            synchronized (stripe) {
+                if (!stripe.counters.isEmpty()) {
+                    drained.putAll(stripe.counters);
+                    stripe.counters = new HashMap<>();
+                }
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * 반영에 실패한 증가분을 다시 버퍼에 되돌림
+     *
+     * @param counters
+     */
+    public void addAll(Map<K, Counter> counters) {
+        counters.forEach(this::add);
+    }
+
+    private void add(K key, Counter counter) {
+        Stripe<K> stripe = stripeFor(key);
+        synchronized (stripe) {
+            stripe.counters.merge(key, counter, Counter::merge);
+        }
+    }
+
+    private Stripe<K> stripeFor(K key) {
+        int hash = key.hashCode();
+        return stripes.get((hash ^ (hash >>> 16)) & mask);
+    }
+
+    /**
+     * 키별 누적 값
+     *
+     * @param count       증가분 합계
+     * @param lastAddedAt 마지막 발생 시각 (시각 없이 누적한 경우 null)
+     */
+    public record Counter(long count, LocalDateTime lastAddedAt) {
+
+        private Counter merge(Counter other) {
+            LocalDateTime latest = lastAddedAt == null
+                    || (other.lastAddedAt != null && other.lastAddedAt.isAfter(lastAddedAt)) ? other.lastAddedAt : lastAddedAt;
+            return new Counter(count + other.count, latest);
+        }
+    }
+
+    private static final class Stripe<K> {
+        private Map<K, Counter> counters = new HashMap<>();
+    }
+
+}
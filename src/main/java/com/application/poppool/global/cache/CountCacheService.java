@@ -0,0 +1,104 @@
+package com.application.poppool.global.cache;
+
+import com.application.poppool.domain.popup.event.PopUpStoreChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * COUNT 쿼리 결과 캐시
+ * 페이지 목록 조회 시마다 전체 COUNT 쿼리가 함께 실행되지 않도록, (쿼리 종류, 카테고리, 조건) 별로 짧은 TTL 동안 결과를 보관한다.
+ * 팝업 관련 COUNT 와 회원별 COUNT(내 코멘트 수)는 영역을 나누어, 회원별 키가 많아져도 팝업 관련 COUNT 가 밀려나지 않도록 한다.
+ * 팝업스토어 등록/수정/삭제 시 팝업 관련 COUNT 는 모두 무효화된다.
+ */
+@Slf4j
+@Service
+public class CountCacheService {
+
+    /**
+     * 전체 개수를 알 수 없음 (커서 이어보기 요청에서 캐시된 값이 없는 경우)
+     */
+    public static final long UNKNOWN_COUNT = -1L;
+
+    private final LocalCache<CountKey, Long> popUpStoreCountCache;
+    private final LocalCache<CountKey, Long> userCountCache;
+
+    public CountCacheService(@Value("${count-cache.ttl:30s}") Duration ttl,
+                             @Value("${count-cache.max-size:1000}") int maxSize,
+                             @Value("${count-cache.user-max-size:10000}") int userMaxSize) {
+        this.popUpStoreCountCache = new LocalCache<>(ttl, maxSize);
+        this.userCountCache = new LocalCache<>(ttl, userMaxSize);
+    }
+
+    /**
+     * 캐시된 COUNT 조회, 없거나 만료되었으면 조회 후 캐시
+     *
+     * @param key
+     * @param loader COUNT 쿼리
+     * @return
+     */
+    public long getCount(CountKey key, LongSupplier loader) {
+        return cacheOf(key).get(key, k -> loader.getAsLong());
+    }
+
+    /**
+     * 첫 페이지에서만 COUNT 조회
+     * 이어보기(커서) 요청이면 COUNT 쿼리를 실행하지 않고 캐시된 값이 있으면 그 값을, 없으면 UNKNOWN_COUNT 를 반환한다.
+     *
+     * @param key
+     * @param continuation 이어보기(커서) 요청 여부
+     * @param loader       COUNT 쿼리
+     * @return
+     */
+    public long getCountOnFirstPage(CountKey key, boolean continuation, LongSupplier loader) {
+        if (!continuation) {
+            return getCount(key, loader);
+        }
+        Long cached = cacheOf(key).getIfPresent(key);
+        return cached != null ? cached : UNKNOWN_COUNT;
+    }
+
+    /**
+     * 전체 페이지 수 계산 (전체 개수를 알 수 없으면 UNKNOWN_COUNT)
+     *
+     * @param totalElements
+     * @param pageSize
+     * @return
+     */
+    public static int getTotalPages(long totalElements, int pageSize) {
+        if (totalElements == UNKNOWN_COUNT) {
+            return (int) UNKNOWN_COUNT;
+        }
+        return (int) Math.ceil((double) totalElements / pageSize);
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 캐시 삭제 (트랜잭션이 없으면 즉시 삭제)
+     * 커밋 전에 삭제하면 다른 요청이 커밋 전 값을 다시 캐시할 수 있으므로 커밋 이후에 삭제한다.
+     *
+     * @param key
+     */
+    public void evictAfterCommit(CountKey key) {
+        cacheOf(key).evictAfterCommit(key);
+    }
+
+    /**
+     * 팝업스토어 등록/수정/삭제 시 팝업 관련 COUNT 캐시 무효화
+     *
+     * @param event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPopUpStoreChanged(PopUpStoreChangedEvent event) {
+        popUpStoreCountCache.evictAll();
+    }
+
+    private LocalCache<CountKey, Long> cacheOf(CountKey key) {
+        return key.countType().isPopUpStoreCount() ? popUpStoreCountCache : userCountCache;
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.application.poppool.global.cache;
+
+import com.application.poppool.domain.category.enums.Category;
+import com.application.poppool.domain.comment.enums.CommentType;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * COUNT 캐시 키 (쿼리 종류, 카테고리 조건, 기타 조건)
+ *
+ * @param countType
+ * @param categories 카테고리 조건 (순서와 무관하게 같은 키가 되도록 Set 으로 보관, 비어있으면 전체)
+ * @param qualifier  검색어, 회원 아이디 등 기타 조건
+ */
+public record CountKey(CountType countType, Set<Category> categories, String qualifier) {
+
+    public static CountKey of(CountType countType) {
+        return new CountKey(countType, Set.of(), null);
+    }
+
+    public static CountKey of(CountType countType, Collection<Category> categories) {
+        return new CountKey(countType, toSet(categories), null);
+    }
+
+    public static CountKey of(CountType countType, String qualifier) {
+        return new CountKey(countType, Set.of(), qualifier);
+    }
+
+    /**
+     * 회원의 코멘트 수 키
+     *
+     * @param userId
+     * @param commentType 코멘트 타입 (null 이면 전체)
+     * @return
+     */
+    public static CountKey myComment(String userId, CommentType commentType) {
+        return of(CountType.MY_COMMENT, userId + ":" + (commentType != null ? commentType.name() : "ALL"));
+    }
+
+    private static Set<Category> toSet(Collection<Category> categories) {
+        if (categories == null || categories.isEmpty()) {
+            return Set.of();
+        }
+        return Set.copyOf(EnumSet.copyOf(categories));
+    }
+
+}
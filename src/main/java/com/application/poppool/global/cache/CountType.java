@@ -0,0 +1,20 @@
+package com.application.poppool.global.cache;
+
+/**
+ * 캐시할 COUNT 쿼리 종류
+ */
+public enum CountType {
+    OPEN_POPUP_STORE,
+    CLOSED_POPUP_STORE,
+    POPULAR_POPUP_STORE,
+    NEW_POPUP_STORE,
+    ADMIN_POPUP_STORE,
+    MY_COMMENT;
+
+    /**
+     * 팝업스토어 등록/수정/삭제 시 무효화 대상 여부
+     */
+    public boolean isPopUpStoreCount() {
+        return this != MY_COMMENT;
+    }
+}
@@ -0,0 +1,31 @@
+package com.application.poppool.global.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "entity-cache")
+public class EntityCacheProperties {
+
+    private RegionProperties defaults = new RegionProperties(); // 개별 설정이 없는 영역에 적용
+    private Map<String, RegionProperties> regions = new HashMap<>(); // 영역 이름(EntityCacheRegion) -> 설정
+
+    public RegionProperties getRegion(String regionName) {
+        return regions.getOrDefault(regionName, defaults);
+    }
+
+    @Getter
+    @Setter
+    public static class RegionProperties {
+        private long maxSize = 1000; // 영역별 최대 개수 (초과 시 오래 사용하지 않은 항목부터 제거)
+        private Duration ttl = Duration.ofMinutes(10); // 저장 후 만료 시간 (0 이면 만료 없음)
+    }
+}
@@ -0,0 +1,20 @@
+package com.application.poppool.global.cache;
+
+/**
+ * 2차 캐시 영역 이름
+ * 영역별 최대 개수와 TTL 은 application.yml 의 entity-cache.regions 에서 설정한다.
+ */
+public final class EntityCacheRegion {
+
+    public static final String POPUP_STORE = "popUpStore";
+    public static final String POPUP_STORE_IMAGES = "popUpStoreImages"; // 팝업스토어 -> 이미지 ID 목록 (컬렉션 캐시)
+    public static final String POPUP_STORE_IMAGE = "popUpStoreImage";
+    public static final String LOCATION = "location";
+    public static final String CATEGORY = "category";
+    public static final String ROLE = "role";
+    public static final String QUERY_RESULTS = "default-query-results-region"; // 쿼리 캐시 (조회 결과 ID 목록)
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region"; // 쿼리 캐시 무효화용 테이블별 갱신 시각
+
+    private EntityCacheRegion() {
+    }
+}
@@ -0,0 +1,84 @@
+package com.application.poppool.global.cache;
+
+import com.application.poppool.domain.image.entity.PopUpStoreImageEntity;
+import com.application.poppool.domain.location.entity.LocationEntity;
+import com.application.poppool.domain.popup.entity.PopUpStoreEntity;
+import com.application.poppool.domain.popup.event.PopUpStoreChangedEvent;
+import com.application.poppool.global.config.EntityCacheConfig;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.cache.CacheManager;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 2차 캐시 무효화 및 통계 로그
+ * JPA 를 통한 변경은 Hibernate 가 캐시를 갱신하지만, 스케줄러의 JDBC 일괄 변경(종료 처리, 아카이브)은 캐시를 거치지 않으므로
+ * 팝업스토어 변경 이벤트를 받아 해당 팝업(일괄 변경이면 팝업 관련 영역 전체)을 캐시에서 제거한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EntityCacheService {
+
+    private static final String POPUP_STORE_IMAGES_ROLE = PopUpStoreEntity.class.getName() + ".images";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final CacheManager entityCacheManager;
+
+    private final Map<String, CacheStats> previousStats = new ConcurrentHashMap<>();
+
+    /**
+     * 팝업스토어 등록/수정/삭제/종료 시 팝업 관련 2차 캐시 무효화
+     *
+     * @param event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPopUpStoreChanged(PopUpStoreChangedEvent event) {
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+
+        if (event.popUpStoreId() != null) {
+            cache.evictEntityData(PopUpStoreEntity.class, event.popUpStoreId());
+            cache.evictCollectionData(POPUP_STORE_IMAGES_ROLE, event.popUpStoreId());
+            return;
+        }
+
+        /** 일괄 변경은 대상 팝업을 알 수 없으므로 팝업 관련 영역 전체 제거 */
+        cache.evictEntityData(PopUpStoreEntity.class);
+        cache.evictCollectionData(POPUP_STORE_IMAGES_ROLE);
+        cache.evictEntityData(PopUpStoreImageEntity.class);
+        cache.evictEntityData(LocationEntity.class);
+    }
+
+    /**
+     * 주기적으로 영역별 적중/미적중 통계를 로그로 남김 (직전 로그 이후 증가분)
+     */
+    @Scheduled(fixedDelayString = "${entity-cache.stats-log-delay:300000}")
+    public void logStats() {
+        for (String region : EntityCacheConfig.REGIONS) {
+            javax.cache.Cache<Object, Object> cache = entityCacheManager.getCache(region);
+            if (cache == null) {
+                continue;
+            }
+
+            CacheStats stats = cache.unwrap(com.github.benmanes.caffeine.cache.Cache.class).stats();
+            CacheStats previous = previousStats.put(region, stats);
+            CacheStats delta = previous != null ? stats.minus(previous) : stats;
+            if (delta.requestCount() == 0) {
+                continue;
+            }
+            log.info("2차 캐시 통계 - {}: requests={}, hits={}, misses={}, hitRate={}, evictions={}",
+                    region, delta.requestCount(), delta.hitCount(), delta.missCount(),
+                    String.format("%.3f", delta.hitRate()), delta.evictionCount());
+        }
+    }
+
+}
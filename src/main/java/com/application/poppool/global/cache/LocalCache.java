@@ -0,0 +1,196 @@
+package com.application.poppool.global.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 서버 로컬 TTL 캐시 (Caffeine)
+ * 1. 최대 개수를 넘으면 자주/최근 사용하지 않은 항목부터 제거하고(W-TinyLFU), 항목은 저장 후 TTL 이 지나면 만료된다.
+ * 2. 항목별로 더 짧은 TTL 을 지정할 수 있다. (토큰 남은 유효 시간 등)
+ * 3. 조회 후 저장(get) 시 키별 세대(generation)를 비교하여, 조회를 시작한 뒤 무효화(evict)된 키에는 조회 결과를 남기지 않는다.
+ * (커밋 전에 읽은 값이 커밋 이후 삭제보다 늦게 저장되어 TTL 동안 남는 문제 방지)
+ * 세대는 키 해시로 나눈 구간(stripe)별로 관리하므로, 같은 구간의 다른 키가 무효화되면 그 조회 결과는 저장하지 않는다. (다음 조회 때 다시 캐시)
+ *
+ * @param <K>
+ * @param <V>
+ */
+public class LocalCache<K, V> {
+
+    private static final int GENERATION_STRIPES = 256;
+
+    private final Cache<K, Entry<V>> cache;
+    private final long ttlNanos;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    /**
+     * @param ttl     저장 후 만료 시간 (0 이하면 캐시하지 않음)
+     * @param maxSize 최대 개수 (0 이하면 캐시하지 않음)
+     */
+    public LocalCache(Duration ttl, long maxSize) {
+        this.ttlNanos = ttl.isNegative() ? 0 : ttl.toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(Math.max(maxSize, 0))
+                .expireAfter(new EntryExpiry<K, V>())
+                .build();
+    }
+
+    /**
+     * 캐시된 값 조회
+     *
+     * @param key
+     * @return 없거나 만료되었으면 null
+     */
+    public V getIfPresent(K key) {
+        Entry<V> entry = cache.getIfPresent(key);
+        return entry != null ? entry.value() : null;
+    }
+
+    /**
+     * 캐시된 값 조회, 없으면 조회 후 캐시
+     * 조회하는 동안 같은 키가 무효화되었으면 조회 결과는 반환만 하고 캐시하지 않는다.
+     *
+     * @param key
+     * @param loader 조회 (null 을 반환하면 캐시하지 않음)
+     * @return
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V cached = getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        int stripe = stripe(key);
+        long generation = generations.get(stripe);
+        V value = loader.apply(key);
+        if (value == null || ttlNanos == 0) {
+            return value;
+        }
+
+        Entry<V> entry = new Entry<>(value, ttlNanos);
+        cache.put(key, entry);
+        /**
+         * 저장 후 세대를 다시 확인 (무효화는 세대 증가 -> 삭제 순서)
+         * 저장 전에 세대가 바뀌었으면 여기서 지우고, 저장 후에 바뀌었으면 무효화 쪽의 삭제가 지운다.
+         */
+        if (generations.get(stripe) != generation) {
+            cache.asMap().remove(key, entry);
+        }
+        return value;
+    }
+
+    /**
+     * 값 저장 (기본 TTL)
+     *
+     * @param key
+     * @param value
+     */
+    public void put(K key, V value) {
+        put(key, value, null);
+    }
+
+    /**
+     * 값 저장 (기본 TTL 과 ttl 중 짧은 쪽)
+     *
+     * @param key
+     * @param value
+     * @param ttl   항목별 TTL (null 이면 기본 TTL)
+     */
+    public void put(K key, V value, Duration ttl) {
+        long entryTtlNanos = ttl == null ? ttlNanos : Math.min(ttlNanos, Math.max(ttl.toNanos(), 0));
+        if (value == null || entryTtlNanos == 0) {
+            return;
+        }
+        cache.put(key, new Entry<>(value, entryTtlNanos));
+    }
+
+    /**
+     * 키 무효화 (조회 중인 같은 키의 결과도 캐시되지 않음)
+     *
+     * @param key
+     */
+    public void evict(K key) {
+        generations.incrementAndGet(stripe(key));
+        cache.invalidate(key);
+    }
+
+    /**
+     * 조건에 맞는 키 무효화
+     *
+     * @param predicate
+     */
+    public void evictIf(Predicate<? super K> predicate) {
+        bumpAllGenerations();
+        cache.asMap().keySet().removeIf(predicate);
+    }
+
+    /**
+     * 전체 무효화
+     */
+    public void evictAll() {
+        bumpAllGenerations();
+        cache.invalidateAll();
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 키 무효화 (트랜잭션이 없으면 즉시 무효화)
+     * 커밋 전에 삭제하면 다른 요청이 커밋 전 값을 다시 캐시할 수 있으므로 커밋 이후에 삭제한다.
+     *
+     * @param key
+     */
+    public void evictAfterCommit(K key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(key);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(key);
+            }
+        });
+    }
+
+    private void bumpAllGenerations() {
+        for (int i = 0; i < GENERATION_STRIPES; i++) {
+            generations.incrementAndGet(i);
+        }
+    }
+
+    private static int stripe(Object key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (GENERATION_STRIPES - 1);
+    }
+
+    private record Entry<V>(V value, long ttlNanos) {
+    }
+
+    /**
+     * 항목별 TTL (저장/갱신 시점부터, 조회는 만료 시간에 영향 없음)
+     */
+    private static class EntryExpiry<K, V> implements Expiry<K, Entry<V>> {
+
+        @Override
+        public long expireAfterCreate(K key, Entry<V> entry, long currentTime) {
+            return entry.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(K key, Entry<V> entry, long currentTime, long currentDuration) {
+            return entry.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterRead(K key, Entry<V> entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.application.poppool.global.config;
+
+import com.application.poppool.global.cache.EntityCacheProperties;
+import com.application.poppool.global.cache.EntityCacheRegion;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate 2차 캐시 설정 (JCache + Caffeine, 서버 로컬 캐시)
+ * 영역마다 최대 개수와 TTL 을 지정한 캐시를 미리 만들어 Hibernate 에 넘기며,
+ * 설정되지 않은 영역은 만들지 않는다. (hibernate.javax.cache.missing_cache_strategy: fail)
+ */
+@Configuration
+public class EntityCacheConfig {
+
+    public static final List<String> REGIONS = List.of(
+            EntityCacheRegion.POPUP_STORE,
+            EntityCacheRegion.POPUP_STORE_IMAGES,
+            EntityCacheRegion.POPUP_STORE_IMAGE,
+            EntityCacheRegion.LOCATION,
+            EntityCacheRegion.CATEGORY,
+            EntityCacheRegion.ROLE,
+            EntityCacheRegion.QUERY_RESULTS,
+            EntityCacheRegion.UPDATE_TIMESTAMPS
+    );
+
+    @Bean(destroyMethod = "close")
+    public CacheManager entityCacheManager(EntityCacheProperties entityCacheProperties) {
+        CachingProvider cachingProvider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = cachingProvider.getCacheManager(cachingProvider.getDefaultURI(), getClass().getClassLoader());
+
+        for (String region : REGIONS) {
+            EntityCacheProperties.RegionProperties regionProperties = entityCacheProperties.getRegion(region);
+
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(regionProperties.getMaxSize()));
+            Duration ttl = regionProperties.getTtl();
+            if (ttl != null && !ttl.isZero()) {
+                configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+            }
+            configuration.setNativeStatisticsEnabled(true); // 적중/미적중 통계 (EntityCacheService.logStats)
+
+            if (cacheManager.getCache(region) == null) {
+                cacheManager.createCache(region, configuration);
+            }
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheHibernatePropertiesCustomizer(CacheManager entityCacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.application.poppool.global.config;
+
+import com.application.poppool.global.outbound.GuardedFeignClient;
+import com.application.poppool.global.outbound.OutboundGuardRegistry;
+import feign.Capability;
+import feign.Client;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 모든 Feign 클라이언트 공통 설정
+ * 커넥션 풀(Apache HttpClient 5)과 클라이언트별 타임아웃은 application.yml 의 spring.cloud.openfeign 설정을 따르며,
+ * 여기서는 실제 HTTP 클라이언트를 OutboundGuard(벌크헤드, 서킷 브레이커, 지연 시간 통계)로 감싼다.
+ */
+@Configuration
+public class FeignConfig {
+
+    @Bean
+    public Capability outboundGuardCapability(OutboundGuardRegistry outboundGuardRegistry) {
+        return new Capability() {
+            @Override
+            public Client enrich(Client client) {
+                return new GuardedFeignClient(client, outboundGuardRegistry);
+            }
+        };
+    }
+
+}
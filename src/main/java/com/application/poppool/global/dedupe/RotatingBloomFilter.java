@@ -0,0 +1,177 @@
+package com.application.poppool.global.dedupe;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 구간별로 교체되는 블룸 필터 (중복 판별용, 메모리 고정)
+ * 현재/이전 두 세대의 필터를 두고, 구간(window)이 지날 때마다 이전 세대를 버리고 새 세대를 시작한다.
+ * 따라서 한 번 기록된 키는 최소 window, 최대 2 * window 동안 "이미 본 키"로 판별된다.
+ * 1. 오탐 : 키는 두 세대 중 한 세대에 모든 비트가 켜져 있을 때만 이미 본 키로 판별한다. (세대별로 따로 검사)
+ * 두 세대의 오탐이 더해지므로, 각 세대는 목표 오탐률의 절반으로 크기를 정해 합계가 목표 오탐률을 넘지 않게 한다.
+ * 2. 미탐 : 같은 키가 동시에 처음 기록되면 두 요청 모두 처음 본 키로 판별될 수 있다. (비트 단위로만 원자적)
+ * 중복 조회 판별처럼 드문 중복 반영은 허용되는 용도에만 사용한다.
+ */
+public class RotatingBloomFilter {
+
+    private final long windowMillis;
+    private final LongSupplier clock;
+    private final int bitCount;
+    private final int hashCount;
+
+    private volatile Generation current;
+    private volatile Generation previous;
+
+    /**
+     * @param windowMillis            세대 교체 주기 (ms)
+     * @param expectedInsertions      한 세대에 기록될 것으로 예상되는 키 수
+     * @param falsePositiveProbability 목표 오탐률
+     */
+    public RotatingBloomFilter(long windowMillis, long expectedInsertions, double falsePositiveProbability) {
+        this(windowMillis, expectedInsertions, falsePositiveProbability, System::currentTimeMillis);
+    }
+
+    RotatingBloomFilter(long windowMillis, long expectedInsertions, double falsePositiveProbability, LongSupplier clock) {
+        double generationProbability = falsePositiveProbability / 2; // 두 세대를 각각 검사하므로 세대별 오탐률은 절반
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(generationProbability) / (Math.log(2) * Math.log(2)));
+        this.windowMillis = windowMillis;
+        this.clock = clock;
+        this.bitCount = (int) Math.min(Math.max(bits, 64), Integer.MAX_VALUE - 63);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+        long now = clock.getAsLong();
+        this.current = new Generation(bitCount, now);
+        this.previous = new Generation(bitCount, now);
+    }
+
+    /**
+     * 키를 기록하고, 이번에 처음 기록된 키인지 반환
+     *
+     * @param key
+     * @return 현재/이전 세대에 없던 키이면 true
+     */
+    public boolean put(String key) {
+        rotateIfNeeded(clock.getAsLong());
+
+        long hash1 = hash(key);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1L;
+
+        Generation currentGeneration = current;
+        Generation previousGeneration = previous;
+        boolean seenInCurrent = true;
+        boolean seenInPrevious = true;
+        for (int i = 0; i < hashCount; i++) {
+            int index = index(hash1, hash2, i);
+            if (!currentGeneration.set(index)) {
+                seenInCurrent = false;
+            }
+            if (seenInPrevious && !previousGeneration.get(index)) {
+                seenInPrevious = false;
+            }
+        }
+        return !seenInCurrent && !seenInPrevious;
+    }
+
+    /**
+     * 기록하지 않고 이미 본 키인지 판별
+     *
+     * @param key
+     * @return 현재/이전 세대 중 한 곳에 기록되어 있으면 true (오탐 가능)
+     */
+    public boolean mightContain(String key) {
+        rotateIfNeeded(clock.getAsLong());
+
+        long hash1 = hash(key);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1L;
+        return current.containsAll(this, hash1, hash2) || previous.containsAll(this, hash1, hash2);
+    }
+
+    /**
+     * 구간이 지났으면 세대 교체 (두 구간 이상 지났으면 이전 세대도 비움)
+     */
+    private void rotateIfNeeded(long now) {
+        if (now - current.startedAt < windowMillis) {
+            return;
+        }
+        synchronized (this) {
+            long elapsed = now - current.startedAt;
+            if (elapsed < windowMillis) {
+                return;
+            }
+            previous = elapsed < 2 * windowMillis ? current : new Generation(bitCount, now);
+            current = new Generation(bitCount, now);
+        }
+    }
+
+    private int index(long hash1, long hash2, int i) {
+        return (int) Math.floorMod(hash1 + i * hash2, (long) bitCount);
+    }
+
+    /**
+     * 64비트 FNV-1a 해시 후 비트 확산
+     */
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * MurmurHash3 fmix64
+     */
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    /**
+     * 한 세대의 비트 배열 (스레드 안전)
+     */
+    private static class Generation {
+
+        private final AtomicLongArray words;
+        private final long startedAt;
+
+        private Generation(int bitCount, long startedAt) {
+            this.words = new AtomicLongArray((bitCount + 63) >>> 6);
+            this.startedAt = startedAt;
+        }
+
+        /**
+         * 비트를 켜고, 이미 켜져 있었는지 반환
+         */
+        private boolean set(int index) {
+            int wordIndex = index >>> 6;
+            long mask = 1L << (index & 63);
+            long word;
+            do {
+                word = words.get(wordIndex);
+                if ((word & mask) != 0) {
+                    return true;
+                }
+            } while (!words.compareAndSet(wordIndex, word, word | mask));
+            return false;
+        }
+
+        private boolean get(int index) {
+            return (words.get(index >>> 6) & (1L << (index & 63))) != 0;
+        }
+
+        private boolean containsAll(RotatingBloomFilter filter, long hash1, long hash2) {
+            for (int i = 0; i < filter.hashCount; i++) {
+                if (!get(filter.index(hash1, hash2, i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+}
@@ -13,6 +13,7 @@ public enum ErrorCode {
     ALREADY_EXISTS_BOOKMARK(HttpStatus.BAD_REQUEST, "이미 찜하신 팝업스토어입니다."),
     ALREADY_BLOCKED_USER(HttpStatus.BAD_REQUEST, "이미 차단한 유저입니다."),
     DATA_VALIDATION_ERROR(HttpStatus.BAD_REQUEST, "데이터가 유효하지 않습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다."),
     HTTP_MESSAGE_NOT_READABLE_EXCEPTION(HttpStatus.BAD_REQUEST, "HTTP 요청 본문 변환 중 에러가 발생했습니다."),
     METHOD_ARGUMENT_NOT_VALID_EXCEPTION(HttpStatus.BAD_REQUEST, "메서드 파라미터가 유효하지 않습니다."),
     NO_SUCH_ELEMENT_EXCEPTION(HttpStatus.BAD_REQUEST, "No Such Element Exception이 발생했습니다."),
@@ -43,7 +44,8 @@ public enum ErrorCode {
     TOKEN_NOT_VALID(HttpStatus.BAD_REQUEST, "토큰이 유효하지 않습니다."),
     LOGOUT_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "로그아웃에 실패했습니다."),
     NOT_ADMIN(HttpStatus.BAD_REQUEST, "관리자 계정이 아닙니다. 관리자 계정으로 다시 시도해주세요"),
-    CONCURRENCY_ERROR(HttpStatus.CONFLICT, "동시에 리소스에 접근하여 에러가 발생하였습니다.");
+    CONCURRENCY_ERROR(HttpStatus.CONFLICT, "동시에 리소스에 접근하여 에러가 발생하였습니다."),
+    EXTERNAL_SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "외부 서비스가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요.");
 
     ErrorCode(HttpStatus status, String message) {
         this.status = status;
@@ -0,0 +1,14 @@
+package com.application.poppool.global.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class ServiceUnavailableException extends BaseException {
+
+    private static final HttpStatus HTTP_STATUS = HttpStatus.SERVICE_UNAVAILABLE;
+
+    public ServiceUnavailableException(ErrorCode errorCode) {
+        super(errorCode, HTTP_STATUS);
+    }
+
+
+}
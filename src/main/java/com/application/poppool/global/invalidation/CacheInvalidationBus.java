@@ -0,0 +1,103 @@
+package com.application.poppool.global.invalidation;
+
+import com.application.poppool.domain.popup.event.PopUpStoreChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 서버 간 캐시 무효화 버스
+ * 1. 전파 : 팝업스토어 변경 이벤트를 변경 트랜잭션 커밋 직전에 전송 방식(CacheInvalidationTransport)으로 보낸다.
+ * 2. 수신 : 다른 서버가 보낸 메시지를 주기적으로 받아 같은 이벤트로 다시 발행한다. (remote = true, 다시 전파하지 않음)
+ * 한 번에 받은 메시지가 여러 건이면 일괄 변경 이벤트(popUpStoreId = null) 하나로 합쳐, 스냅샷 재구성이 메시지 수만큼 반복되지 않게 한다.
+ * 각 캐시는 로컬 이벤트만 구독하면 되므로, 다른 서버의 변경도 폴링 주기 안에 반영된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationBus {
+
+    public static final String TOPIC_POPUP_STORE = "popup-store";
+
+    private final CacheInvalidationTransport cacheInvalidationTransport;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 팝업스토어 변경 전파
+     *
+     * @param event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onPopUpStoreChanged(PopUpStoreChangedEvent event) {
+        if (event.remote()) {
+            return;
+        }
+        send(new CacheInvalidationMessage(TOPIC_POPUP_STORE, event.popUpStoreId(), event.changeType().name()));
+    }
+
+    /**
+     * 다른 서버의 캐시 무효화 메시지 수신 후 로컬 이벤트로 다시 발행
+     */
+    @Scheduled(fixedDelayString = "${cache-invalidation.poll-delay:1000}")
+    public void poll() {
+        List<CacheInvalidationMessage> messages;
+        try {
+            messages = cacheInvalidationTransport.receive();
+        } catch (RuntimeException e) {
+            log.warn("캐시 무효화 메시지 수신 실패 - 다음 주기에 재시도합니다.", e);
+            return;
+        }
+
+        List<CacheInvalidationMessage> popUpStoreMessages = new ArrayList<>();
+        for (CacheInvalidationMessage message : messages) {
+            if (TOPIC_POPUP_STORE.equals(message.topic())) {
+                popUpStoreMessages.add(message);
+            } else {
+                log.warn("알 수 없는 캐시 무효화 메시지 : {}", message);
+            }
+        }
+        if (popUpStoreMessages.isEmpty()) {
+            return;
+        }
+
+        try {
+            publishPopUpStoreChanged(popUpStoreMessages);
+        } catch (RuntimeException e) {
+            log.warn("캐시 무효화 메시지 처리 실패 : {}", popUpStoreMessages, e);
+        }
+    }
+
+    /**
+     * 메시지 전송
+     * 전송 실패로 관리자 변경이 롤백되지 않도록 예외는 로그만 남긴다. (다른 서버는 캐시 TTL 이 지나면 반영)
+     */
+    private void send(CacheInvalidationMessage message) {
+        try {
+            cacheInvalidationTransport.send(message);
+        } catch (RuntimeException e) {
+            log.warn("캐시 무효화 메시지 전송 실패 : {}", message, e);
+        }
+    }
+
+    /**
+     * 팝업스토어 변경 이벤트 발행
+     * 여러 건이면 대상 팝업별로 나누지 않고 일괄 변경 이벤트 하나로 발행한다. (리스너는 대상이 없으면 전체를 무효화)
+     */
+    private void publishPopUpStoreChanged(List<CacheInvalidationMessage> messages) {
+        if (messages.size() == 1) {
+            CacheInvalidationMessage message = messages.get(0);
+            eventPublisher.publishEvent(new PopUpStoreChangedEvent(
+                    message.targetId(), PopUpStoreChangedEvent.ChangeType.valueOf(message.changeType()), true));
+            return;
+        }
+        eventPublisher.publishEvent(new PopUpStoreChangedEvent(null, PopUpStoreChangedEvent.ChangeType.UPDATE, true));
+    }
+
+}
@@ -0,0 +1,11 @@
+package com.application.poppool.global.invalidation;
+
+/**
+ * 서버 간 캐시 무효화 메시지
+ *
+ * @param topic      무효화 대상 종류 (CacheInvalidationBus 의 TOPIC_*)
+ * @param targetId   대상 ID (일괄 변경이면 null)
+ * @param changeType 변경 종류 (이벤트의 ChangeType 이름)
+ */
+public record CacheInvalidationMessage(String topic, Long targetId, String changeType) {
+}
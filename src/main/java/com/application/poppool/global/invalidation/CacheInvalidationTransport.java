@@ -0,0 +1,27 @@
+package com.application.poppool.global.invalidation;
+
+import java.util.List;
+
+/**
+ * 서버 간 캐시 무효화 메시지 전송 방식
+ * 기본 구현은 MySQL 아웃박스 테이블을 폴링하는 JdbcCacheInvalidationTransport 이며,
+ * 메시지 브로커를 도입하면 이 인터페이스의 구현만 교체한다.
+ */
+public interface CacheInvalidationTransport {
+
+    /**
+     * 메시지 전송
+     * 진행 중인 트랜잭션이 있으면 그 트랜잭션이 커밋될 때 함께 전송되어야 한다. (롤백되면 전송하지 않음)
+     *
+     * @param message
+     */
+    void send(CacheInvalidationMessage message);
+
+    /**
+     * 다른 서버가 보낸 메시지 중 아직 받지 않은 메시지 조회 (자기 서버가 보낸 메시지 제외)
+     *
+     * @return
+     */
+    List<CacheInvalidationMessage> receive();
+
+}
@@ -0,0 +1,132 @@
+package com.application.poppool.global.invalidation;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * MySQL 아웃박스 테이블 기반 캐시 무효화 전송
+ * 1. 전송 : 변경 트랜잭션 안에서 아웃박스 테이블에 INSERT 하므로 커밋되어야만 다른 서버에 보이고, 롤백되면 함께 사라진다.
+ * 2. 수신 : 각 서버가 주기적으로 (마지막 폴링 시각 - overlap) 이후에 생성된 다른 서버의 메시지를 조회한다.
+ * AUTO_INCREMENT ID 는 커밋 순서와 다를 수 있으므로 ID 가 아닌 생성 시각으로 구간을 겹쳐 읽고, 이미 받은 ID 는 건너뛴다.
+ * 생성 후 overlap 보다 늦게 커밋된 메시지는 받지 못하므로, overlap 은 관리자 변경 트랜잭션의 최대 시간보다 길어야 한다.
+ * 시각은 서버 간 시계 차이가 없도록 모두 DB 시각(NOW(3))을 사용한다.
+ * 아웃박스 테이블은 스키마 스크립트(db/cache_invalidation_outbox.sql)로 미리 생성한다.
+ */
+@Slf4j
+@Component
+public class JdbcCacheInvalidationTransport implements CacheInvalidationTransport {
+
+    private static final String INSERT_MESSAGE_SQL =
+            "INSERT INTO cache_invalidation_outbox (NODE_ID, TOPIC, TARGET_ID, CHANGE_TYPE, CREATED_AT) VALUES (?, ?, ?, ?, NOW(3))";
+
+    private static final String SELECT_NOW_SQL = "SELECT NOW(3)";
+
+    private static final String FIND_MESSAGES_SQL =
+            "SELECT ID, TOPIC, TARGET_ID, CHANGE_TYPE, CREATED_AT FROM cache_invalidation_outbox " +
+                    "WHERE CREATED_AT >= ? AND NODE_ID <> ? ORDER BY ID";
+
+    private static final String DELETE_OLD_MESSAGES_SQL =
+            "DELETE FROM cache_invalidation_outbox WHERE CREATED_AT < NOW(3) - INTERVAL ? SECOND";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration overlap;
+    private final Duration retention;
+
+    private final String nodeId = UUID.randomUUID().toString(); // 서버 실행 단위 식별자 (자기 메시지 제외용)
+    private final Map<Long, LocalDateTime> receivedIds = new HashMap<>(); // 겹쳐 읽는 구간 안에서 이미 받은 메시지 ID -> 생성 시각
+    private volatile LocalDateTime lastPolledAt; // 마지막 폴링 시각 (DB 시각), null 이면 아직 초기화 전
+
+    public JdbcCacheInvalidationTransport(JdbcTemplate jdbcTemplate,
+                                          @Value("${cache-invalidation.jdbc.overlap:10s}") Duration overlap,
+                                          @Value("${cache-invalidation.jdbc.retention:1h}") Duration retention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.overlap = overlap;
+        this.retention = retention;
+    }
+
+    /**
+     * 폴링 시작 시각 설정 (시작 전 메시지는 받지 않음, 로컬 캐시가 비어 있으므로)
+     * 실패하면 첫 수신 시 다시 시도한다.
+     */
+    @PostConstruct
+    public void init() {
+        try {
+            initialize();
+        } catch (RuntimeException e) {
+            log.warn("캐시 무효화 아웃박스 초기화 실패 - 첫 폴링 때 다시 시도합니다.", e);
+        }
+    }
+
+    @Override
+    public void send(CacheInvalidationMessage message) {
+        jdbcTemplate.update(INSERT_MESSAGE_SQL, nodeId, message.topic(), message.targetId(), message.changeType());
+    }
+
+    @Override
+    public synchronized List<CacheInvalidationMessage> receive() {
+        if (lastPolledAt == null) {
+            initialize();
+            return List.of();
+        }
+
+        LocalDateTime now = jdbcTemplate.queryForObject(SELECT_NOW_SQL, LocalDateTime.class);
+        LocalDateTime from = lastPolledAt.minus(overlap);
+
+        List<CacheInvalidationMessage> messages = new ArrayList<>();
+        jdbcTemplate.query(FIND_MESSAGES_SQL, rs -> {
+            long id = rs.getLong("ID");
+            if (receivedIds.putIfAbsent(id, rs.getTimestamp("CREATED_AT").toLocalDateTime()) == null) {
+                long targetId = rs.getLong("TARGET_ID");
+                messages.add(new CacheInvalidationMessage(
+                        rs.getString("TOPIC"),
+                        rs.wasNull() ? null : targetId,
+                        rs.getString("CHANGE_TYPE")));
+            }
+        }, Timestamp.valueOf(from), nodeId);
+
+        lastPolledAt = now;
+        /** 다음 폴링 구간보다 오래된 ID 는 다시 조회되지 않으므로 제거 */
+        LocalDateTime nextFrom = now.minus(overlap);
+        receivedIds.values().removeIf(createdAt -> createdAt.isBefore(nextFrom));
+        return messages;
+    }
+
+    /**
+     * 보관 기간이 지난 메시지 삭제 (여러 서버에서 실행되어도 무방)
+     */
+    @Scheduled(fixedDelayString = "${cache-invalidation.jdbc.purge-delay:600000}")
+    public void purge() {
+        if (lastPolledAt == null) {
+            return;
+        }
+        try {
+            int deleted = jdbcTemplate.update(DELETE_OLD_MESSAGES_SQL, retention.toSeconds());
+            if (deleted > 0) {
+                log.debug("캐시 무효화 아웃박스 정리 : {}건", deleted);
+            }
+        } catch (RuntimeException e) {
+            log.warn("캐시 무효화 아웃박스 정리 실패", e);
+        }
+    }
+
+    private synchronized void initialize() {
+        if (lastPolledAt != null) {
+            return;
+        }
+        lastPolledAt = jdbcTemplate.queryForObject(SELECT_NOW_SQL, LocalDateTime.class);
+    }
+
+}
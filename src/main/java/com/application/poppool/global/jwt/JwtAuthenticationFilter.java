@@ -17,6 +17,8 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
 
 
 @RequiredArgsConstructor
@@ -29,20 +31,29 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             "/signup"
     };
 
+    /**
+     * 모든 접근이 허용된 URL 패턴 (요청마다 정규식을 컴파일하지 않도록 미리 컴파일)
+     */
+    private static final List<Pattern> PERMIT_URL_PATTERNS = Arrays.stream(SecurityConfig.PERMIT_URL)
+            .map(url -> Pattern.compile(url.replace("**", ".*").replace("*", "[^/]*")))
+            .toList();
+
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 
         String token = jwtService.getToken(request);
+        /** 토큰 서명 검증 및 클레임 추출은 요청당 한 번만 수행 */
+        VerifiedToken verifiedToken = token != null ? jwtService.verifyToken(token).orElse(null) : null;
         /** 토큰이 null 이 아니고 유효한 경우 */
-        if (token != null && jwtService.validateToken(token, request)) { // 1. 토큰이 헤더에 실려왔는지, 토큰이 유효한 토큰인지 확인
+        if (verifiedToken != null) { // 1. 토큰이 헤더에 실려왔는지, 토큰이 유효한 토큰인지 확인
             /** 토큰이 AT인 경우 */
-            if (jwtService.isAccessToken(token)) {
-                boolean isTemporary = jwtService.getIsTemporary(token);
+            if (verifiedToken.isAccessToken()) {
+                boolean isTemporary = verifiedToken.temporary();
                 if (isTemporary) {
                     // 모든 접근이 허용된 url이 아니면서, 임시토큰 url 아닌 경우 즉, 정식 토큰만 접근 가능한 url인 경우
                     if (isNotTemporaryTokenAllowedUrl(request.getRequestURI())) { // 나머지 URL은 임시 토큰으로 접근 불가, 임시 토큰인 경우 회원가입 요청만 허용
-                        if (!isPermitAllUrl(request.getRequestURI(), SecurityConfig.PERMIT_URL)) {
+                        if (!isPermitAllUrl(request.getRequestURI())) {
                             customAuthenticationEntryPoint.commence(request, response, new UnAuthorizedException(ErrorCode.NOT_TEMPORARY_TOKEN_ALLOWED_URL_EXCEPTION.getMessage())); // CustomAuthenticationEntryPoint가 예외 처리하도록 함
                             return;
                         } else {
@@ -52,27 +63,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     }
                 }
                 // accessToken이 유효하면 Context에 Authentication 저장 (임시/정식 모두)
-                this.setAuthentication(token, isTemporary);
+                this.setAuthentication(verifiedToken.userId(), isTemporary);
             }
             /** 토큰이 RT인 경우 */
             else {
-                String userId = jwtService.getUserId(token);
-                boolean isTemporary = jwtService.getIsTemporary(token);
+                String userId = verifiedToken.userId();
+                boolean isTemporary = verifiedToken.temporary();
 
-                if (!jwtService.isUserRefreshTokenValid(userId, token)) { // DB에 저장된 RT와 비교해서 RT가 유효하지 않으면 예외처리
+                // 저장된 RT와 비교 후 AT,RT 재생성 및 RT 테이블의 기존 RT 대체 (동시 요청은 같은 토큰 쌍을 받음)
+                LoginResponse loginResponse = jwtService.rotateRefreshToken(userId, token, isTemporary).orElse(null);
+                if (loginResponse == null) { // RT가 유효하지 않으면 예외처리
                     customAuthenticationEntryPoint.commence(request, response, new UnAuthorizedException(ErrorCode.REFRESH_TOKEN_NOT_VALID.getMessage())); // CustomAuthenticationEntryPoint가 예외 처리하도록 함
                     return;
                 }
-                LoginResponse loginResponse = jwtService.createJwtToken(userId, isTemporary); // AT,RT 재생성
 
                 jwtService.setHeaderAccessToken(response, loginResponse.getAccessToken()); // AT 발급
                 jwtService.setHeaderRefreshToken(response, loginResponse.getRefreshToken()); // RT 발급
 
-                jwtService.saveOrReplaceRefreshToken(userId, loginResponse.getRefreshToken(), loginResponse.getRefreshTokenExpiresAt()); // RT 테이블에 새로운 RT로 기존 RT 대체
                 if (isTemporary) { // 임시 토큰인 경우
                     // 모든 접근이 허용된 url이 아니면서, 임시토큰 url 아닌 경우 즉, 정식 토큰만 접근 가능한 url인 경우
                     if (isNotTemporaryTokenAllowedUrl(request.getRequestURI())) { // 나머지 URL은 임시 토큰으로 접근 불가, 임시 토큰인 경우 회원가입 요청만 허용
-                        if (!isPermitAllUrl(request.getRequestURI(), SecurityConfig.PERMIT_URL)) {
+                        if (!isPermitAllUrl(request.getRequestURI())) {
                             customAuthenticationEntryPoint.commence(request, response, new UnAuthorizedException(ErrorCode.NOT_TEMPORARY_TOKEN_ALLOWED_URL_EXCEPTION.getMessage())); // CustomAuthenticationEntryPoint가 예외 처리하도록 함
                             return;
                         } else {
@@ -82,14 +93,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     }
                 }
                 // Context에 Authentication 저장 (임시/정식 모두)
-                this.setAuthentication(loginResponse.getAccessToken(), isTemporary);
+                this.setAuthentication(userId, isTemporary);
             }
         }
         filterChain.doFilter(request, response);
     }
 
-    public void setAuthentication(String accessToken, boolean isTemporary) {
-        Authentication authentication = jwtService.getAuthentication(accessToken, isTemporary);
+    public void setAuthentication(String userId, boolean isTemporary) {
+        Authentication authentication = jwtService.getAuthenticationByUserId(userId, isTemporary);
         SecurityContextHolder.getContext().setAuthentication(authentication);
     }
 
@@ -98,9 +109,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 .noneMatch(requestUri::startsWith);
     }
 
-    private boolean isPermitAllUrl(String requestURI, String[] urlPatterns) {
-        return Arrays.stream(urlPatterns)
-                .anyMatch(url -> requestURI.matches(url.replace("**", ".*").replace("*", "[^/]*")));
+    private boolean isPermitAllUrl(String requestURI) {
+        return PERMIT_URL_PATTERNS.stream()
+                .anyMatch(pattern -> pattern.matcher(requestURI).matches());
     }
 
 }
@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Getter
 @Setter
 @Component
@@ -13,6 +15,7 @@ public class JwtProperties {
 
     private String secretKey;
     private TokenProperties token;
+    private VerifiedTokenCacheProperties verifiedTokenCache = new VerifiedTokenCacheProperties();
 
     @Getter
     @Setter
@@ -27,4 +30,11 @@ public class JwtProperties {
     public static class ExpirationProperties {
         private long expiration;
     }
+
+    @Getter
+    @Setter
+    public static class VerifiedTokenCacheProperties {
+        private int maxSize; // 0 이면 캐시하지 않음
+        private Duration ttl = Duration.ofMinutes(5); // 토큰 만료 시간보다 길게 유지하지 않음
+    }
 }
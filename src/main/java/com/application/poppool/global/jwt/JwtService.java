@@ -24,12 +24,15 @@ import java.time.temporal.ChronoUnit;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @Component
 public class JwtService {
 
     private final Key key;
+    private final JwtParser jwtParser; // 스레드 안전하므로 한 번만 생성해서 재사용
+    private final VerifiedTokenCache verifiedTokenCache;
     private final CustomUserDetailsService customUserDetailsService;
     private final JwtProperties jwtProperties;
     private final RefreshTokenService refreshTokenService;
@@ -38,6 +41,11 @@ public class JwtService {
     public JwtService(CustomUserDetailsService customUserDetailsService, JwtProperties jwtProperties, RefreshTokenService refreshTokenService) {
         byte[] keyBytes = Decoders.BASE64.decode(jwtProperties.getSecretKey());
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        this.verifiedTokenCache = new VerifiedTokenCache(jwtProperties.getVerifiedTokenCache().getTtl(),
+                jwtProperties.getVerifiedTokenCache().getMaxSize());
         this.customUserDetailsService = customUserDetailsService;
         this.jwtProperties = jwtProperties;
         this.refreshTokenService = refreshTokenService;
@@ -109,33 +117,52 @@ public class JwtService {
 
     // 토큰 정보를 검증하는 메서드
     public boolean validateToken(String token, HttpServletRequest request) {
+        return verifyToken(token).isPresent();
+    }
+
+    /**
+     * 토큰 서명 검증 및 클레임 추출 (요청당 한 번)
+     * 최근 검증한 AT 는 캐시에서 바로 반환한다.
+     *
+     * @param token
+     * @return 유효하지 않은 토큰이면 빈 값
+     */
+    public Optional<VerifiedToken> verifyToken(String token) {
+        VerifiedToken cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            VerifiedToken verifiedToken = new VerifiedToken(
+                    claims.get("userId", String.class),
+                    Boolean.TRUE.equals(claims.get("isTemporary", Boolean.class)),
+                    TokenType.ACCESS.name().equals(claims.getSubject()) ? TokenType.ACCESS : TokenType.REFRESH,
+                    claims.getExpiration());
+
+            if (verifiedToken.isAccessToken()) {
+                verifiedTokenCache.put(token, verifiedToken);
+            }
+            return Optional.of(verifiedToken);
         } catch (SecurityException | MalformedJwtException | io.jsonwebtoken.security.SignatureException e) {
             log.info("Invalid JWT Token", e);
-            return false;
+            return Optional.empty();
         } catch (ExpiredJwtException e) {
             log.info("Expired JWT Token", e);
-            return false;
+            return Optional.empty();
         } catch (UnsupportedJwtException e) {
             log.info("Unsupported JWT Token", e);
-            return false;
+            return Optional.empty();
         } catch (IllegalArgumentException | DecodingException e) {
             log.info("JWT claims string is empty.", e);
-            return false;
+            return Optional.empty();
         }
     }
 
     private Claims parseClaims(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
+            return jwtParser.parseClaimsJws(token)
                     .getBody();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
@@ -157,8 +184,11 @@ public class JwtService {
 
     // Authenticaiton 가져오기
     public Authentication getAuthentication(String accessToken, boolean isTemporary) {
-        String userId = this.getUserId(accessToken);
+        return getAuthenticationByUserId(this.getUserId(accessToken), isTemporary);
+    }
 
+    // 검증된 토큰의 userId 로 Authentication 가져오기 (토큰 재파싱 없음)
+    public Authentication getAuthenticationByUserId(String userId, boolean isTemporary) {
         UserDetails userDetails = isTemporary
                 ? customUserDetailsService.loadUserByTemporaryToken(userId) // 임시 토큰인 경우
                 : customUserDetailsService.loadUserByUsername(userId); // 정식 토큰인 경우
@@ -168,10 +198,7 @@ public class JwtService {
 
     // 토큰에서 userId 추출
     public String getUserId(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
+        Claims claims = jwtParser.parseClaimsJws(token)
                 .getBody();
         return claims.get("userId", String.class);
     }
@@ -179,17 +206,14 @@ public class JwtService {
 
     // 토큰에서 임시토큰여부 추출
     public boolean getIsTemporary(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
+        Claims claims = jwtParser.parseClaimsJws(token)
                 .getBody();
         return claims.get("isTemporary", Boolean.class);
     }
 
     public LocalDateTime getExpiration(String token) {
         // accessToken 남은 유효시간
-        Date expirationDate = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().getExpiration();
+        Date expirationDate = jwtParser.parseClaimsJws(token).getBody().getExpiration();
 
         // Date -> LocalDateTime 변환
         return TimeUtils.convertDateToLocalDateTime(expirationDate);
@@ -232,6 +256,11 @@ public class JwtService {
         return refreshTokenService.isUserRefreshTokenValid(userId, refreshToken);
     }
 
+    // RT 재발급 (동시 요청은 같은 새 토큰 쌍을 받음)
+    public Optional<LoginResponse> rotateRefreshToken(String userId, String refreshToken, boolean isTemporary) {
+        return refreshTokenService.rotateRefreshToken(userId, refreshToken, () -> createJwtToken(userId, isTemporary));
+    }
+
     public void saveOrReplaceRefreshToken(String userId, String refreshToken, LocalDateTime expiresAt) {
         refreshTokenService.saveOrReplaceRefreshToken(userId, refreshToken, expiresAt);
     }
@@ -0,0 +1,22 @@
+package com.application.poppool.global.jwt;
+
+import com.application.poppool.domain.auth.enums.TokenType;
+
+import java.util.Date;
+
+/**
+ * 서명 검증을 마친 토큰의 클레임
+ * 요청마다 토큰을 한 번만 파싱/검증하고, 필요한 값은 이 객체에서 꺼내 쓴다.
+ *
+ * @param userId
+ * @param temporary  임시 토큰 여부
+ * @param tokenType  AT / RT
+ * @param expiration 만료 시간
+ */
+public record VerifiedToken(String userId, boolean temporary, TokenType tokenType, Date expiration) {
+
+    public boolean isAccessToken() {
+        return tokenType == TokenType.ACCESS;
+    }
+
+}
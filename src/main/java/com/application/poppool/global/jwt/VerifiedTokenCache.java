@@ -0,0 +1,31 @@
+package com.application.poppool.global.jwt;
+
+import com.application.poppool.global.cache.LocalCache;
+
+import java.time.Duration;
+
+/**
+ * 최근 검증한 토큰 캐시 (토큰 문자열 -> 검증된 클레임)
+ * 같은 토큰으로 반복 요청이 들어올 때 HMAC 서명 검증과 클레임 파싱을 생략한다.
+ * 항목은 TTL 과 토큰 만료 시간 중 빠른 쪽까지만 유효하며, 최대 개수를 넘으면 자주/최근 사용하지 않은 토큰부터 제거된다.
+ */
+class VerifiedTokenCache {
+
+    private final LocalCache<String, VerifiedToken> cache;
+
+    VerifiedTokenCache(Duration ttl, int maxSize) {
+        this.cache = new LocalCache<>(ttl, maxSize);
+    }
+
+    VerifiedToken get(String token) {
+        return cache.getIfPresent(token);
+    }
+
+    void put(String token, VerifiedToken verifiedToken) {
+        Duration untilExpiration = verifiedToken.expiration() == null
+                ? null
+                : Duration.ofMillis(verifiedToken.expiration().getTime() - System.currentTimeMillis());
+        cache.put(token, verifiedToken, untilExpiration);
+    }
+
+}
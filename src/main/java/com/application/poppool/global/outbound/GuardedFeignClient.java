@@ -0,0 +1,45 @@
+package com.application.poppool.global.outbound;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+import java.io.IOException;
+
+/**
+ * OutboundGuard 를 거쳐 호출하는 Feign Client
+ * 연결/읽기 실패(IOException)와 5xx 응답은 실패로, 그 외 응답은 성공으로 기록한다.
+ * 4xx 는 외부 API 가 정상적으로 응답한 것이므로(예: 만료된 카카오 토큰) 서킷에 영향을 주지 않는다.
+ */
+public class GuardedFeignClient implements Client {
+
+    private final Client delegate;
+    private final OutboundGuardRegistry outboundGuardRegistry;
+
+    public GuardedFeignClient(Client delegate, OutboundGuardRegistry outboundGuardRegistry) {
+        this.delegate = delegate;
+        this.outboundGuardRegistry = outboundGuardRegistry;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        OutboundGuard guard = outboundGuardRegistry.getGuard(request.requestTemplate().feignTarget().name());
+        boolean probe = guard.acquire();
+
+        long startedAt = System.nanoTime();
+        boolean success = false;
+        try {
+            Response response = delegate.execute(request, options);
+            success = response.status() < 500;
+            return response;
+        } finally {
+            long latencyMillis = (System.nanoTime() - startedAt) / 1_000_000;
+            if (success) {
+                guard.onSuccess(probe, latencyMillis);
+            } else {
+                guard.onFailure(probe, latencyMillis);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,212 @@
+package com.application.poppool.global.outbound;
+
+import com.application.poppool.global.exception.ErrorCode;
+import com.application.poppool.global.exception.ServiceUnavailableException;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 외부 API 호출 보호 (클라이언트 단위)
+ * 1. 벌크헤드 : 동시 호출 수를 제한해, 느린 외부 API 가 톰캣 스레드를 모두 점유하지 않도록 한다.
+ * 2. 서킷 브레이커 : 연속 실패가 임계치에 도달하면 일정 시간 호출하지 않고 바로 실패시킨다.
+ * 오픈 시간이 지나면 한 건만 시험 호출하여 성공하면 닫고, 실패하면 다시 연다.
+ * 3. 지연 시간 통계 : 호출 수, 실패 수, 거절 수, 평균/최대/p99 지연 시간
+ */
+public class OutboundGuard {
+
+    /**
+     * 지연 시간 히스토그램 구간 상한 (ms), 마지막 구간은 그 이상
+     */
+    private static final long[] LATENCY_BUCKET_MILLIS = {5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000};
+
+    public enum CircuitState {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final Semaphore bulkhead;
+    private final long maxWaitMillis;
+    private final int failureThreshold;
+    private final long openDurationMillis;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean probeInFlight = new AtomicBoolean();
+    private volatile CircuitState circuitState = CircuitState.CLOSED;
+    private volatile long openedAt;
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalLatencyMillis = new LongAdder();
+    private final LongAccumulator maxLatencyMillis = new LongAccumulator(Long::max, 0);
+    private final LongAdder[] latencyBuckets = new LongAdder[LATENCY_BUCKET_MILLIS.length + 1];
+
+    public OutboundGuard(String name, OutboundProperties.GuardProperties properties) {
+        this.name = name;
+        this.bulkhead = new Semaphore(properties.getMaxConcurrentCalls());
+        this.maxWaitMillis = properties.getMaxWait().toMillis();
+        this.failureThreshold = properties.getFailureThreshold();
+        this.openDurationMillis = properties.getOpenDuration().toMillis();
+        for (int i = 0; i < latencyBuckets.length; i++) {
+            latencyBuckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 호출 허가 획득
+     * 서킷이 열려 있거나 동시 호출 수를 초과하면 예외 발생
+     * 허가를 받은 경우 반드시 onSuccess 또는 onFailure 를 호출해야 한다.
+     *
+     * @return 시험 호출(HALF_OPEN) 여부
+     */
+    public boolean acquire() {
+        boolean probe = false;
+        if (circuitState != CircuitState.CLOSED) {
+            if (System.currentTimeMillis() - openedAt < openDurationMillis || !probeInFlight.compareAndSet(false, true)) {
+                rejected.increment();
+                throw new ServiceUnavailableException(ErrorCode.EXTERNAL_SERVICE_UNAVAILABLE);
+            }
+            circuitState = CircuitState.HALF_OPEN;
+            probe = true;
+        }
+
+        try {
+            if (!bulkhead.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS)) {
+                releaseProbe(probe);
+                rejected.increment();
+                throw new ServiceUnavailableException(ErrorCode.EXTERNAL_SERVICE_UNAVAILABLE);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            releaseProbe(probe);
+            rejected.increment();
+            throw new ServiceUnavailableException(ErrorCode.EXTERNAL_SERVICE_UNAVAILABLE);
+        }
+        return probe;
+    }
+
+    /**
+     * 호출 성공 기록 (서킷 닫힘)
+     *
+     * @param probe
+     * @param latencyMillis
+     */
+    public void onSuccess(boolean probe, long latencyMillis) {
+        bulkhead.release();
+        record(latencyMillis);
+        consecutiveFailures.set(0);
+        if (probe) {
+            circuitState = CircuitState.CLOSED;
+            probeInFlight.set(false);
+        }
+    }
+
+    /**
+     * 호출 실패 기록 (시험 호출이 실패하거나, 닫힌 상태에서 연속 실패가 임계치에 도달하면 서킷 오픈)
+     * 서킷이 열리기 전에 시작된 일반 호출이 늦게 실패해도 OPEN/HALF_OPEN 상태와 시험 호출 여부는 바꾸지 않는다.
+     *
+     * @param probe
+     * @param latencyMillis
+     */
+    public void onFailure(boolean probe, long latencyMillis) {
+        bulkhead.release();
+        record(latencyMillis);
+        failures.increment();
+        if (probe) {
+            open();
+            probeInFlight.set(false);
+            return;
+        }
+        if (circuitState == CircuitState.CLOSED && consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            open();
+        }
+    }
+
+    /**
+     * 현재까지의 통계를 조회하고 초기화
+     *
+     * @return
+     */
+    public Stats snapshotAndReset() {
+        long callCount = calls.sumThenReset();
+        long[] bucketCounts = new long[latencyBuckets.length];
+        for (int i = 0; i < latencyBuckets.length; i++) {
+            bucketCounts[i] = latencyBuckets[i].sumThenReset();
+        }
+
+        return new Stats(
+                name,
+                circuitState,
+                callCount,
+                failures.sumThenReset(),
+                rejected.sumThenReset(),
+                callCount > 0 ? totalLatencyMillis.sumThenReset() / callCount : 0,
+                percentile(bucketCounts, callCount, 0.99),
+                maxLatencyMillis.getThenReset());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public CircuitState getCircuitState() {
+        return circuitState;
+    }
+
+    private void open() {
+        openedAt = System.currentTimeMillis();
+        circuitState = CircuitState.OPEN;
+        consecutiveFailures.set(0);
+    }
+
+    private void releaseProbe(boolean probe) {
+        if (probe) {
+            probeInFlight.set(false);
+        }
+    }
+
+    private void record(long latencyMillis) {
+        calls.increment();
+        totalLatencyMillis.add(latencyMillis);
+        maxLatencyMillis.accumulate(latencyMillis);
+
+        int bucket = 0;
+        while (bucket < LATENCY_BUCKET_MILLIS.length && latencyMillis > LATENCY_BUCKET_MILLIS[bucket]) {
+            bucket++;
+        }
+        latencyBuckets[bucket].increment();
+    }
+
+    /**
+     * 히스토그램 기반 백분위 지연 시간 (구간 상한값, 마지막 구간이면 -1)
+     */
+    private static long percentile(long[] bucketCounts, long total, double percentile) {
+        if (total == 0) {
+            return 0;
+        }
+        long target = (long) Math.ceil(total * percentile);
+        long cumulative = 0;
+        for (int i = 0; i < LATENCY_BUCKET_MILLIS.length; i++) {
+            cumulative += bucketCounts[i];
+            if (cumulative >= target) {
+                return LATENCY_BUCKET_MILLIS[i];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 외부 API 호출 통계
+     *
+     * @param p99LatencyMillis 히스토그램 구간 상한값 (최대 구간을 넘으면 -1)
+     */
+    public record Stats(String name, CircuitState circuitState, long calls, long failures, long rejected,
+                        long meanLatencyMillis, long p99LatencyMillis, long maxLatencyMillis) {
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.application.poppool.global.outbound;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 외부 API 클라이언트별 OutboundGuard 보관 및 통계 로그
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboundGuardRegistry {
+
+    private final OutboundProperties outboundProperties;
+    private final Map<String, OutboundGuard> guards = new ConcurrentHashMap<>();
+
+    /**
+     * 클라이언트의 OutboundGuard 조회 (없으면 설정값으로 생성)
+     *
+     * @param clientName Feign 클라이언트 name
+     * @return
+     */
+    public OutboundGuard getGuard(String clientName) {
+        return guards.computeIfAbsent(clientName, name -> new OutboundGuard(name, outboundProperties.getGuard(name)));
+    }
+
+    /**
+     * 주기적으로 클라이언트별 호출 통계를 로그로 남기고 초기화
+     */
+    @Scheduled(fixedDelayString = "${outbound.stats-log-delay:60000}")
+    public void logStats() {
+        for (OutboundGuard guard : guards.values()) {
+            OutboundGuard.Stats stats = guard.snapshotAndReset();
+            if (stats.calls() == 0 && stats.rejected() == 0) {
+                continue;
+            }
+            log.info("외부 API 호출 통계 - {}: circuit={}, calls={}, failures={}, rejected={}, mean={}ms, p99={}ms, max={}ms",
+                    stats.name(), stats.circuitState(), stats.calls(), stats.failures(), stats.rejected(),
+                    stats.meanLatencyMillis(), stats.p99LatencyMillis(), stats.maxLatencyMillis());
+        }
+    }
+
+}
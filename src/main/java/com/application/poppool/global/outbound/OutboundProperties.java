@@ -0,0 +1,33 @@
+package com.application.poppool.global.outbound;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "outbound")
+public class OutboundProperties {
+
+    private GuardProperties defaults = new GuardProperties(); // 개별 설정이 없는 클라이언트에 적용
+    private Map<String, GuardProperties> clients = new HashMap<>(); // Feign 클라이언트 name -> 설정
+
+    public GuardProperties getGuard(String clientName) {
+        return clients.getOrDefault(clientName, defaults);
+    }
+
+    @Getter
+    @Setter
+    public static class GuardProperties {
+        private int maxConcurrentCalls = 20; // 동시 호출 수 제한 (벌크헤드)
+        private Duration maxWait = Duration.ofMillis(100); // 동시 호출 수 초과 시 대기 시간
+        private int failureThreshold = 5; // 연속 실패 횟수가 이 값에 도달하면 서킷 오픈
+        private Duration openDuration = Duration.ofSeconds(30); // 서킷 오픈 유지 시간
+    }
+}
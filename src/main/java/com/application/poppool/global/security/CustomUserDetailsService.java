@@ -2,7 +2,8 @@ package com.application.poppool.global.security;
 
 import com.application.poppool.domain.user.entity.UserEntity;
 import com.application.poppool.domain.user.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import com.application.poppool.global.cache.LocalCache;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
@@ -10,23 +11,50 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+/**
+ * 사용자 인증 정보(UserDetails) 조회
+ * 인증된 요청마다 회원/권한 조회 쿼리가 실행되지 않도록, 조회한 UserDetails 를 짧은 TTL 동안 메모리에 보관한다.
+ * 권한은 회원가입 시에만 부여되므로 회원가입/탈퇴 시 커밋 이후 해당 회원의 캐시를 삭제하고, 그 외의 변경은 TTL 로 반영한다.
+ */
 @Component
-@RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final LocalCache<String, UserDetails> principalCache;
 
+    public CustomUserDetailsService(UserRepository userRepository,
+                                    @Value("${security.principal-cache.ttl:30s}") Duration principalCacheTtl,
+                                    @Value("${security.principal-cache.max-size:10000}") int principalCacheMaxSize) {
+        this.userRepository = userRepository;
+        this.principalCache = new LocalCache<>(principalCacheTtl, principalCacheMaxSize);
+    }
+
+    /**
+     * 캐시에 있으면 DB 조회 없이 반환 (캐시 조회에는 트랜잭션/커넥션이 필요하지 않음)
+     */
     @Override
-    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String userId) throws UsernameNotFoundException {
+        return principalCache.get(userId, this::loadUserFromDatabase);
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 회원의 인증 정보 캐시 삭제 (트랜잭션이 없으면 즉시 삭제)
+     *
+     * @param userId
+     */
+    public void evictAfterCommit(String userId) {
+        principalCache.evictAfterCommit(userId);
+    }
 
-        UserEntity user = userRepository.findByUserId(userId)
+    private UserDetails loadUserFromDatabase(String userId) {
+        /** 회원과 권한을 한 번의 쿼리로 조회 */
+        UserEntity user = userRepository.findWithUserRolesByUserId(userId)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with userId: " + userId));
 
         // 비밀번호가 null인 경우 빈 문자열로 대체, 인증을 하기 위함
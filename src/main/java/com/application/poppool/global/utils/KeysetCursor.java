@@ -0,0 +1,133 @@
+package com.application.poppool.global.utils;
+
+import com.application.poppool.global.exception.BadRequestException;
+import com.application.poppool.global.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 키셋(Seek) 페이지네이션 커서
+ * 마지막으로 조회한 행의 정렬 키 값과 ID를 담으며, 클라이언트에는 Base64(JSON) 문자열로 전달된다.
+ * 커서가 넘어오면 offset 대신 "마지막 행 이후" 조건으로 조회하므로 페이지가 깊어져도 조회 비용이 일정하다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class KeysetCursor {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private List<String> sort; // "property,DIRECTION" 형식
+    private List<String> values; // 정렬 키 값 (문자열)
+    private Long id;
+
+    /**
+     * 커서 문자열 디코딩
+     * 커서가 만들어질 때의 정렬 기준과 현재 요청의 정렬 기준이 다르면 예외 발생
+     *
+     * @param cursor
+     * @param pageable
+     * @return 커서가 없으면 null
+     */
+    public static KeysetCursor decode(String cursor, Pageable pageable) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        KeysetCursor keysetCursor;
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(cursor);
+            keysetCursor = OBJECT_MAPPER.readValue(json, KeysetCursor.class);
+        } catch (IllegalArgumentException | IOException e) {
+            throw new BadRequestException(ErrorCode.INVALID_CURSOR);
+        }
+
+        if (keysetCursor.id == null
+                || keysetCursor.values == null
+                || !toSortKeys(pageable.getSort()).equals(keysetCursor.sort)
+                || keysetCursor.values.size() != keysetCursor.sort.size()) {
+            throw new BadRequestException(ErrorCode.INVALID_CURSOR);
+        }
+        return keysetCursor;
+    }
+
+    /**
+     * 다음 페이지 커서 생성
+     * 조회 결과의 마지막 행에서 정렬 키 값과 ID를 읽어 커서를 만든다.
+     *
+     * @param content  조회 결과 (id 및 정렬 기준 프로퍼티를 가진 DTO)
+     * @param pageable
+     * @return 마지막 페이지이거나, 정렬 기준 프로퍼티를 읽을 수 없는 경우 null
+     */
+    public static String next(List<?> content, Pageable pageable) {
+        if (content.isEmpty() || content.size() < pageable.getPageSize()) {
+            return null;
+        }
+
+        KeysetCursor keysetCursor = of(content.get(content.size() - 1), pageable);
+        return keysetCursor != null ? keysetCursor.encode() : null;
+    }
+
+    /**
+     * 주어진 행 이후를 가리키는 커서 생성
+     *
+     * @param row      id 및 정렬 기준 프로퍼티를 가진 DTO/엔티티
+     * @param pageable
+     * @return 정렬 기준 프로퍼티를 읽을 수 없는 경우 null
+     */
+    public static KeysetCursor of(Object row, Pageable pageable) {
+        BeanWrapper lastRow = new BeanWrapperImpl(row);
+        if (!lastRow.isReadableProperty("id")) {
+            return null;
+        }
+
+        List<String> values = new ArrayList<>();
+        for (Sort.Order order : pageable.getSort()) {
+            if (!lastRow.isReadableProperty(order.getProperty())) {
+                return null;
+            }
+            Object value = lastRow.getPropertyValue(order.getProperty());
+            if (value == null) {
+                return null;
+            }
+            values.add(value instanceof Enum<?> enumValue ? enumValue.name() : value.toString());
+        }
+
+        return new KeysetCursor(toSortKeys(pageable.getSort()), values, (Long) lastRow.getPropertyValue("id"));
+    }
+
+    /**
+     * 커서 문자열 인코딩
+     *
+     * @return 직렬화에 실패한 경우 null
+     */
+    public String encode() {
+        try {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(OBJECT_MAPPER.writeValueAsString(this).getBytes(StandardCharsets.UTF_8));
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private static List<String> toSortKeys(Sort sort) {
+        return sort.stream()
+                .map(order -> order.getProperty() + "," + order.getDirection().name())
+                .toList();
+    }
+
+}
@@ -1,17 +1,28 @@
 package com.application.poppool.global.utils;
 
+import com.application.poppool.global.exception.BadRequestException;
+import com.application.poppool.global.exception.ErrorCode;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Path;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparablePath;
+import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.core.types.dsl.PathBuilder;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.util.ReflectionUtils;
 
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 public class QueryDslUtils {
 
+    private static final String ID_PROPERTY = "id";
+
     public static List<OrderSpecifier> getOrderSpecifiers(Pageable pageable, Path<?> qEntity) {
         List<OrderSpecifier> orders = new ArrayList<>();
         PathBuilder pathBuilder = new PathBuilder<>(qEntity.getType(), qEntity.getMetadata());
@@ -22,4 +33,133 @@ public class QueryDslUtils {
         }
         return orders;
     }
+
+    /**
+     * 키셋 페이지네이션용 정렬 조건
+     * 요청 정렬 기준 뒤에 ID 정렬을 붙여 정렬 키가 같은 행 사이의 순서를 고정한다.
+     *
+     * @param pageable
+     * @param qEntity
+     * @return
+     */
+    public static List<OrderSpecifier> getKeysetOrderSpecifiers(Pageable pageable, Path<?> qEntity) {
+        List<OrderSpecifier> orders = getOrderSpecifiers(pageable, qEntity);
+        if (pageable.getSort().getOrderFor(ID_PROPERTY) == null) {
+            orders.add(new OrderSpecifier<>(getIdDirection(pageable), idPath(qEntity)));
+        }
+        return orders;
+    }
+
+    /**
+     * 키셋 페이지네이션용 조건 (커서 이후의 행)
+     * 정렬 기준이 (a, b) 이고 ID 정렬이 붙는다면 다음과 같은 조건이 만들어진다.
+     * (a > :a) or (a = :a and b > :b) or (a = :a and b = :b and id > :id)   (내림차순인 경우 <)
+     *
+     * @param pageable
+     * @param qEntity
+     * @param cursor
+     * @return 커서가 없으면 null (조건 없음)
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static BooleanExpression getKeysetPredicate(Pageable pageable, Path<?> qEntity, KeysetCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        PathBuilder<?> pathBuilder = new PathBuilder<>(qEntity.getType(), qEntity.getMetadata());
+        BooleanExpression predicate = null;
+        BooleanExpression equalsPrefix = null;
+
+        int index = 0;
+        for (Sort.Order order : pageable.getSort()) {
+            Class<? extends Comparable> type = getPropertyType(qEntity.getType(), order.getProperty());
+            Comparable value = convert(cursor.getValues().get(index++), type);
+            ComparablePath path = pathBuilder.getComparable(order.getProperty(), type);
+
+            BooleanExpression after = order.getDirection().isAscending() ? path.gt(value) : path.lt(value);
+            predicate = or(predicate, and(equalsPrefix, after));
+            equalsPrefix = and(equalsPrefix, path.eq(value));
+        }
+
+        if (pageable.getSort().getOrderFor(ID_PROPERTY) == null) {
+            NumberPath<Long> idPath = idPath(qEntity);
+            BooleanExpression after = getIdDirection(pageable) == Order.ASC ? idPath.gt(cursor.getId()) : idPath.lt(cursor.getId());
+            predicate = or(predicate, and(equalsPrefix, after));
+        }
+        return predicate;
+    }
+
+    private static NumberPath<Long> idPath(Path<?> qEntity) {
+        return new PathBuilder<>(qEntity.getType(), qEntity.getMetadata()).getNumber(ID_PROPERTY, Long.class);
+    }
+
+    /**
+     * ID 정렬 방향은 마지막 정렬 기준의 방향을 따름 (정렬 기준이 없으면 내림차순)
+     */
+    private static Order getIdDirection(Pageable pageable) {
+        List<Sort.Order> orders = pageable.getSort().toList();
+        if (orders.isEmpty()) {
+            return Order.DESC;
+        }
+        return orders.get(orders.size() - 1).getDirection().isAscending() ? Order.ASC : Order.DESC;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Class<? extends Comparable> getPropertyType(Class<?> entityType, String property) {
+        Field field = ReflectionUtils.findField(entityType, property);
+        if (field == null || !(Comparable.class.isAssignableFrom(field.getType()) || field.getType().isPrimitive())) {
+            throw new BadRequestException(ErrorCode.INVALID_CURSOR);
+        }
+        return (Class<? extends Comparable>) wrap(field.getType());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparable<?> convert(String value, Class<?> type) {
+        try {
+            if (type == String.class) {
+                return value;
+            } else if (type == Long.class) {
+                return Long.valueOf(value);
+            } else if (type == Integer.class) {
+                return Integer.valueOf(value);
+            } else if (type == Double.class) {
+                return Double.valueOf(value);
+            } else if (type == Boolean.class) {
+                return Boolean.valueOf(value);
+            } else if (type == LocalDateTime.class) {
+                return LocalDateTime.parse(value);
+            } else if (type == LocalDate.class) {
+                return LocalDate.parse(value);
+            } else if (type.isEnum()) {
+                return Enum.valueOf((Class<? extends Enum>) type, value);
+            }
+        } catch (RuntimeException e) {
+            throw new BadRequestException(ErrorCode.INVALID_CURSOR);
+        }
+        throw new BadRequestException(ErrorCode.INVALID_CURSOR);
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        }
+        if (type == long.class) {
+            return Long.class;
+        } else if (type == int.class) {
+            return Integer.class;
+        } else if (type == double.class) {
+            return Double.class;
+        } else if (type == boolean.class) {
+            return Boolean.class;
+        }
+        throw new BadRequestException(ErrorCode.INVALID_CURSOR);
+    }
+
+    private static BooleanExpression and(BooleanExpression left, BooleanExpression right) {
+        return left == null ? right : left.and(right);
+    }
+
+    private static BooleanExpression or(BooleanExpression left, BooleanExpression right) {
+        return left == null ? right : left.or(right);
+    }
 }
@@ -0,0 +1,12 @@
+-- 서버 간 캐시 무효화 아웃박스 스키마 (JdbcCacheInvalidationTransport)
+-- ddl-auto 를 사용하지 않으므로 배포 전에 한 번 적용한다. (애플리케이션은 테이블을 만들지 않음)
+
+CREATE TABLE IF NOT EXISTS cache_invalidation_outbox (
+    ID BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    NODE_ID VARCHAR(36) NOT NULL,
+    TOPIC VARCHAR(50) NOT NULL,
+    TARGET_ID BIGINT NULL,
+    CHANGE_TYPE VARCHAR(20) NULL,
+    CREATED_AT DATETIME(3) NOT NULL,
+    INDEX IDX_CACHE_INVALIDATION_OUTBOX_CREATED_AT (CREATED_AT)
+);
@@ -0,0 +1,9 @@
+-- 팝업스토어 코멘트 목록 키셋 페이지네이션 인덱스 (CommentRepositoryImpl.findPopUpStoreComments)
+-- ddl-auto 를 사용하지 않으므로 배포 전에 한 번 적용한다. (CommentEntity 의 @Index 와 같은 정의)
+-- 팝업스토어 ID, 코멘트 타입으로 거른 뒤 정렬 컬럼과 COMMENT_ID(동률 처리) 순서로 읽으므로 정렬 없이 커서 위치부터 조회한다.
+
+-- 최신순 (NEWEST)
+CREATE INDEX IDX_COMMENT_POPUP_STORE_CREATE_DTM ON comment (POPUP_STORE_ID, TYPE, CREATE_DTM, COMMENT_ID);
+
+-- 좋아요순 (MOST_LIKED)
+CREATE INDEX IDX_COMMENT_POPUP_STORE_LIKE_COUNT ON comment (POPUP_STORE_ID, TYPE, LIKE_COUNT, CREATE_DTM, COMMENT_ID);
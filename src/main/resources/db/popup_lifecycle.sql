@@ -0,0 +1,114 @@
+-- 팝업스토어 생명주기(종료 처리, 아카이브) 스키마
+-- ddl-auto 를 사용하지 않으므로 배포 전에 한 번 적용한다. (애플리케이션은 테이블을 만들지 않음)
+-- 아카이브 테이블은 옮기는 컬럼만 명시적으로 정의하며, 원본 테이블에 컬럼이 추가되어도 아카이브 쿼리는 영향을 받지 않는다.
+-- 원본에 추가된 컬럼을 보관하려면 아카이브 테이블과 PopUpStoreLifecycleRepository 의 컬럼 목록에 함께 추가한다.
+
+-- CLOSED_YN 이 비어 있는 이전 데이터 초기화 (이후에는 관리자 등록/수정과 종료 처리 스케줄러가 갱신)
+UPDATE popup_store SET CLOSED_YN = IF(END_DT < NOW(), 'Y', 'N') WHERE CLOSED_YN IS NULL;
+
+-- 진행 중 팝업 조회용 인덱스
+CREATE INDEX IDX_POPUP_STORE_CLOSED_END ON popup_store (CLOSED_YN, END_DT);
+
+-- 아카이브 테이블
+CREATE TABLE IF NOT EXISTS popup_store_archive (
+    POPUP_STORE_ID BIGINT NOT NULL PRIMARY KEY,
+    POPUP_STORE_NAME VARCHAR(255) NULL,
+    POPUP_STORE_DESC LONGTEXT NULL,
+    MAIN_IMAGE_URL VARCHAR(255) NULL,
+    START_DT DATETIME(6) NULL,
+    END_DT DATETIME(6) NULL,
+    ADDRESS VARCHAR(255) NULL,
+    CATEGORY VARCHAR(255) NULL,
+    CLOSED_YN CHAR(1) NULL,
+    VIEW_CNT BIGINT NOT NULL,
+    BOOKMARK_CNT BIGINT NOT NULL,
+    COMMNET_CNT BIGINT NOT NULL,
+    LOCATION_ID BIGINT NULL,
+    CREATOR VARCHAR(255) NULL,
+    UPDATER VARCHAR(255) NULL,
+    CREATE_DTM DATETIME(6) NOT NULL,
+    UPDATE_DTM DATETIME(6) NOT NULL,
+    ARCHIVED_AT DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS locations_archive (
+    LOCATION_ID BIGINT NOT NULL PRIMARY KEY,
+    LATITUDE DOUBLE NOT NULL,
+    LONGITUDE DOUBLE NOT NULL,
+    MARKER_TITLE VARCHAR(255) NULL,
+    MARKER_SNIPPET VARCHAR(255) NULL,
+    CREATOR VARCHAR(255) NULL,
+    UPDATER VARCHAR(255) NULL,
+    CREATE_DTM DATETIME(6) NOT NULL,
+    UPDATE_DTM DATETIME(6) NOT NULL,
+    ARCHIVED_AT DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS popup_store_image_archive (
+    IMAGE_ID BIGINT NOT NULL PRIMARY KEY,
+    POPUP_STORE_ID BIGINT NOT NULL,
+    URL VARCHAR(255) NULL,
+    CREATOR VARCHAR(255) NULL,
+    UPDATER VARCHAR(255) NULL,
+    CREATE_DTM DATETIME(6) NOT NULL,
+    UPDATE_DTM DATETIME(6) NOT NULL,
+    ARCHIVED_AT DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS comment_archive (
+    COMMENT_ID BIGINT NOT NULL PRIMARY KEY,
+    CONTENT LONGTEXT NULL,
+    LIKE_COUNT BIGINT NOT NULL,
+    TYPE VARCHAR(255) NULL,
+    USER_ID VARCHAR(255) NULL,
+    POPUP_STORE_ID BIGINT NULL,
+    CREATOR VARCHAR(255) NULL,
+    UPDATER VARCHAR(255) NULL,
+    CREATE_DTM DATETIME(6) NOT NULL,
+    UPDATE_DTM DATETIME(6) NOT NULL,
+    ARCHIVED_AT DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS comment_image_archive (
+    IMAGE_ID BIGINT NOT NULL PRIMARY KEY,
+    COMMENT_ID BIGINT NOT NULL,
+    IMAGE_URL VARCHAR(255) NULL,
+    CREATOR VARCHAR(255) NULL,
+    UPDATER VARCHAR(255) NULL,
+    CREATE_DTM DATETIME(6) NOT NULL,
+    UPDATE_DTM DATETIME(6) NOT NULL,
+    ARCHIVED_AT DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS likes_archive (
+    LIKE_ID BIGINT NOT NULL PRIMARY KEY,
+    USER_ID VARCHAR(255) NULL,
+    COMMENT_ID BIGINT NULL,
+    CREATOR VARCHAR(255) NULL,
+    UPDATER VARCHAR(255) NULL,
+    CREATE_DTM DATETIME(6) NOT NULL,
+    UPDATE_DTM DATETIME(6) NOT NULL,
+    ARCHIVED_AT DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS user_popup_store_view_archive (
+    USER_POPUP_STORE_VIEW_ID BIGINT NOT NULL PRIMARY KEY,
+    VIEWED_AT DATETIME(6) NULL,
+    VIEW_CNT BIGINT NOT NULL,
+    COMMENT_CNT BIGINT NOT NULL,
+    BOOKMARK_CNT BIGINT NOT NULL,
+    USER_ID VARCHAR(255) NULL,
+    POPUP_STORE_ID BIGINT NULL,
+    ARCHIVED_AT DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS user_bookmark_popup_store_archive (
+    BOOKMARK_POPUP_STORE_ID BIGINT NOT NULL PRIMARY KEY,
+    USER_ID VARCHAR(255) NULL,
+    POPUP_STORE_ID BIGINT NULL,
+    CREATOR VARCHAR(255) NULL,
+    UPDATER VARCHAR(255) NULL,
+    CREATE_DTM DATETIME(6) NOT NULL,
+    UPDATE_DTM DATETIME(6) NOT NULL,
+    ARCHIVED_AT DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6)
+);
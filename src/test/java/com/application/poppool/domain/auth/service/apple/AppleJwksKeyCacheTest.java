@@ -0,0 +1,148 @@
+package com.application.poppool.domain.auth.service.apple;
+
+import com.application.poppool.domain.auth.dto.info.ApplePublicKeys;
+import com.application.poppool.support.StubHttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AppleJwksKeyCacheTest {
+
+    private StubHttpServer server;
+
+    @BeforeEach
+    void setUp() {
+        server = StubHttpServer.start("/auth/keys");
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void refreshLoadsKeysByKid() throws Exception {
+        RSAPublicKey first = generateKey();
+        RSAPublicKey second = generateKey();
+        server.setBody(Map.of("keys", List.of(toJwk("kid-1", first), toJwk("kid-2", second))));
+
+        AppleJwksKeyCache cache = createCache(Duration.ofMinutes(1));
+        cache.refresh();
+
+        assertThat(cache.getPublicKey("kid-1")).map(PublicKey::getEncoded).hasValueSatisfying(
+                encoded -> assertThat(encoded).isEqualTo(first.getEncoded()));
+        assertThat(cache.getPublicKey("kid-2")).map(PublicKey::getEncoded).hasValueSatisfying(
+                encoded -> assertThat(encoded).isEqualTo(second.getEncoded()));
+        assertThat(server.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void cachedKidDoesNotCallRemote() throws Exception {
+        server.setBody(Map.of("keys", List.of(toJwk("kid-1", generateKey()))));
+
+        AppleJwksKeyCache cache = createCache(Duration.ofMinutes(1));
+        cache.refresh();
+        for (int i = 0; i < 10; i++) {
+            assertThat(cache.getPublicKey("kid-1")).isPresent();
+        }
+
+        assertThat(server.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void unknownKidRefetchesOnce() throws Exception {
+        server.setBody(Map.of("keys", List.of(toJwk("kid-1", generateKey()))));
+
+        AppleJwksKeyCache cache = createCache(Duration.ofMinutes(1));
+        cache.refresh();
+
+        /** 애플 키 교체 */
+        RSAPublicKey rotated = generateKey();
+        server.setBody(Map.of("keys", List.of(toJwk("kid-1", generateKey()), toJwk("kid-2", rotated))));
+
+        assertThat(cache.getPublicKey("kid-2")).map(PublicKey::getEncoded).hasValueSatisfying(
+                encoded -> assertThat(encoded).isEqualTo(rotated.getEncoded()));
+        assertThat(server.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    void unknownKidRefetchIsRateLimited() throws Exception {
+        server.setBody(Map.of("keys", List.of(toJwk("kid-1", generateKey()))));
+
+        AppleJwksKeyCache cache = createCache(Duration.ofMinutes(1));
+        cache.refresh();
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(cache.getPublicKey("unknown")).isEmpty();
+        }
+
+        assertThat(server.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void firstLookupFetchesWhenNotYetLoaded() throws Exception {
+        server.setBody(Map.of("keys", List.of(toJwk("kid-1", generateKey()))));
+
+        AppleJwksKeyCache cache = createCache(Duration.ofMinutes(1));
+
+        assertThat(cache.getPublicKey("kid-1")).isPresent();
+        assertThat(server.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void failedRefreshKeepsPreviousKeys() throws Exception {
+        server.setBody(Map.of("keys", List.of(toJwk("kid-1", generateKey()))));
+
+        AppleJwksKeyCache cache = createCache(Duration.ZERO);
+        cache.refresh();
+
+        server.setStatus(500);
+        cache.refresh();
+
+        assertThat(cache.getPublicKey("kid-1")).isPresent();
+        assertThat(server.getRequestCount()).isEqualTo(2);
+    }
+
+    private AppleJwksKeyCache createCache(Duration minRefetchInterval) {
+        AppleAuthFeignClient client = server.feignBuilder(ApplePublicKeys.class)
+                .target(AppleAuthFeignClient.class, server.baseUrl());
+        return new AppleJwksKeyCache(client, minRefetchInterval);
+    }
+
+    private static RSAPublicKey generateKey() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return (RSAPublicKey) generator.generateKeyPair().getPublic();
+    }
+
+    private static Map<String, String> toJwk(String kid, RSAPublicKey publicKey) {
+        return Map.of(
+                "kty", "RSA",
+                "kid", kid,
+                "use", "sig",
+                "alg", "RS256",
+                "n", encodeUnsigned(publicKey.getModulus()),
+                "e", encodeUnsigned(publicKey.getPublicExponent()));
+    }
+
+    private static String encodeUnsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+}
@@ -0,0 +1,122 @@
+package com.application.poppool.domain.auth.service.kakao;
+
+import com.application.poppool.domain.auth.dto.info.KakaoToken;
+import com.application.poppool.domain.auth.dto.request.KakaoLoginRequest;
+import com.application.poppool.domain.auth.dto.response.LoginResponse;
+import com.application.poppool.domain.token.service.RefreshTokenService;
+import com.application.poppool.domain.user.repository.UserRepository;
+import com.application.poppool.global.jwt.JwtService;
+import com.application.poppool.support.StubHttpServer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KakaoTokenCacheTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final JwtService jwtService = mock(JwtService.class);
+    private final RefreshTokenService refreshTokenService = mock(RefreshTokenService.class);
+
+    private StubHttpServer server;
+
+    @BeforeEach
+    void setUp() {
+        server = StubHttpServer.start("/v1/user/access_token_info");
+        server.setBody(Map.of("id", 1234, "expires_in", 3600));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void validatedTokenIsServedFromCache() {
+        KakaoAuthService kakaoAuthService = createService(new KakaoTokenCache(Duration.ofMinutes(1), 100));
+
+        assertThat(kakaoAuthService.validateKakaoAccessToken("1234@kakao", "token")).isTrue();
+        assertThat(kakaoAuthService.validateKakaoAccessToken("1234@kakao", "token")).isTrue();
+
+        assertThat(server.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void cachedTokenIsNotValidForOtherUser() {
+        KakaoAuthService kakaoAuthService = createService(new KakaoTokenCache(Duration.ofMinutes(1), 100));
+
+        assertThat(kakaoAuthService.validateKakaoAccessToken("1234@kakao", "token")).isTrue();
+        assertThat(kakaoAuthService.validateKakaoAccessToken("9999@kakao", "token")).isFalse();
+
+        assertThat(server.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    void expiredEntryIsRevalidated() {
+        KakaoAuthService kakaoAuthService = createService(new KakaoTokenCache(Duration.ZERO, 100));
+
+        assertThat(kakaoAuthService.validateKakaoAccessToken("1234@kakao", "token")).isTrue();
+        assertThat(kakaoAuthService.validateKakaoAccessToken("1234@kakao", "token")).isTrue();
+
+        assertThat(server.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    void tokenPastKakaoExpiryIsRevalidated() throws InterruptedException {
+        server.setBody(Map.of("id", 1234, "expires_in", 1));
+        KakaoAuthService kakaoAuthService = createService(new KakaoTokenCache(Duration.ofMinutes(1), 100));
+
+        assertThat(kakaoAuthService.validateKakaoAccessToken("1234@kakao", "token")).isTrue();
+        Thread.sleep(1100);
+        assertThat(kakaoAuthService.validateKakaoAccessToken("1234@kakao", "token")).isTrue();
+
+        assertThat(server.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    void repeatedLoginCallsKakaoOnce() {
+        LoginResponse loginResponse = LoginResponse.builder()
+                .grantType("Bearer")
+                .accessToken("access-token")
+                .accessTokenExpiresAt(LocalDateTime.now().plusHours(1))
+                .refreshToken("refresh-token")
+                .refreshTokenExpiresAt(LocalDateTime.now().plusDays(14))
+                .build();
+        when(userRepository.findByUserId("1234@kakao")).thenReturn(Optional.empty());
+        when(jwtService.createJwtToken(anyString(), anyBoolean())).thenReturn(loginResponse);
+        KakaoAuthService kakaoAuthService = createService(new KakaoTokenCache(Duration.ofMinutes(1), 100));
+        KakaoLoginRequest kakaoLoginRequest = new ObjectMapper().convertValue(
+                Map.of("kakaoUserId", 1234, "kakaoAccessToken", "token"), KakaoLoginRequest.class);
+
+        for (int i = 0; i < 2; i++) {
+            LoginResponse response = kakaoAuthService.kakaoLogin(kakaoLoginRequest, mock(HttpServletResponse.class));
+            assertThat(response.getUserId()).isEqualTo("1234@kakao");
+            assertThat(response.isRegisteredUserYn()).isFalse();
+        }
+
+        assertThat(server.getRequestCount()).isEqualTo(1);
+        verify(refreshTokenService, times(2)).saveOrReplaceRefreshToken("1234@kakao",
+                loginResponse.getRefreshToken(), loginResponse.getRefreshTokenExpiresAt());
+    }
+
+    private KakaoAuthService createService(KakaoTokenCache kakaoTokenCache) {
+        KakaoAuthFeignClient kakaoAuthFeignClient = server.feignBuilder(KakaoToken.class)
+                .target(KakaoAuthFeignClient.class, server.baseUrl());
+        return new KakaoAuthService(userRepository, jwtService, kakaoAuthFeignClient, kakaoTokenCache, refreshTokenService);
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.application.poppool.global.buffer;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StripedCounterBufferTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Test
+    void addSumsDeltasAndKeepsLatestTime() {
+        StripedCounterBuffer<String> buffer = new StripedCounterBuffer<>(4);
+
+        buffer.add("a", 1, T0.plusSeconds(10));
+        buffer.add("a", 2, T0);
+        buffer.add("b", 5, T0.plusSeconds(1));
+
+        Map<String, StripedCounterBuffer.Counter> drained = buffer.drain();
+        assertThat(drained).containsOnlyKeys("a", "b");
+        assertThat(drained.get("a")).isEqualTo(new StripedCounterBuffer.Counter(3, T0.plusSeconds(10)));
+        assertThat(drained.get("b")).isEqualTo(new StripedCounterBuffer.Counter(5, T0.plusSeconds(1)));
+    }
+
+    @Test
+    void addWithoutTimeKeepsNoTime() {
+        StripedCounterBuffer<String> buffer = new StripedCounterBuffer<>(4);
+
+        buffer.add("a", 1);
+        buffer.add("a", 2);
+
+        assertThat(buffer.drain().get("a")).isEqualTo(new StripedCounterBuffer.Counter(3, null));
+    }
+
+    @Test
+    void drainEmptiesBuffer() {
+        StripedCounterBuffer<String> buffer = new StripedCounterBuffer<>(4);
+        buffer.add("a", 1, T0);
+
+        buffer.drain();
+
+        assertThat(buffer.drain()).isEmpty();
+    }
+
+    @Test
+    void addAllMergesFailedFlushWithNewerViews() {
+        StripedCounterBuffer<String> buffer = new StripedCounterBuffer<>(4);
+        buffer.add("a", 2, T0);
+        Map<String, StripedCounterBuffer.Counter> failed = buffer.drain();
+
+        buffer.add("a", 1, T0.plusSeconds(5));
+        buffer.addAll(failed);
+
+        assertThat(buffer.drain().get("a")).isEqualTo(new StripedCounterBuffer.Counter(3, T0.plusSeconds(5)));
+    }
+
+    @Test
+    void concurrentAddsAreNotLost() throws InterruptedException {
+        StripedCounterBuffer<Long> buffer = new StripedCounterBuffer<>(16);
+        int threads = 8;
+        int addsPerThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < addsPerThread; i++) {
+                    buffer.add((long) (i % 100), 1, T0.plusSeconds(offset));
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        Map<Long, StripedCounterBuffer.Counter> drained = buffer.drain();
+        assertThat(drained).hasSize(100);
+        assertThat(drained.values().stream().mapToLong(StripedCounterBuffer.Counter::count).sum())
+                .isEqualTo((long) threads * addsPerThread);
+        assertThat(drained.values()).allMatch(counter -> counter.lastAddedAt().equals(T0.plusSeconds(threads - 1)));
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.application.poppool.global.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalCacheTest {
+
+    @Test
+    void loadedValueIsCached() {
+        LocalCache<String, String> cache = new LocalCache<>(Duration.ofMinutes(1), 100);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        assertThat(cache.get("key", key -> "value-" + loadCount.incrementAndGet())).isEqualTo("value-1");
+        assertThat(cache.get("key", key -> "value-" + loadCount.incrementAndGet())).isEqualTo("value-1");
+
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    void evictionDuringLoadDiscardsLoadedValue() {
+        LocalCache<String, String> cache = new LocalCache<>(Duration.ofMinutes(1), 100);
+
+        /** 조회 도중 커밋 이후 무효화가 끼어든 경우 */
+        String stale = cache.get("key", key -> {
+            cache.evict(key);
+            return "stale";
+        });
+
+        assertThat(stale).isEqualTo("stale");
+        assertThat(cache.getIfPresent("key")).isNull();
+        assertThat(cache.get("key", key -> "fresh")).isEqualTo("fresh");
+    }
+
+    @Test
+    void evictAllDuringLoadDiscardsLoadedValue() {
+        LocalCache<String, String> cache = new LocalCache<>(Duration.ofMinutes(1), 100);
+
+        cache.get("key", key -> {
+            cache.evictAll();
+            return "stale";
+        });
+
+        assertThat(cache.getIfPresent("key")).isNull();
+    }
+
+    @Test
+    void evictIfRemovesMatchingKeysOnly() {
+        LocalCache<String, String> cache = new LocalCache<>(Duration.ofMinutes(1), 100);
+        cache.put("popup:1", "a");
+        cache.put("user:1", "b");
+
+        cache.evictIf(key -> key.startsWith("popup:"));
+
+        assertThat(cache.getIfPresent("popup:1")).isNull();
+        assertThat(cache.getIfPresent("user:1")).isEqualTo("b");
+    }
+
+    @Test
+    void entryTtlIsCappedByDefaultTtl() {
+        LocalCache<String, String> cache = new LocalCache<>(Duration.ofMinutes(1), 100);
+
+        cache.put("expired", "value", Duration.ZERO);
+        cache.put("valid", "value", Duration.ofHours(1));
+
+        assertThat(cache.getIfPresent("expired")).isNull();
+        assertThat(cache.getIfPresent("valid")).isEqualTo("value");
+    }
+
+    @Test
+    void zeroTtlDisablesCaching() {
+        LocalCache<String, String> cache = new LocalCache<>(Duration.ZERO, 100);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        cache.get("key", key -> "value-" + loadCount.incrementAndGet());
+        cache.get("key", key -> "value-" + loadCount.incrementAndGet());
+
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.application.poppool.global.dedupe;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RotatingBloomFilterTest {
+
+    private static final long WINDOW_MILLIS = 1000;
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+
+    @Test
+    void repeatedKeyIsSeen() {
+        RotatingBloomFilter filter = new RotatingBloomFilter(WINDOW_MILLIS, 1000, 0.01, clock::get);
+
+        assertThat(filter.put("user:1")).isTrue();
+        assertThat(filter.put("user:1")).isFalse();
+        assertThat(filter.put("user:2")).isTrue();
+    }
+
+    @Test
+    void keyIsRememberedForOneRotation() {
+        RotatingBloomFilter filter = new RotatingBloomFilter(WINDOW_MILLIS, 1000, 0.01, clock::get);
+        filter.put("user:1");
+
+        clock.addAndGet(WINDOW_MILLIS);
+
+        assertThat(filter.mightContain("user:1")).isTrue();
+        assertThat(filter.put("user:1")).isFalse();
+    }
+
+    @Test
+    void keyExpiresAfterTwoRotations() {
+        RotatingBloomFilter filter = new RotatingBloomFilter(WINDOW_MILLIS, 1000, 0.01, clock::get);
+        filter.put("user:1");
+
+        clock.addAndGet(WINDOW_MILLIS);
+        filter.put("user:2");
+        clock.addAndGet(WINDOW_MILLIS);
+
+        assertThat(filter.mightContain("user:1")).isFalse();
+        assertThat(filter.put("user:1")).isTrue();
+    }
+
+    @Test
+    void keyExpiresWhenIdleForTwoWindows() {
+        RotatingBloomFilter filter = new RotatingBloomFilter(WINDOW_MILLIS, 1000, 0.01, clock::get);
+        filter.put("user:1");
+
+        clock.addAndGet(2 * WINDOW_MILLIS);
+
+        assertThat(filter.put("user:1")).isTrue();
+    }
+
+    @Test
+    void falsePositiveRateStaysWithinTargetWithBothGenerationsFull() {
+        int expectedInsertions = 10_000;
+        double falsePositiveProbability = 0.01;
+        RotatingBloomFilter filter = new RotatingBloomFilter(WINDOW_MILLIS, expectedInsertions, falsePositiveProbability, clock::get);
+
+        /** 이전 세대와 현재 세대를 모두 예상 개수만큼 채움 */
+        for (int i = 0; i < expectedInsertions; i++) {
+            filter.put("previous:" + i);
+        }
+        clock.addAndGet(WINDOW_MILLIS);
+        for (int i = 0; i < expectedInsertions; i++) {
+            filter.put("current:" + i);
+        }
+
+        int probes = 100_000;
+        int falsePositives = 0;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain("unseen:" + i)) {
+                falsePositives++;
+            }
+        }
+
+        assertThat((double) falsePositives / probes).isLessThan(falsePositiveProbability * 1.2);
+    }
+
+}
@@ -0,0 +1,174 @@
+package com.application.poppool.global.outbound;
+
+import com.application.poppool.domain.auth.dto.info.KakaoToken;
+import com.application.poppool.domain.auth.service.kakao.KakaoAuthFeignClient;
+import com.application.poppool.global.exception.ServiceUnavailableException;
+import com.application.poppool.support.StubHttpServer;
+import feign.Client;
+import feign.FeignException;
+import feign.Request;
+import feign.Target;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OutboundGuardTest {
+
+    private static final String CLIENT_NAME = "kakao-auth-api";
+
+    private StubHttpServer server;
+
+    @BeforeEach
+    void setUp() {
+        server = StubHttpServer.start("/v1/user/access_token_info");
+        server.setBody(Map.of("id", 1234, "expires_in", 3600));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void successfulCallIsRecorded() {
+        OutboundGuardRegistry registry = createRegistry(properties(10, Duration.ZERO, 3, Duration.ofMinutes(1)));
+        KakaoAuthFeignClient client = createClient(registry, Duration.ofSeconds(2));
+
+        KakaoToken kakaoToken = client.getKakaoTokenInfo("Bearer token");
+
+        assertThat(kakaoToken.getId()).isEqualTo(1234L);
+        OutboundGuard.Stats stats = registry.getGuard(CLIENT_NAME).snapshotAndReset();
+        assertThat(stats.calls()).isEqualTo(1);
+        assertThat(stats.failures()).isZero();
+        assertThat(stats.circuitState()).isEqualTo(OutboundGuard.CircuitState.CLOSED);
+    }
+
+    @Test
+    void circuitOpensAfterConsecutiveFailures() {
+        server.setStatus(500);
+        OutboundGuardRegistry registry = createRegistry(properties(10, Duration.ZERO, 3, Duration.ofMinutes(1)));
+        KakaoAuthFeignClient client = createClient(registry, Duration.ofSeconds(2));
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> client.getKakaoTokenInfo("Bearer token")).isInstanceOf(FeignException.class);
+        }
+        assertThatThrownBy(() -> client.getKakaoTokenInfo("Bearer token")).isInstanceOf(ServiceUnavailableException.class);
+
+        assertThat(server.getRequestCount()).isEqualTo(3);
+        assertThat(registry.getGuard(CLIENT_NAME).getCircuitState()).isEqualTo(OutboundGuard.CircuitState.OPEN);
+    }
+
+    @Test
+    void clientErrorsDoNotOpenCircuit() {
+        server.setStatus(401);
+        OutboundGuardRegistry registry = createRegistry(properties(10, Duration.ZERO, 3, Duration.ofMinutes(1)));
+        KakaoAuthFeignClient client = createClient(registry, Duration.ofSeconds(2));
+
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> client.getKakaoTokenInfo("Bearer token")).isInstanceOf(FeignException.class);
+        }
+
+        assertThat(server.getRequestCount()).isEqualTo(5);
+        assertThat(registry.getGuard(CLIENT_NAME).getCircuitState()).isEqualTo(OutboundGuard.CircuitState.CLOSED);
+    }
+
+    @Test
+    void successfulProbeClosesCircuit() throws InterruptedException {
+        server.setStatus(500);
+        OutboundGuardRegistry registry = createRegistry(properties(10, Duration.ZERO, 1, Duration.ofMillis(100)));
+        KakaoAuthFeignClient client = createClient(registry, Duration.ofSeconds(2));
+
+        assertThatThrownBy(() -> client.getKakaoTokenInfo("Bearer token")).isInstanceOf(FeignException.class);
+        assertThat(registry.getGuard(CLIENT_NAME).getCircuitState()).isEqualTo(OutboundGuard.CircuitState.OPEN);
+
+        Thread.sleep(150);
+        server.setStatus(200);
+
+        assertThat(client.getKakaoTokenInfo("Bearer token").getId()).isEqualTo(1234L);
+        assertThat(registry.getGuard(CLIENT_NAME).getCircuitState()).isEqualTo(OutboundGuard.CircuitState.CLOSED);
+    }
+
+    @Test
+    void readTimeoutCountsAsFailure() {
+        server.setDelayMillis(500);
+        OutboundGuardRegistry registry = createRegistry(properties(10, Duration.ZERO, 3, Duration.ofMinutes(1)));
+        KakaoAuthFeignClient client = createClient(registry, Duration.ofMillis(100));
+
+        assertThatThrownBy(() -> client.getKakaoTokenInfo("Bearer token")).isInstanceOf(FeignException.class);
+
+        OutboundGuard.Stats stats = registry.getGuard(CLIENT_NAME).snapshotAndReset();
+        assertThat(stats.calls()).isEqualTo(1);
+        assertThat(stats.failures()).isEqualTo(1);
+    }
+
+    @Test
+    void bulkheadRejectsExcessConcurrentCalls() throws Exception {
+        server.holdResponses();
+        OutboundGuardRegistry registry = createRegistry(properties(1, Duration.ZERO, 3, Duration.ofMinutes(1)));
+        KakaoAuthFeignClient client = createClient(registry, Duration.ofSeconds(5));
+
+        CompletableFuture<KakaoToken> first = CompletableFuture.supplyAsync(() -> client.getKakaoTokenInfo("Bearer token"));
+        assertThat(server.awaitRequest(5000)).isTrue();
+
+        assertThatThrownBy(() -> client.getKakaoTokenInfo("Bearer token")).isInstanceOf(ServiceUnavailableException.class);
+
+        server.releaseResponses();
+        assertThat(first.get(5, TimeUnit.SECONDS).getId()).isEqualTo(1234L);
+        assertThat(server.getRequestCount()).isEqualTo(1);
+        assertThat(registry.getGuard(CLIENT_NAME).snapshotAndReset().rejected()).isEqualTo(1);
+    }
+
+    @Test
+    void lateNonProbeFailureDoesNotChangeHalfOpenState() throws InterruptedException {
+        OutboundGuard guard = new OutboundGuard(CLIENT_NAME, properties(10, Duration.ZERO, 1, Duration.ofMillis(50)));
+
+        /** 서킷이 열리기 전에 시작된 느린 호출 */
+        boolean slowCall = guard.acquire();
+        guard.onFailure(guard.acquire(), 1);
+        assertThat(guard.getCircuitState()).isEqualTo(OutboundGuard.CircuitState.OPEN);
+
+        Thread.sleep(80);
+        boolean probe = guard.acquire();
+        assertThat(probe).isTrue();
+
+        /** 시험 호출 중에 느린 호출이 실패해도 시험 호출 결과를 기다림 */
+        guard.onFailure(slowCall, 1);
+        assertThat(guard.getCircuitState()).isEqualTo(OutboundGuard.CircuitState.HALF_OPEN);
+        assertThatThrownBy(guard::acquire).isInstanceOf(ServiceUnavailableException.class);
+
+        guard.onSuccess(probe, 1);
+        assertThat(guard.getCircuitState()).isEqualTo(OutboundGuard.CircuitState.CLOSED);
+    }
+
+    private OutboundGuardRegistry createRegistry(OutboundProperties.GuardProperties guardProperties) {
+        OutboundProperties outboundProperties = new OutboundProperties();
+        outboundProperties.getClients().put(CLIENT_NAME, guardProperties);
+        return new OutboundGuardRegistry(outboundProperties);
+    }
+
+    private KakaoAuthFeignClient createClient(OutboundGuardRegistry registry, Duration readTimeout) {
+        return server.feignBuilder(KakaoToken.class)
+                .client(new GuardedFeignClient(new Client.Default(null, null), registry))
+                .options(new Request.Options(1, TimeUnit.SECONDS, readTimeout.toMillis(), TimeUnit.MILLISECONDS, true))
+                .target(new Target.HardCodedTarget<>(KakaoAuthFeignClient.class, CLIENT_NAME, server.baseUrl()));
+    }
+
+    private static OutboundProperties.GuardProperties properties(int maxConcurrentCalls, Duration maxWait,
+                                                                 int failureThreshold, Duration openDuration) {
+        OutboundProperties.GuardProperties properties = new OutboundProperties.GuardProperties();
+        properties.setMaxConcurrentCalls(maxConcurrentCalls);
+        properties.setMaxWait(maxWait);
+        properties.setFailureThreshold(failureThreshold);
+        properties.setOpenDuration(openDuration);
+        return properties;
+    }
+
+}
@@ -0,0 +1,129 @@
+package com.application.poppool.global.utils;
+
+import com.application.poppool.global.exception.BadRequestException;
+import com.application.poppool.global.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 1, 1, 12, 0, 30);
+
+    private static final Pageable NEWEST = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "createDateTime"));
+    private static final Pageable MOST_LIKED = PageRequest.of(0, 2,
+            Sort.by(Sort.Direction.DESC, "likeCount").and(Sort.by(Sort.Direction.DESC, "createDateTime")));
+
+    @Test
+    void encodedCursorDecodesToSameValues() {
+        String cursor = KeysetCursor.of(new Row(10L, T0, 3, Row.Status.OPEN), MOST_LIKED).encode();
+
+        KeysetCursor decoded = KeysetCursor.decode(cursor, MOST_LIKED);
+
+        assertThat(decoded.getSort()).containsExactly("likeCount,DESC", "createDateTime,DESC");
+        assertThat(decoded.getValues()).containsExactly("3", T0.toString());
+        assertThat(decoded.getId()).isEqualTo(10L);
+    }
+
+    @Test
+    void enumValueIsWrittenByName() {
+        Pageable byStatus = PageRequest.of(0, 2, Sort.by(Sort.Direction.ASC, "status"));
+
+        KeysetCursor cursor = KeysetCursor.of(new Row(1L, T0, 0, Row.Status.CLOSED), byStatus);
+
+        assertThat(cursor.getValues()).containsExactly("CLOSED");
+    }
+
+    @Test
+    void nextPointsAfterLastRowOfFullPage() {
+        List<Row> page = List.of(new Row(2L, T0.plusMinutes(1), 0, Row.Status.OPEN), new Row(1L, T0, 0, Row.Status.OPEN));
+
+        KeysetCursor decoded = KeysetCursor.decode(KeysetCursor.next(page, NEWEST), NEWEST);
+
+        assertThat(decoded.getId()).isEqualTo(1L);
+        assertThat(decoded.getValues()).containsExactly(T0.toString());
+    }
+
+    @Test
+    void nextIsNullOnLastPage() {
+        assertThat(KeysetCursor.next(List.of(new Row(1L, T0, 0, Row.Status.OPEN)), NEWEST)).isNull();
+        assertThat(KeysetCursor.next(List.of(), NEWEST)).isNull();
+    }
+
+    @Test
+    void blankCursorMeansFirstPage() {
+        assertThat(KeysetCursor.decode(null, NEWEST)).isNull();
+        assertThat(KeysetCursor.decode(" ", NEWEST)).isNull();
+    }
+
+    @Test
+    void cursorFromOtherSortIsRejected() {
+        String cursor = KeysetCursor.of(new Row(10L, T0, 3, Row.Status.OPEN), NEWEST).encode();
+
+        assertThatThrownBy(() -> KeysetCursor.decode(cursor, MOST_LIKED))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage(ErrorCode.INVALID_CURSOR.getMessage());
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        String notBase64 = "%%%";
+        String notJson = Base64.getUrlEncoder().encodeToString("cursor".getBytes(StandardCharsets.UTF_8));
+        String missingId = Base64.getUrlEncoder().encodeToString(
+                "{\"sort\":[\"createDateTime,DESC\"],\"values\":[\"2024-01-01T12:00:30\"]}".getBytes(StandardCharsets.UTF_8));
+        String valueCountMismatch = Base64.getUrlEncoder().encodeToString(
+                "{\"sort\":[\"createDateTime,DESC\"],\"values\":[],\"id\":1}".getBytes(StandardCharsets.UTF_8));
+
+        for (String cursor : List.of(notBase64, notJson, missingId, valueCountMismatch)) {
+            assertThatThrownBy(() -> KeysetCursor.decode(cursor, NEWEST))
+                    .isInstanceOf(BadRequestException.class)
+                    .hasMessage(ErrorCode.INVALID_CURSOR.getMessage());
+        }
+    }
+
+    public static class Row {
+
+        public enum Status {
+            OPEN,
+            CLOSED
+        }
+
+        private final Long id;
+        private final LocalDateTime createDateTime;
+        private final long likeCount;
+        private final Status status;
+
+        public Row(Long id, LocalDateTime createDateTime, long likeCount, Status status) {
+            this.id = id;
+            this.createDateTime = createDateTime;
+            this.likeCount = likeCount;
+            this.status = status;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public LocalDateTime getCreateDateTime() {
+            return createDateTime;
+        }
+
+        public long getLikeCount() {
+            return likeCount;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+    }
+
+}
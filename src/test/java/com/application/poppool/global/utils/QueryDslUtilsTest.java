@@ -0,0 +1,107 @@
+package com.application.poppool.global.utils;
+
+import com.application.poppool.global.exception.BadRequestException;
+import com.application.poppool.global.exception.ErrorCode;
+import com.application.poppool.global.utils.KeysetCursorTest.Row;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparablePath;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.PathBuilder;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QueryDslUtilsTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 1, 1, 12, 0, 30);
+
+    private final PathBuilder<Row> row = new PathBuilder<>(Row.class, "row");
+    private final NumberPath<Long> id = row.getNumber("id", Long.class);
+    private final ComparablePath<LocalDateTime> createDateTime = row.getComparable("createDateTime", LocalDateTime.class);
+    private final ComparablePath<Long> likeCount = row.getComparable("likeCount", Long.class);
+    private final ComparablePath<Row.Status> status = row.getComparable("status", Row.Status.class);
+
+    @Test
+    void noCursorMeansNoPredicate() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createDateTime"));
+
+        assertThat(QueryDslUtils.getKeysetPredicate(pageable, row, null)).isNull();
+    }
+
+    @Test
+    void descendingSortSeeksBelowCursor() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createDateTime"));
+        KeysetCursor cursor = KeysetCursor.of(new Row(10L, T0, 0, Row.Status.OPEN), pageable);
+
+        BooleanExpression predicate = QueryDslUtils.getKeysetPredicate(pageable, row, cursor);
+
+        assertThat(predicate).isEqualTo(createDateTime.lt(T0)
+                .or(createDateTime.eq(T0).and(id.lt(10L))));
+    }
+
+    @Test
+    void ascendingSortSeeksAboveCursor() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "status"));
+        KeysetCursor cursor = KeysetCursor.of(new Row(10L, T0, 0, Row.Status.OPEN), pageable);
+
+        BooleanExpression predicate = QueryDslUtils.getKeysetPredicate(pageable, row, cursor);
+
+        assertThat(predicate).isEqualTo(status.gt(Row.Status.OPEN)
+                .or(status.eq(Row.Status.OPEN).and(id.gt(10L))));
+    }
+
+    @Test
+    void multiColumnSortChainsEqualityPrefix() {
+        Pageable pageable = PageRequest.of(0, 10,
+                Sort.by(Sort.Direction.DESC, "likeCount").and(Sort.by(Sort.Direction.DESC, "createDateTime")));
+        KeysetCursor cursor = KeysetCursor.of(new Row(10L, T0, 3, Row.Status.OPEN), pageable);
+
+        BooleanExpression predicate = QueryDslUtils.getKeysetPredicate(pageable, row, cursor);
+
+        assertThat(predicate).isEqualTo(likeCount.lt(3L)
+                .or(likeCount.eq(3L).and(createDateTime.lt(T0)))
+                .or(likeCount.eq(3L).and(createDateTime.eq(T0)).and(id.lt(10L))));
+    }
+
+    @Test
+    void idOrderFollowsLastSortDirection() {
+        Pageable ascending = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "createDateTime"));
+
+        assertThat(QueryDslUtils.getKeysetOrderSpecifiers(ascending, row)).containsExactly(
+                new OrderSpecifier<>(Order.ASC, row.get("createDateTime")),
+                new OrderSpecifier<>(Order.ASC, id));
+    }
+
+    @Test
+    void unconvertibleCursorValueIsRejected() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createDateTime"));
+        KeysetCursor cursor = KeysetCursor.decode(Base64.getUrlEncoder().encodeToString(
+                "{\"sort\":[\"createDateTime,DESC\"],\"values\":[\"yesterday\"],\"id\":1}".getBytes(StandardCharsets.UTF_8)), pageable);
+
+        assertThatThrownBy(() -> QueryDslUtils.getKeysetPredicate(pageable, row, cursor))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage(ErrorCode.INVALID_CURSOR.getMessage());
+    }
+
+    @Test
+    void unknownSortPropertyIsRejected() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "missing"));
+        KeysetCursor cursor = KeysetCursor.decode(Base64.getUrlEncoder().encodeToString(
+                "{\"sort\":[\"missing,DESC\"],\"values\":[\"1\"],\"id\":1}".getBytes(StandardCharsets.UTF_8)), pageable);
+
+        assertThatThrownBy(() -> QueryDslUtils.getKeysetPredicate(pageable, row, cursor))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage(ErrorCode.INVALID_CURSOR.getMessage());
+    }
+
+}
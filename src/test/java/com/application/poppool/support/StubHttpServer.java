@@ -0,0 +1,149 @@
+package com.application.poppool.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import feign.Feign;
+import feign.Retryer;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 외부 API 테스트용 스텁 서버 (루프백 주소, 임의 포트)
+ * 한 경로에 대해 설정한 상태 코드와 본문(요청마다 JSON 직렬화)을 응답하고 요청 수를 센다.
+ * 응답 지연, 응답 보류/해제로 타임아웃과 동시 호출 상황을 만들 수 있다.
+ */
+public class StubHttpServer implements AutoCloseable {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final HttpServer server;
+
+    private volatile int status = 200;
+    private volatile Object body = "";
+    private volatile long delayMillis;
+    private volatile CountDownLatch requestReceived = new CountDownLatch(1);
+    private volatile CountDownLatch heldResponses;
+
+    private StubHttpServer(String path) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext(path, exchange -> {
+            requestCount.incrementAndGet();
+            requestReceived.countDown();
+            try {
+                CountDownLatch held = heldResponses;
+                if (held != null) {
+                    held.await(5, TimeUnit.SECONDS);
+                }
+                if (delayMillis > 0) {
+                    Thread.sleep(delayMillis);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] responseBody = objectMapper.writeValueAsBytes(body);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, responseBody.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(responseBody);
+            }
+        });
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * 스텁 서버 시작
+     *
+     * @param path 응답할 경로
+     * @return
+     */
+    public static StubHttpServer start(String path) {
+        try {
+            return new StubHttpServer(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    /**
+     * 응답 본문 설정 (요청마다 JSON 으로 직렬화)
+     *
+     * @param body
+     */
+    public void setBody(Object body) {
+        this.body = body;
+    }
+
+    public void setDelayMillis(long delayMillis) {
+        this.delayMillis = delayMillis;
+    }
+
+    /**
+     * 이후 요청의 응답을 releaseResponses 호출 전까지 보류 (최대 5초)
+     */
+    public void holdResponses() {
+        heldResponses = new CountDownLatch(1);
+    }
+
+    public void releaseResponses() {
+        CountDownLatch held = heldResponses;
+        if (held != null) {
+            held.countDown();
+        }
+    }
+
+    /**
+     * 첫 요청이 도착할 때까지 대기
+     *
+     * @param timeoutMillis
+     * @return 시간 안에 도착했으면 true
+     */
+    public boolean awaitRequest(long timeoutMillis) throws InterruptedException {
+        return requestReceived.await(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    public String baseUrl() {
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getHostString() + ":" + address.getPort();
+    }
+
+    /**
+     * 스텁 서버 호출용 Feign 빌더 (Spring MVC 애노테이션, JSON 응답, 재시도 없음)
+     *
+     * @param responseType 응답 본문 타입
+     * @return
+     */
+    public Feign.Builder feignBuilder(Class<?> responseType) {
+        return Feign.builder()
+                .contract(new SpringMvcContract())
+                .retryer(Retryer.NEVER_RETRY)
+                .decoder((response, type) -> objectMapper.readValue(response.body().asInputStream(), responseType));
+    }
+
+    @Override
+    public void close() {
+        releaseResponses();
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+}